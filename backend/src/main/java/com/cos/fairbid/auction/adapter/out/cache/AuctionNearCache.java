@@ -0,0 +1,219 @@
+package com.cos.fairbid.auction.adapter.out.cache;
+
+import com.cos.fairbid.auction.domain.Auction;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 경매 상세 조회용 JVM 로컬 캐시 (near-cache)
+ *
+ * GET /api/v1/auctions/{id}마다 hot/meta HGETALL과 mapToAuction 파싱이 반복되므로,
+ * 파싱된 Auction 스냅샷을 인스턴스 메모리(Caffeine)에 최대 max-size개까지 보관한다.
+ * 조회 경로에 전역 락이 없으므로 인기 경매 조회가 몰려도 요청 스레드가 서로 기다리지 않는다.
+ *
+ * 무효화:
+ * - bid.lua(near-cache 사용 시 ARGV[1]로 요청)와 캐시 쓰기(saveToCache, updateStatus)가 {@link AuctionRedisKeys#INVALIDATION_CHANNEL}에 경매 ID를 PUBLISH
+ * - 모든 인스턴스가 채널을 구독하여 해당 항목을 제거 (발행한 인스턴스 자신도 수신)
+ * - Pub/Sub은 재연결 구간의 메시지를 보장하지 않으므로 ttl-millis를 상한으로 두어 오래된 스냅샷을 버린다
+ *
+ * 조회 중 무효화가 도착하면 적재 직전의 값이 캐시에 남을 수 있으므로,
+ * 미스 시 경매별 적재 토큰을 먼저 넣고, 조회 후 토큰이 그대로 있을 때만(그 경매의 무효화가 없었을 때만) 교체한다.
+ * 다른 경매의 무효화는 적재에 영향을 주지 않는다.
+ *
+ * 캐시된 Auction은 여러 요청이 공유하므로 호출 측에서 변경하지 않는다 (상세 조회 전용).
+ */
+@Component
+@Slf4j
+public class AuctionNearCache implements DisposableBean {
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final int maxSize;
+    private final Duration ttl;
+
+    /** 경매 ID → 스냅샷 또는 적재 토큰 (크기 초과 시 Caffeine이 빈도/최근성 기준으로 제거) */
+    private final Cache<Long, Slot> cache;
+    /** 원자적 교체(replace)용 맵 뷰 */
+    private final ConcurrentMap<Long, Slot> slots;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    public AuctionNearCache(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${auction.near-cache.enabled:false}") boolean enabled,
+            @Value("${auction.near-cache.max-size:10000}") int maxSize,
+            @Value("${auction.near-cache.ttl-millis:5000}") long ttlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.slots = cache.asMap();
+
+        this.hitCounter = Counter.builder("fairbid_auction_near_cache_total")
+                .tag("result", "hit")
+                .description("경매 상세 near-cache 히트 건수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("fairbid_auction_near_cache_total")
+                .tag("result", "miss")
+                .description("경매 상세 near-cache 미스 건수")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("fairbid_auction_near_cache_invalidation_total")
+                .description("경매 상세 near-cache 무효화 메시지 수신 건수")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_auction_near_cache_size", cache, Cache::estimatedSize)
+                .description("경매 상세 near-cache 보관 항목 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisTemplate.getConnectionFactory());
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(message),
+                new ChannelTopic(AuctionRedisKeys.INVALIDATION_CHANNEL));
+        listenerContainer.setErrorHandler(e -> {
+            // 구독이 끊긴 동안 놓친 무효화는 TTL로 보정되므로 전체 비움으로 안전하게 처리
+            log.warn("near-cache 무효화 구독 에러, 전체 비움: {}", e.getMessage());
+            invalidateAll();
+        });
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("경매 near-cache 활성화: maxSize={}, ttlMillis={}", maxSize, ttl.toMillis());
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * near-cache에서 조회하고, 없으면 loader로 적재한다
+     *
+     * @param auctionId 경매 ID
+     * @param loader    Redis 조회 함수 (near-cache 비활성화 시 바로 호출)
+     * @return 경매 스냅샷 (Redis에도 없으면 빈 Optional)
+     */
+    public Optional<Auction> get(Long auctionId, Supplier<Optional<Auction>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        if (cache.getIfPresent(auctionId) instanceof Loaded loaded) {
+            hitCounter.increment();
+            return Optional.of(loaded.auction());
+        }
+        missCounter.increment();
+
+        // 조회 전에 이 경매의 적재 토큰을 넣어 둔다 (무효화되면 토큰이 제거됨)
+        Loading token = new Loading();
+        slots.put(auctionId, token);
+
+        Optional<Auction> result = loader.get();
+        if (result.isPresent()) {
+            // 조회 도중 이 경매가 무효화되었거나 다른 요청이 적재했다면 교체하지 않음 (무효화 이전 값일 수 있음)
+            slots.replace(auctionId, token, new Loaded(result.get()));
+        } else {
+            slots.remove(auctionId, token);
+        }
+        return result;
+    }
+
+    /**
+     * 모든 인스턴스의 near-cache에서 경매를 제거하도록 무효화 메시지를 발행한다
+     * Redis 쓰기 직후 호출한다. 로컬 항목은 메시지 수신을 기다리지 않고 즉시 제거한다.
+     *
+     * @param auctionId 경매 ID
+     */
+    public void publishInvalidation(Long auctionId) {
+        if (!enabled) {
+            return;
+        }
+        invalidate(auctionId);
+        try {
+            redisTemplate.convertAndSend(AuctionRedisKeys.INVALIDATION_CHANNEL, String.valueOf(auctionId));
+        } catch (Exception e) {
+            // 다른 인스턴스는 TTL 만료 후 갱신됨
+            log.warn("near-cache 무효화 발행 실패: auctionId={}, error={}", auctionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 항목을 제거한다
+     */
+    public void invalidate(Long auctionId) {
+        if (!enabled) {
+            return;
+        }
+        cache.invalidate(auctionId);
+    }
+
+    /**
+     * 로컬 항목을 모두 제거한다
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private void onInvalidation(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        invalidationCounter.increment();
+        try {
+            invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("near-cache 무효화 메시지에 잘못된 경매 ID: {}", body);
+        }
+    }
+
+    /**
+     * 캐시 값: 적재된 스냅샷 또는 적재 중 토큰
+     */
+    private sealed interface Slot permits Loaded, Loading {
+    }
+
+    /**
+     * 적재된 경매 스냅샷 (TTL은 Caffeine expireAfterWrite로 적용)
+     */
+    private record Loaded(Auction auction) implements Slot {
+    }
+
+    /**
+     * 적재 중 토큰 (동일성으로만 비교하므로 equals를 재정의하지 않는다)
+     */
+    private static final class Loading implements Slot {
+    }
+}
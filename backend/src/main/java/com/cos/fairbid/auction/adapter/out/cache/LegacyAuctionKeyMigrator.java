@@ -0,0 +1,152 @@
+package com.cos.fairbid.auction.adapter.out.cache;
+
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 버킷 해시 태그 도입 이전 형식의 경매 키를 새 키 스킴으로 옮긴다
+ *
+ * 이전 형식:
+ * - auction:{id}, auction:{id}:meta (해시 태그 없음)
+ * - auction:closing (단일 종료 대기 큐)
+ *
+ * 이전 큐에 남은 경매는 입찰 연장이 새 버킷 큐에만 반영되어 예전 종료 시간에 조기 종료될 수 있고,
+ * 이전 해시는 캐시 미스로 처리되어 Redis에만 있던 1·2순위 입찰자 정보가 사라진다.
+ * 애플리케이션 시작 시 1회 이동하며, 이전 형식은 단일 노드(Sentinel) 배포에만 존재하므로 RENAME을 사용한다.
+ *
+ * 종료 대기 큐는 ZPOPMIN으로 꺼낸 항목만 옮기므로, 롤링 배포 중 이전 버전 인스턴스가 이전 큐에 추가한 항목은
+ * 지워지지 않고 남는다. 남은 항목은 주기적으로 다시 옮긴다 (이전 큐가 비어 있으면 ZPOPMIN 1회).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyAuctionKeyMigrator {
+
+    /** 이전 형식 경매 키: auction:{id} 또는 auction:{id}:meta */
+    private static final Pattern LEGACY_AUCTION_KEY = Pattern.compile("^auction:(\\d+)(:meta)?$");
+    /** 종료 대기 큐 1회 이동 건수 (ZPOPMIN count) */
+    private static final int CLOSING_QUEUE_MOVE_BATCH = 100;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        try {
+            int movedQueueEntries = migrateClosingQueue();
+            int movedKeys = migrateAuctionKeys();
+            if (movedQueueEntries > 0 || movedKeys > 0) {
+                log.info("이전 형식 경매 키 이동 완료: closingQueue={}, keys={}", movedQueueEntries, movedKeys);
+            }
+        } catch (Exception e) {
+            // Redis 미가용 시에도 애플리케이션은 기동 (캐시 미스는 RDB에서 재적재됨)
+            log.warn("이전 형식 경매 키 이동 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 롤링 배포 중 이전 버전 인스턴스가 이전 큐에 추가한 항목을 버킷별 큐로 옮긴다
+     */
+    @Scheduled(fixedDelayString = "${auction.closing.legacy-migrate-interval-millis:10000}")
+    public void migrateLateClosingQueueEntries() {
+        try {
+            int moved = migrateClosingQueue();
+            if (moved > 0) {
+                log.info("이전 종료 대기 큐 항목 이동: {}건", moved);
+            }
+        } catch (Exception e) {
+            log.warn("이전 종료 대기 큐 항목 이동 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 단일 종료 대기 큐의 멤버를 버킷별 큐로 옮긴다 (score 유지)
+     * ZPOPMIN으로 꺼낸 항목만 옮기므로, 조회 후 DEL 사이에 추가된 항목이 함께 지워지지 않는다.
+     */
+    private int migrateClosingQueue() {
+        int moved = 0;
+        while (true) {
+            Set<ZSetOperations.TypedTuple<String>> entries = redisTemplate.opsForZSet()
+                    .popMin(AuctionRedisKeys.LEGACY_CLOSING_QUEUE_KEY, CLOSING_QUEUE_MOVE_BATCH);
+            if (entries == null || entries.isEmpty()) {
+                return moved;
+            }
+            moved += moveToBucketQueues(entries);
+        }
+    }
+
+    /**
+     * 꺼낸 항목을 버킷별 큐에 추가한다
+     * 추가 도중 실패하면 아직 옮기지 못한 항목을 이전 큐에 되돌려 다음 이동에서 다시 처리한다.
+     */
+    private int moveToBucketQueues(Set<ZSetOperations.TypedTuple<String>> entries) {
+        int moved = 0;
+        Set<ZSetOperations.TypedTuple<String>> remaining = new LinkedHashSet<>(entries);
+        try {
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                String member = entry.getValue();
+                if (member != null && entry.getScore() != null) {
+                    try {
+                        Long auctionId = Long.parseLong(member);
+                        redisTemplate.opsForZSet().add(AuctionRedisKeys.closingQueueKey(auctionId), member, entry.getScore());
+                        moved++;
+                    } catch (NumberFormatException e) {
+                        log.warn("종료 대기 큐에 잘못된 경매 ID 발견: member={}, key={}",
+                                member, AuctionRedisKeys.LEGACY_CLOSING_QUEUE_KEY);
+                    }
+                }
+                remaining.remove(entry);
+            }
+        } catch (RuntimeException e) {
+            if (!remaining.isEmpty()) {
+                redisTemplate.opsForZSet().add(AuctionRedisKeys.LEGACY_CLOSING_QUEUE_KEY, remaining);
+            }
+            throw e;
+        }
+        return moved;
+    }
+
+    /**
+     * 이전 형식 경매 해시를 새 키로 RENAME 한다 (새 키가 이미 있으면 새 키를 우선하고 이전 키는 삭제)
+     */
+    private int migrateAuctionKeys() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(AuctionRedisKeys.AUCTION_KEY_PREFIX + "*")
+                .count(100)
+                .build();
+
+        int moved = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Matcher matcher = LEGACY_AUCTION_KEY.matcher(key);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                Long auctionId = Long.parseLong(matcher.group(1));
+                String newKey = matcher.group(2) == null
+                        ? AuctionRedisKeys.auctionKey(auctionId)
+                        : AuctionRedisKeys.metaKey(auctionId);
+
+                if (Boolean.TRUE.equals(redisTemplate.renameIfAbsent(key, newKey))) {
+                    moved++;
+                } else {
+                    redisTemplate.delete(key);
+                }
+            }
+        }
+        return moved;
+    }
+}
@@ -5,58 +5,119 @@ import com.cos.fairbid.auction.domain.Auction;
 import com.cos.fairbid.auction.domain.AuctionStatus;
 import com.cos.fairbid.auction.domain.Category;
 import com.cos.fairbid.auction.domain.TopBidderInfo;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Redis 기반 경매 캐시 어댑터
  * 입찰 처리를 위한 경매 정보 캐싱
+ *
+ * 키 구조 (hot/cold 분리, 버킷 해시 태그는 {@link AuctionRedisKeys} 참고):
+ * - auction:{bucket}:{id}      : 입찰 판단에 필요한 숫자 필드 (현재가, 입찰단위, 상태, 종료시간, 연장횟수, 1·2순위 입찰자 등)
+ * - auction:{bucket}:{id}:meta : 표시용 메타데이터 (제목, 설명, 카테고리, 이미지 URL 등)
+ * - auction:closing:{bucket}   : 버킷별 종료 대기 큐
+ * - auction:closing-inflight:{bucket} : 버킷별 종료 처리 중 경매 (closing-claim.lua로 선점, 리스 만료 시 재선점)
+ *
+ * bid.lua는 hot 해시만 읽고 쓰므로, 긴 설명(TEXT)이나 이미지 URL 목록이
+ * 입찰마다 Redis 싱글 스레드 안에서 복사되지 않는다.
+ *
+ * 상세 조회(findById)는 {@link AuctionNearCache}를 거치며, 캐시를 쓰는 메서드는 쓰기 후 무효화 메시지를 발행한다.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RedisAuctionCacheAdapter implements AuctionCachePort {
 
-    private static final String AUCTION_KEY_PREFIX = "auction:";
-    /** 종료 대기 큐 키 (Sorted Set: score=종료시간ms, member=경매ID) */
-    public static final String CLOSING_QUEUE_KEY = "auction:closing";
-
     private final StringRedisTemplate redisTemplate;
+    private final AuctionNearCache nearCache;
+    /** 종료 대상 선점 시작 버킷 (호출마다 순환) */
+    private final AtomicInteger claimCursor = new AtomicInteger();
+
+    @SuppressWarnings("rawtypes")
+    private DefaultRedisScript<List> claimScript;
+
+    @PostConstruct
+    public void init() {
+        claimScript = new DefaultRedisScript<>();
+        claimScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/closing-claim.lua")));
+        claimScript.setResultType(List.class);
+    }
 
     @Override
     public void saveToCache(Auction auction) {
-        String key = AUCTION_KEY_PREFIX + auction.getId();
-        Map<String, String> data = auctionToMap(auction);
-
-        redisTemplate.opsForHash().putAll(key, data);
+        String hotKey = AuctionRedisKeys.auctionKey(auction.getId());
+        String metaKey = AuctionRedisKeys.metaKey(auction.getId());
+        Map<String, String> hotData = auctionToHotMap(auction);
+        Map<String, String> metaData = auctionToMetaMap(auction);
+
+        // hot/meta 두 해시를 한 번의 왕복으로 저장
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hMSet(hotKey, hotData);
+            stringConnection.hMSet(metaKey, metaData);
+            return null;
+        });
+        nearCache.publishInvalidation(auction.getId());
         log.debug("경매 캐시 저장: auctionId={}", auction.getId());
     }
 
     @Override
     public Optional<Auction> findById(Long auctionId) {
-        String key = AUCTION_KEY_PREFIX + auctionId;
-        Map<Object, Object> data = redisTemplate.opsForHash().entries(key);
+        return nearCache.get(auctionId, () -> loadById(auctionId));
+    }
 
-        if (data.isEmpty()) {
+    /**
+     * Redis에서 hot/meta 해시를 조회하여 Auction으로 변환한다 (near-cache 미스 시)
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<Auction> loadById(Long auctionId) {
+        String hotKey = AuctionRedisKeys.auctionKey(auctionId);
+        String metaKey = AuctionRedisKeys.metaKey(auctionId);
+
+        // hot/meta 두 해시를 한 번의 왕복으로 조회
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hGetAll(hotKey);
+            stringConnection.hGetAll(metaKey);
+            return null;
+        });
+
+        Map<Object, Object> hotData = (Map<Object, Object>) results.get(0);
+        if (hotData == null || hotData.isEmpty()) {
             log.debug("경매 캐시 미스: auctionId={}", auctionId);
             return Optional.empty();
         }
 
+        // meta 키가 없으면 분리 이전 형식(단일 해시)이므로 hot 해시에서 메타 필드를 읽는다
+        Map<Object, Object> data = new HashMap<>(hotData);
+        Map<Object, Object> metaData = (Map<Object, Object>) results.get(1);
+        if (metaData != null) {
+            data.putAll(metaData);
+        }
+
         log.debug("경매 캐시 히트: auctionId={}", auctionId);
         return Optional.of(mapToAuction(auctionId, data));
     }
 
     @Override
     public boolean existsInCache(Long auctionId) {
-        String key = AUCTION_KEY_PREFIX + auctionId;
+        String key = AuctionRedisKeys.auctionKey(auctionId);
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 
@@ -68,7 +129,7 @@ public class RedisAuctionCacheAdapter implements AuctionCachePort {
 
         Map<Long, Long> result = new HashMap<>();
         for (Long auctionId : auctionIds) {
-            String key = AUCTION_KEY_PREFIX + auctionId;
+            String key = AuctionRedisKeys.auctionKey(auctionId);
             Object currentPrice = redisTemplate.opsForHash().get(key, "currentPrice");
             if (currentPrice != null) {
                 try {
@@ -87,37 +148,138 @@ public class RedisAuctionCacheAdapter implements AuctionCachePort {
 
     @Override
     public void addToClosingQueue(Long auctionId, long endTimeMs) {
-        redisTemplate.opsForZSet().add(CLOSING_QUEUE_KEY, String.valueOf(auctionId), endTimeMs);
+        redisTemplate.opsForZSet().add(
+                AuctionRedisKeys.closingQueueKey(auctionId), String.valueOf(auctionId), endTimeMs);
+        redisTemplate.convertAndSend(AuctionRedisKeys.CLOSING_SCHEDULE_CHANNEL, auctionId + ":" + endTimeMs);
         log.debug("종료 대기 큐 추가: auctionId={}, endTimeMs={}", auctionId, endTimeMs);
     }
 
     @Override
     public void removeFromClosingQueue(Long auctionId) {
-        redisTemplate.opsForZSet().remove(CLOSING_QUEUE_KEY, String.valueOf(auctionId));
+        redisTemplate.opsForZSet().remove(AuctionRedisKeys.closingQueueKey(auctionId), String.valueOf(auctionId));
         log.debug("종료 대기 큐 제거: auctionId={}", auctionId);
     }
 
     @Override
-    public List<Long> findAuctionIdsToClose(long currentTimeMs) {
-        // score가 0 ~ currentTimeMs인 멤버 조회 (종료 시간이 지난 경매)
-        Set<String> members = redisTemplate.opsForZSet()
-                .rangeByScore(CLOSING_QUEUE_KEY, 0, currentTimeMs);
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> findClosingDeadlines(long fromMs, long toMs) {
+        // 전체 버킷 큐를 한 번의 왕복으로 조회
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int bucket = 0; bucket < AuctionRedisKeys.CLOSING_QUEUE_BUCKETS; bucket++) {
+                stringConnection.zRangeByScoreWithScores(AuctionRedisKeys.closingQueueKeyOfBucket(bucket), fromMs, toMs);
+            }
+            return null;
+        });
+
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (Object result : results) {
+            Set<TypedTuple<String>> tuples = (Set<TypedTuple<String>>) result;
+            if (tuples == null) {
+                continue;
+            }
+            for (TypedTuple<String> tuple : tuples) {
+                try {
+                    deadlines.put(Long.parseLong(tuple.getValue()), tuple.getScore().longValue());
+                } catch (NumberFormatException e) {
+                    log.warn("종료 대기 큐에 잘못된 경매 ID 발견: member={}", tuple.getValue());
+                }
+            }
+        }
+        return deadlines;
+    }
+
+    @Override
+    public ClosingQueueStats getClosingQueueStats(long currentTimeMs) {
+        // 버킷별 ZCARD(대기) + ZCOUNT(지연) + ZCARD(처리 중)를 한 번의 왕복으로 조회
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int bucket = 0; bucket < AuctionRedisKeys.CLOSING_QUEUE_BUCKETS; bucket++) {
+                String queueKey = AuctionRedisKeys.closingQueueKeyOfBucket(bucket);
+                stringConnection.zCard(queueKey);
+                stringConnection.zCount(queueKey, Double.NEGATIVE_INFINITY, currentTimeMs - 1);
+                stringConnection.zCard(AuctionRedisKeys.closingInFlightKeyOfBucket(bucket));
+            }
+            return null;
+        });
+
+        long queued = 0;
+        long overdue = 0;
+        long inFlight = 0;
+        for (int i = 0; i < results.size(); i += 3) {
+            queued += toLong(results.get(i));
+            overdue += toLong(results.get(i + 1));
+            inFlight += toLong(results.get(i + 2));
+        }
+        return new ClosingQueueStats(queued, overdue, inFlight);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> claimAuctionsToClose(long currentTimeMs, long leaseMillis, int limit) {
+        // 버킷마다 슬롯이 다르므로 버킷별로 선점하고, 시작 버킷을 돌려 특정 버킷이 계속 밀리지 않게 한다
+        int startBucket = Math.floorMod(claimCursor.getAndIncrement(), AuctionRedisKeys.CLOSING_QUEUE_BUCKETS);
+        String leaseUntilMs = String.valueOf(currentTimeMs + leaseMillis);
+
+        List<Long> auctionIds = new ArrayList<>();
+        for (int i = 0; i < AuctionRedisKeys.CLOSING_QUEUE_BUCKETS && auctionIds.size() < limit; i++) {
+            int bucket = (startBucket + i) % AuctionRedisKeys.CLOSING_QUEUE_BUCKETS;
+            List<Object> claimed = redisTemplate.execute(claimScript,
+                    List.of(AuctionRedisKeys.closingQueueKeyOfBucket(bucket),
+                            AuctionRedisKeys.closingInFlightKeyOfBucket(bucket)),
+                    String.valueOf(currentTimeMs), leaseUntilMs, String.valueOf(limit - auctionIds.size()));
+            if (claimed == null) {
+                continue;
+            }
+            for (Object member : claimed) {
+                try {
+                    auctionIds.add(Long.parseLong(member.toString()));
+                } catch (NumberFormatException e) {
+                    log.warn("종료 대기 큐에 잘못된 경매 ID 발견: member={}, bucket={}", member, bucket);
+                }
+            }
+        }
+        return auctionIds;
+    }
 
-        if (members == null || members.isEmpty()) {
-            return List.of();
+    @Override
+    public void completeClosingClaims(Collection<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return;
         }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long auctionId : auctionIds) {
+                stringConnection.zRem(AuctionRedisKeys.closingInFlightKey(auctionId), String.valueOf(auctionId));
+            }
+            return null;
+        });
+        log.debug("종료 처리 중 경매 제거: {}건", auctionIds.size());
+    }
 
-        return members.stream()
-                .map(member -> {
-                    try {
-                        return Long.parseLong(member);
-                    } catch (NumberFormatException e) {
-                        log.warn("종료 대기 큐에 잘못된 경매 ID 발견: member={}, key={}", member, CLOSING_QUEUE_KEY);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    @Override
+    public void syncClosedAuctions(Collection<Auction> auctions) {
+        if (auctions.isEmpty()) {
+            return;
+        }
+        // 경매별 hot/meta 저장 + 종료 대기 큐 제거 + 무효화 알림을 한 번의 왕복으로 처리
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Auction auction : auctions) {
+                Long auctionId = auction.getId();
+                stringConnection.hMSet(AuctionRedisKeys.auctionKey(auctionId), auctionToHotMap(auction));
+                stringConnection.hMSet(AuctionRedisKeys.metaKey(auctionId), auctionToMetaMap(auction));
+                stringConnection.zRem(AuctionRedisKeys.closingQueueKey(auctionId), String.valueOf(auctionId));
+                stringConnection.publish(AuctionRedisKeys.INVALIDATION_CHANNEL, String.valueOf(auctionId));
+            }
+            return null;
+        });
+        auctions.forEach(auction -> nearCache.invalidate(auction.getId()));
+        log.debug("종료 경매 Redis 일괄 동기화: {}건", auctions.size());
     }
 
     // ============================
@@ -126,11 +288,12 @@ public class RedisAuctionCacheAdapter implements AuctionCachePort {
 
     @Override
     public void updateStatus(Long auctionId, AuctionStatus status) {
-        String key = AUCTION_KEY_PREFIX + auctionId;
+        String key = AuctionRedisKeys.auctionKey(auctionId);
 
         // 캐시가 존재할 때만 상태 업데이트
         if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
             redisTemplate.opsForHash().put(key, "status", status.name());
+            nearCache.publishInvalidation(auctionId);
             log.debug("경매 캐시 상태 업데이트: auctionId={}, status={}", auctionId, status);
         }
     }
@@ -141,7 +304,7 @@ public class RedisAuctionCacheAdapter implements AuctionCachePort {
 
     @Override
     public Optional<TopBidderInfo> getTopBidderInfo(Long auctionId) {
-        String key = AUCTION_KEY_PREFIX + auctionId;
+        String key = AuctionRedisKeys.auctionKey(auctionId);
 
         // topBidderId, topBidAmount 조회
         List<Object> values = redisTemplate.opsForHash().multiGet(key, List.of("topBidderId", "topBidAmount"));
@@ -166,9 +329,46 @@ public class RedisAuctionCacheAdapter implements AuctionCachePort {
         return Optional.of(info);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, RankedBidders> getRankedBidders(Collection<Long> auctionIds) {
+        List<Long> ids = new ArrayList<>(auctionIds);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long auctionId : ids) {
+                stringConnection.hMGet(AuctionRedisKeys.auctionKey(auctionId),
+                        "topBidderId", "topBidAmount", "secondBidderId", "secondBidAmount", "scheduledEndTimeMs");
+            }
+            return null;
+        });
+
+        Map<Long, RankedBidders> bidders = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            List<Object> values = (List<Object>) results.get(i);
+            if (values == null || values.size() < 5) {
+                bidders.put(ids.get(i), RankedBidders.empty());
+                continue;
+            }
+            bidders.put(ids.get(i), new RankedBidders(
+                    toBidderInfo(values.get(0), values.get(1)),
+                    toBidderInfo(values.get(2), values.get(3)),
+                    parseLongOrNull(values.get(4))));
+        }
+        return bidders;
+    }
+
+    private Optional<TopBidderInfo> toBidderInfo(Object bidderIdValue, Object bidAmountValue) {
+        Long bidderId = parseLongOrNull(bidderIdValue);
+        Long bidAmount = parseLongOrNull(bidAmountValue);
+        if (bidderId == null || bidAmount == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new TopBidderInfo(bidderId, bidAmount));
+    }
+
     @Override
     public Optional<TopBidderInfo> getSecondBidderInfo(Long auctionId) {
-        String key = AUCTION_KEY_PREFIX + auctionId;
+        String key = AuctionRedisKeys.auctionKey(auctionId);
 
         // secondBidderId, secondBidAmount 조회
         List<Object> values = redisTemplate.opsForHash().multiGet(key, List.of("secondBidderId", "secondBidAmount"));
@@ -194,9 +394,11 @@ public class RedisAuctionCacheAdapter implements AuctionCachePort {
     }
 
     /**
-     * Auction 도메인을 Redis Hash Map으로 변환
+     * Auction 도메인을 hot 해시 Map으로 변환
+     * bid.lua가 읽고 쓰는 숫자/상태 필드만 포함한다
+     * (이하 변환 메서드는 benchmark 모듈(JMH)에서 같은 패키지로 호출하므로 package-private)
      */
-    private Map<String, String> auctionToMap(Auction auction) {
+    Map<String, String> auctionToHotMap(Auction auction) {
         // scheduledEndTime을 밀리초로 변환 (Lua 스크립트에서 연장 판단용)
         long scheduledEndTimeMs = auction.getScheduledEndTime()
                 .atZone(java.time.ZoneId.systemDefault())
@@ -216,23 +418,13 @@ public class RedisAuctionCacheAdapter implements AuctionCachePort {
 
         return Map.ofEntries(
                 Map.entry("sellerId", String.valueOf(auction.getSellerId())),
-                Map.entry("title", auction.getTitle()),
-                Map.entry("description", auction.getDescription() != null ? auction.getDescription() : ""),
-                Map.entry("category", auction.getCategory().name()),
-                Map.entry("startPrice", String.valueOf(auction.getStartPrice())),
                 Map.entry("currentPrice", String.valueOf(auction.getCurrentPrice())),
                 Map.entry("instantBuyPrice", auction.getInstantBuyPrice() != null ? String.valueOf(auction.getInstantBuyPrice()) : "0"),
                 Map.entry("bidIncrement", String.valueOf(auction.getBidIncrement())),
-                Map.entry("scheduledEndTime", auction.getScheduledEndTime().toString()),
                 Map.entry("scheduledEndTimeMs", String.valueOf(scheduledEndTimeMs)),
-                Map.entry("actualEndTime", auction.getActualEndTime() != null ? auction.getActualEndTime().toString() : ""),
                 Map.entry("extensionCount", String.valueOf(auction.getExtensionCount())),
                 Map.entry("totalBidCount", String.valueOf(auction.getTotalBidCount())),
                 Map.entry("status", auction.getStatus().name()),
-                Map.entry("winnerId", auction.getWinnerId() != null ? String.valueOf(auction.getWinnerId()) : ""),
-                Map.entry("imageUrls", auction.getImageUrls() != null ? String.join(",", auction.getImageUrls()) : ""),
-                Map.entry("createdAt", auction.getCreatedAt() != null ? auction.getCreatedAt().toString() : ""),
-                Map.entry("updatedAt", auction.getUpdatedAt() != null ? auction.getUpdatedAt().toString() : ""),
                 // 즉시 구매 관련 필드
                 Map.entry("instantBuyerId", auction.getInstantBuyerId() != null ? String.valueOf(auction.getInstantBuyerId()) : ""),
                 Map.entry("instantBuyActivatedTimeMs", instantBuyActivatedTimeMs),
@@ -240,14 +432,35 @@ public class RedisAuctionCacheAdapter implements AuctionCachePort {
                 Map.entry("topBidderId", auction.getTopBidderId() != null ? String.valueOf(auction.getTopBidderId()) : ""),
                 Map.entry("topBidAmount", auction.getTopBidAmount() != null ? String.valueOf(auction.getTopBidAmount()) : ""),
                 Map.entry("secondBidderId", auction.getSecondBidderId() != null ? String.valueOf(auction.getSecondBidderId()) : ""),
-                Map.entry("secondBidAmount", auction.getSecondBidAmount() != null ? String.valueOf(auction.getSecondBidAmount()) : "")
+                Map.entry("secondBidAmount", auction.getSecondBidAmount() != null ? String.valueOf(auction.getSecondBidAmount()) : ""),
+                // 대리 입찰 최대 금액 (RDB에서 재적재할 때 복원, 빈 값이면 bid.lua가 대리 입찰 없음으로 판단)
+                Map.entry("proxyBidderId", auction.getProxyBidderId() != null ? String.valueOf(auction.getProxyBidderId()) : ""),
+                Map.entry("proxyMaxAmount", auction.getProxyMaxAmount() != null ? String.valueOf(auction.getProxyMaxAmount()) : "")
+        );
+    }
+
+    /**
+     * Auction 도메인을 meta 해시 Map으로 변환
+     * 입찰 처리와 무관한 표시용 필드만 포함한다
+     */
+    Map<String, String> auctionToMetaMap(Auction auction) {
+        return Map.ofEntries(
+                Map.entry("title", auction.getTitle()),
+                Map.entry("description", auction.getDescription() != null ? auction.getDescription() : ""),
+                Map.entry("category", auction.getCategory().name()),
+                Map.entry("startPrice", String.valueOf(auction.getStartPrice())),
+                Map.entry("actualEndTime", auction.getActualEndTime() != null ? auction.getActualEndTime().toString() : ""),
+                Map.entry("winnerId", auction.getWinnerId() != null ? String.valueOf(auction.getWinnerId()) : ""),
+                Map.entry("imageUrls", auction.getImageUrls() != null ? String.join(",", auction.getImageUrls()) : ""),
+                Map.entry("createdAt", auction.getCreatedAt() != null ? auction.getCreatedAt().toString() : ""),
+                Map.entry("updatedAt", auction.getUpdatedAt() != null ? auction.getUpdatedAt().toString() : "")
         );
     }
 
     /**
-     * Redis Hash Map을 Auction 도메인으로 변환
+     * Redis Hash Map(hot + meta 병합)을 Auction 도메인으로 변환
      */
-    private Auction mapToAuction(Long auctionId, Map<Object, Object> data) {
+    Auction mapToAuction(Long auctionId, Map<Object, Object> data) {
         // 필수 필드 파싱
         Long sellerId = parseLong(data.get("sellerId"));
         String title = parseString(data.get("title"));
@@ -283,6 +496,8 @@ public class RedisAuctionCacheAdapter implements AuctionCachePort {
         Long topBidAmount = parseLongOrNull(data.get("topBidAmount"));
         Long secondBidderId = parseLongOrNull(data.get("secondBidderId"));
         Long secondBidAmount = parseLongOrNull(data.get("secondBidAmount"));
+        Long proxyBidderId = parseLongOrNull(data.get("proxyBidderId"));
+        Long proxyMaxAmount = parseLongOrNull(data.get("proxyMaxAmount"));
 
         // Auction 도메인 빌더를 통해 객체 생성
         return Auction.builder()
@@ -310,6 +525,8 @@ public class RedisAuctionCacheAdapter implements AuctionCachePort {
                 .topBidAmount(topBidAmount)
                 .secondBidderId(secondBidderId)
                 .secondBidAmount(secondBidAmount)
+                .proxyBidderId(proxyBidderId)
+                .proxyMaxAmount(proxyMaxAmount)
                 .build();
     }
 
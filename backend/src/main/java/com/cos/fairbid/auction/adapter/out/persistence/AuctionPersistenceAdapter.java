@@ -11,9 +11,13 @@ import com.cos.fairbid.auction.domain.Category;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,8 +29,30 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class AuctionPersistenceAdapter implements AuctionRepositoryPort {
 
+    /**
+     * 실시간 상태 반영 (write-behind 플러시)
+     * total_bid_count가 더 큰 상태가 이미 반영되었거나 종료된 경매는 갱신하지 않는다.
+     * 연장 횟수/종료 예정 시간/1순위 입찰자가 없으면 기존 값을 유지하고,
+     * 대리 입찰은 그대로 덮어쓴다 (null이면 대리 입찰 해제).
+     */
+    private static final String UPDATE_LIVE_STATE_SQL =
+            "UPDATE auction SET current_price = ?, total_bid_count = ?, bid_increment = ?, "
+                    + "extension_count = COALESCE(?, extension_count), "
+                    + "scheduled_end_time = COALESCE(?, scheduled_end_time), "
+                    + "top_bidder_id = COALESCE(?, top_bidder_id), proxy_bidder_id = ?, proxy_max_amount = ?, updated_at = ? "
+                    + "WHERE id = ? AND total_bid_count <= ? AND status IN ('BIDDING', 'INSTANT_BUY_PENDING')";
+
+    /**
+     * 종료 상태 반영 (일괄 종료)
+     * 진행 중인 경매만 갱신하여 이미 종료된 경매를 덮어쓰지 않는다.
+     */
+    private static final String CLOSE_SQL =
+            "UPDATE auction SET status = ?, winner_id = ?, current_price = ?, actual_end_time = ?, updated_at = ? "
+                    + "WHERE id = ? AND status IN ('BIDDING', 'INSTANT_BUY_PENDING')";
+
     private final JpaAuctionRepository jpaAuctionRepository;
     private final AuctionMapper auctionMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Auction save(Auction auction) {
@@ -41,6 +67,40 @@ public class AuctionPersistenceAdapter implements AuctionRepositoryPort {
                 .map(auctionMapper::toDomain);
     }
 
+    @Override
+    public List<Auction> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaAuctionRepository.findAllWithImagesByIdIn(ids)
+                .stream()
+                .map(auctionMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void closeAll(Collection<Auction> auctions) {
+        if (auctions.isEmpty()) {
+            return;
+        }
+        List<Auction> batch = new ArrayList<>(auctions);
+        int[][] counts = jdbcTemplate.batchUpdate(CLOSE_SQL, batch, batch.size(), (ps, auction) -> {
+            ps.setString(1, auction.getStatus().name());
+            ps.setObject(2, auction.getWinnerId());
+            ps.setLong(3, auction.getCurrentPrice());
+            ps.setTimestamp(4, Timestamp.valueOf(auction.getActualEndTime()));
+            ps.setTimestamp(5, Timestamp.valueOf(auction.getUpdatedAt()));
+            ps.setLong(6, auction.getId());
+        });
+
+        // rewriteBatchedStatements 사용 시 행 수를 알 수 없음(SUCCESS_NO_INFO)이므로 0인 경우만 판단
+        for (int i = 0; i < counts[0].length; i++) {
+            if (counts[0][i] == 0) {
+                throw new IllegalStateException("이미 종료된 경매가 일괄 종료 대상에 포함되었습니다. auctionId: " + batch.get(i).getId());
+            }
+        }
+    }
+
     @Override
     public List<Auction> findClosingAuctions() {
         // BIDDING과 INSTANT_BUY_PENDING 상태 모두 종료 대상
@@ -68,6 +128,30 @@ public class AuctionPersistenceAdapter implements AuctionRepositoryPort {
         jpaAuctionRepository.updateCurrentPrice(auctionId, currentPrice, totalBidCount, bidIncrement);
     }
 
+    @Override
+    public void updateLiveStates(Collection<LiveStateUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // JDBC 배치 1회 (rewriteBatchedStatements 사용 시 왕복 1회)
+        jdbcTemplate.batchUpdate(UPDATE_LIVE_STATE_SQL, new ArrayList<>(updates), updates.size(), (ps, update) -> {
+            ps.setLong(1, update.currentPrice());
+            ps.setInt(2, update.totalBidCount());
+            ps.setLong(3, update.bidIncrement());
+            ps.setObject(4, update.extensionCount());
+            ps.setTimestamp(5, update.scheduledEndTimeMs() != null
+                    ? new Timestamp(update.scheduledEndTimeMs())
+                    : null);
+            ps.setObject(6, update.topBidderId());
+            ps.setObject(7, update.proxyBidderId());
+            ps.setObject(8, update.proxyMaxAmount());
+            ps.setTimestamp(9, now);
+            ps.setLong(10, update.auctionId());
+            ps.setInt(11, update.totalBidCount());
+        });
+    }
+
     @Override
     public void updateInstantBuyActivated(
             Long auctionId,
@@ -80,6 +80,16 @@ public class AuctionEntity {
     @Column(name = "instant_buy_activated_time")
     private LocalDateTime instantBuyActivatedTime;
 
+    // 1순위 입찰자와 대리 입찰 최대 금액 (Redis hot 해시 상태를 write-behind로 보관, 캐시 재적재 시 복원)
+    @Column(name = "top_bidder_id")
+    private Long topBidderId;
+
+    @Column(name = "proxy_bidder_id")
+    private Long proxyBidderId;
+
+    @Column(name = "proxy_max_amount")
+    private Long proxyMaxAmount;
+
     // 거래 방식 관련 필드
     @Column(name = "direct_trade_available", nullable = false)
     private Boolean directTradeAvailable;
@@ -124,6 +134,9 @@ public class AuctionEntity {
             Long winnerId,
             Long instantBuyerId,
             LocalDateTime instantBuyActivatedTime,
+            Long topBidderId,
+            Long proxyBidderId,
+            Long proxyMaxAmount,
             Boolean directTradeAvailable,
             Boolean deliveryAvailable,
             String directTradeLocation,
@@ -148,6 +161,9 @@ public class AuctionEntity {
         this.winnerId = winnerId;
         this.instantBuyerId = instantBuyerId;
         this.instantBuyActivatedTime = instantBuyActivatedTime;
+        this.topBidderId = topBidderId;
+        this.proxyBidderId = proxyBidderId;
+        this.proxyMaxAmount = proxyMaxAmount;
         this.directTradeAvailable = directTradeAvailable;
         this.deliveryAvailable = deliveryAvailable;
         this.directTradeLocation = directTradeLocation;
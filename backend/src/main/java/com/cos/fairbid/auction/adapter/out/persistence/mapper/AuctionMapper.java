@@ -34,6 +34,9 @@ public class AuctionMapper {
                 .winnerId(auction.getWinnerId())
                 .instantBuyerId(auction.getInstantBuyerId())
                 .instantBuyActivatedTime(auction.getInstantBuyActivatedTime())
+                .topBidderId(auction.getTopBidderId())
+                .proxyBidderId(auction.getProxyBidderId())
+                .proxyMaxAmount(auction.getProxyMaxAmount())
                 .directTradeAvailable(auction.getDirectTradeAvailable())
                 .deliveryAvailable(auction.getDeliveryAvailable())
                 .directTradeLocation(auction.getDirectTradeLocation())
@@ -65,6 +68,11 @@ public class AuctionMapper {
                 .winnerId(entity.getWinnerId())
                 .instantBuyerId(entity.getInstantBuyerId())
                 .instantBuyActivatedTime(entity.getInstantBuyActivatedTime())
+                // 1순위 입찰 금액은 현재가와 같다 (bid.lua가 현재가를 1순위 금액으로 갱신)
+                .topBidderId(entity.getTopBidderId())
+                .topBidAmount(entity.getTopBidderId() != null ? entity.getCurrentPrice() : null)
+                .proxyBidderId(entity.getProxyBidderId())
+                .proxyMaxAmount(entity.getProxyMaxAmount())
                 .directTradeAvailable(entity.getDirectTradeAvailable())
                 .deliveryAvailable(entity.getDeliveryAvailable())
                 .directTradeLocation(entity.getDirectTradeLocation())
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,6 +35,15 @@ public interface JpaAuctionRepository extends JpaRepository<AuctionEntity, Long>
             @Param("now") LocalDateTime now
     );
 
+    /**
+     * ID 목록으로 경매를 이미지 URL과 함께 조회한다 (이미지 컬렉션 지연 로딩으로 인한 경매별 추가 쿼리 방지)
+     *
+     * @param ids 경매 ID 목록
+     * @return 경매 엔티티 목록
+     */
+    @Query("SELECT DISTINCT a FROM AuctionEntity a LEFT JOIN FETCH a.imageUrls WHERE a.id IN :ids")
+    List<AuctionEntity> findAllWithImagesByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 경매의 현재가, 입찰수, 입찰단위를 직접 업데이트한다
      * Lua 스크립트 입찰 처리 후 DB 동기화용
@@ -4,6 +4,7 @@ import com.cos.fairbid.auction.domain.Auction;
 import com.cos.fairbid.auction.domain.AuctionStatus;
 import com.cos.fairbid.auction.domain.TopBidderInfo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -53,7 +54,8 @@ public interface AuctionCachePort {
 
     /**
      * 경매를 종료 대기 큐에 추가한다 (이미 존재하면 score 갱신)
-     * Key: auction:closing, Score: 종료시간(ms), Member: 경매ID
+     * Key: auction:closing:{bucket}, Score: 종료시간(ms), Member: 경매ID
+     * 추가 후 종료 시간 변경 알림을 발행하여 각 인스턴스의 종료 타이밍 휠에 예약되게 한다.
      *
      * @param auctionId  경매 ID
      * @param endTimeMs  종료 예정 시간 (밀리초)
@@ -68,13 +70,50 @@ public interface AuctionCachePort {
     void removeFromClosingQueue(Long auctionId);
 
     /**
-     * 종료 시간이 지난 경매 ID 목록을 조회한다
-     * ZRANGEBYSCORE auction:closing 0 {currentTimeMs}
+     * 종료 시간이 주어진 구간에 있는 경매의 종료 시간을 조회한다 (선점하지 않음)
+     * 전체 버킷에 대해 ZRANGEBYSCORE auction:closing:{bucket} {fromMs} {toMs} WITHSCORES
+     *
+     * @param fromMs 구간 시작 (밀리초, 포함)
+     * @param toMs   구간 끝 (밀리초, 포함)
+     * @return 경매 ID → 종료 시간(ms)
+     */
+    Map<Long, Long> findClosingDeadlines(long fromMs, long toMs);
+
+    /**
+     * 종료 대기 큐/처리 중 경매 현황을 조회한다 (모니터링용, 전체 버킷 파이프라인 1회)
+     *
+     * @param currentTimeMs 현재 시간 (밀리초, 이 시간 이전 종료 예정이면 지연으로 집계)
+     * @return 종료 대기 큐 현황
+     */
+    ClosingQueueStats getClosingQueueStats(long currentTimeMs);
+
+    /**
+     * 종료 시간이 지난 경매를 선점한다
+     * 버킷별로 종료 대기 큐에서 꺼내 처리 중 경매(auction:closing-inflight:{bucket})로 옮기며,
+     * 리스가 만료된 처리 중 경매(처리하던 인스턴스 종료 등)도 다시 선점한다.
+     * 한 경매는 리스가 유효한 동안 한 인스턴스에만 반환된다.
      *
      * @param currentTimeMs 현재 시간 (밀리초)
-     * @return 종료 대상 경매 ID 목록
+     * @param leaseMillis   선점 유지 시간 (이 시간 안에 완료 처리하지 않으면 다른 인스턴스가 재선점)
+     * @param limit         최대 선점 수
+     * @return 선점한 경매 ID 목록
      */
-    List<Long> findAuctionIdsToClose(long currentTimeMs);
+    List<Long> claimAuctionsToClose(long currentTimeMs, long leaseMillis, int limit);
+
+    /**
+     * 선점한 경매들의 종료 처리를 완료 표시한다 (처리 중 경매에서 제거, 파이프라인 1회)
+     *
+     * @param auctionIds 경매 ID 목록
+     */
+    void completeClosingClaims(Collection<Long> auctionIds);
+
+    /**
+     * 종료 처리된 경매들의 Redis 상태를 한 번에 동기화한다 (일괄 종료용, 파이프라인 1회)
+     * 경매별로 전체 캐시 갱신(hot/meta) + 종료 대기 큐 제거 + near-cache 무효화 알림을 수행한다.
+     *
+     * @param auctions 종료된 경매 목록
+     */
+    void syncClosedAuctions(Collection<Auction> auctions);
 
     // ============================
     // 캐시 상태 업데이트
@@ -110,4 +149,37 @@ public interface AuctionCachePort {
      * @return 2순위 입찰자 정보 (없으면 빈 Optional)
      */
     Optional<TopBidderInfo> getSecondBidderInfo(Long auctionId);
+
+    /**
+     * 여러 경매의 1·2순위 입찰자 정보와 종료 예정 시간을 한 번에 조회한다 (경매 종료용, 파이프라인 1회)
+     *
+     * @param auctionIds 경매 ID 목록
+     * @return 경매 ID → 1·2순위 입찰자 (캐시에 없는 경매는 빈 값)
+     */
+    Map<Long, RankedBidders> getRankedBidders(Collection<Long> auctionIds);
+
+    /**
+     * Redis 기준 1·2순위 입찰자
+     * 입찰 연장/즉시 구매로 바뀐 종료 시간은 bid.lua가 Redis에만 먼저 반영하므로, 종료 지연 측정에는 RDB 값 대신 scheduledEndTimeMs를 사용한다.
+     *
+     * @param first              1순위 입찰자 (없으면 빈 Optional)
+     * @param second             2순위 입찰자 (없으면 빈 Optional)
+     * @param scheduledEndTimeMs Redis 기준 종료 예정 시간 (캐시에 없으면 null)
+     */
+    record RankedBidders(Optional<TopBidderInfo> first, Optional<TopBidderInfo> second, Long scheduledEndTimeMs) {
+
+        public static RankedBidders empty() {
+            return new RankedBidders(Optional.empty(), Optional.empty(), null);
+        }
+    }
+
+    /**
+     * 종료 대기 큐 현황 (전체 버킷 합계)
+     *
+     * @param queued   종료 대기 중인 경매 수 (auction:closing:{bucket})
+     * @param overdue  그중 종료 시간이 이미 지난 경매 수
+     * @param inFlight 선점되어 처리 중인 경매 수 (auction:closing-inflight:{bucket})
+     */
+    record ClosingQueueStats(long queued, long overdue, long inFlight) {
+    }
 }
@@ -6,6 +6,7 @@ import com.cos.fairbid.auction.domain.Category;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,23 @@ public interface AuctionRepositoryPort {
      */
     Optional<Auction> findById(Long id);
 
+    /**
+     * ID 목록으로 경매를 한 번에 조회한다 (일괄 종료용, 이미지 URL 포함 쿼리 1회)
+     *
+     * @param ids 경매 ID 목록
+     * @return 존재하는 경매 목록 (순서 보장 없음)
+     */
+    List<Auction> findAllByIds(Collection<Long> ids);
+
+    /**
+     * 종료(낙찰/유찰) 처리된 경매들의 종료 상태를 한 번에 반영한다
+     * 상태, 낙찰자, 현재가, 실제 종료 시간만 갱신하며, 진행 중(BIDDING, INSTANT_BUY_PENDING)이 아니었던 경매가 있으면
+     * 예외를 던져 호출 측 트랜잭션 전체를 롤백한다 (중복 종료 방지).
+     *
+     * @param auctions 종료 처리된 경매 목록
+     */
+    void closeAll(Collection<Auction> auctions);
+
     /**
      * 종료 시간이 도래한 진행 중인 경매 목록을 조회한다
      * status = BIDDING 이고 scheduledEndTime <= now
@@ -61,6 +79,40 @@ public interface AuctionRepositoryPort {
      */
     void updateCurrentPrice(Long auctionId, Long currentPrice, Integer totalBidCount, Long bidIncrement);
 
+    /**
+     * 진행 중인 경매들의 실시간 상태(현재가, 입찰수, 입찰단위, 연장 횟수, 종료 예정 시간)를 한 번에 반영한다
+     * 입찰 write-behind 플러시용이며, 종료된 경매나 이미 더 최신 상태(입찰수가 더 많은)가 반영된 경매는 건너뛴다.
+     *
+     * @param updates 경매별 최신 상태 (경매당 1건)
+     */
+    void updateLiveStates(Collection<LiveStateUpdate> updates);
+
+    /**
+     * 경매 실시간 상태 반영 값
+     *
+     * @param auctionId          경매 ID
+     * @param currentPrice       현재가
+     * @param totalBidCount      총 입찰수 (최신 여부 판단 기준)
+     * @param bidIncrement       입찰 단위
+     * @param extensionCount     연장 횟수
+     * @param scheduledEndTimeMs 종료 예정 시간 (밀리초)
+     * @param topBidderId        1순위 입찰자 ID
+     * @param proxyBidderId      1순위의 대리 입찰자 ID (대리 입찰이 없으면 null)
+     * @param proxyMaxAmount     대리 입찰 최대 금액 (대리 입찰이 없으면 null)
+     */
+    record LiveStateUpdate(
+            Long auctionId,
+            Long currentPrice,
+            Integer totalBidCount,
+            Long bidIncrement,
+            Integer extensionCount,
+            Long scheduledEndTimeMs,
+            Long topBidderId,
+            Long proxyBidderId,
+            Long proxyMaxAmount
+    ) {
+    }
+
     /**
      * 즉시 구매 활성화 상태로 업데이트한다
      * Lua 스크립트 즉시 구매 처리 후 DB 동기화용
@@ -55,6 +55,10 @@ public class Auction {
     private Long secondBidderId;    // 2순위 입찰자 ID
     private Long secondBidAmount;   // 2순위 입찰 금액
 
+    // 1순위의 대리 입찰 정보 (Redis 캐시에서 관리, RDB에는 write-behind로 보관하여 캐시 재적재 시 복원)
+    private Long proxyBidderId;     // 대리 입찰자 ID (1순위와 같을 때만 유효)
+    private Long proxyMaxAmount;    // 대리 입찰 최대 금액
+
     /**
      * 새로운 경매 생성을 위한 정적 팩토리 메서드
      *
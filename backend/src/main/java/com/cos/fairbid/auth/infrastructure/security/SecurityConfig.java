@@ -1,5 +1,6 @@
 package com.cos.fairbid.auth.infrastructure.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -31,6 +32,7 @@ import java.util.List;
  *   - /ws/** → 비로그인 허용 (WebSocket)
  *   - /health, /actuator/** → 비로그인 허용 (모니터링)
  *   - /api/v1/test/** → ADMIN만 허용 (개발용 테스트)
+ *   - ASYNC 디스패치 → 허용 (비동기 입찰 응답 재디스패치, 최초 요청에서 인가 완료)
  *   - 그 외 → 인증 필요
  */
 @Configuration
@@ -60,6 +62,9 @@ public class SecurityConfig {
 
                 // 접근 제어 규칙
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답 디스패치 (v2 입찰): 최초 요청에서 이미 인가됨, JWT 필터는 재실행되지 않음
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 인증 관련 엔드포인트
                         .requestMatchers("/api/v1/auth/**").permitAll()
 
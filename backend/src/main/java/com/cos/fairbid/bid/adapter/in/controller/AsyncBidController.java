@@ -0,0 +1,53 @@
+package com.cos.fairbid.bid.adapter.in.controller;
+
+import com.cos.fairbid.auth.infrastructure.security.SecurityUtils;
+import com.cos.fairbid.bid.adapter.in.dto.BidResponse;
+import com.cos.fairbid.bid.adapter.in.dto.PlaceBidRequest;
+import com.cos.fairbid.bid.application.port.in.PlaceBidUseCase;
+import com.cos.fairbid.common.annotation.RequireOnboarding;
+import com.cos.fairbid.common.response.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 입찰 REST Controller (v2)
+ *
+ * 요청/응답 형식은 v1(BidController)과 같다.
+ * Servlet 비동기 처리로 Future를 반환하므로 Tomcat 요청 스레드는 Redis 응답을 기다리지 않고 즉시 반환된다.
+ * 실패 시 Future가 도메인 예외로 완료되며, GlobalExceptionHandler가 v1과 같은 응답으로 변환한다.
+ */
+@RestController
+@RequestMapping("/api/v2/auctions/{auctionId}/bids")
+@RequiredArgsConstructor
+public class AsyncBidController {
+
+    private final PlaceBidUseCase placeBidUseCase;
+
+    /**
+     * 비동기 입찰 API
+     * 온보딩 완료한 사용자만 입찰할 수 있다.
+     *
+     * @param auctionId 경매 ID
+     * @param request   입찰 요청
+     * @return 생성된 입찰 정보 Future
+     */
+    @PostMapping
+    @RequireOnboarding
+    public CompletableFuture<ResponseEntity<ApiResponse<BidResponse>>> placeBid(
+            @PathVariable Long auctionId,
+            @Valid @RequestBody PlaceBidRequest request
+    ) {
+        // SecurityContext는 요청 스레드에만 있으므로 비동기 처리 전에 조회
+        Long bidderId = SecurityUtils.getCurrentUserId();
+
+        return placeBidUseCase.placeBidAsync(request.toCommand(auctionId, bidderId))
+                .thenApply(bid -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(ApiResponse.success(BidResponse.from(bid))));
+    }
+}
@@ -17,6 +17,7 @@ public record PlaceBidRequest(
          * 입찰 금액
          * - ONE_TOUCH 입찰 시: 무시됨 (자동으로 최소 입찰가 적용)
          * - DIRECT 입찰 시: 필수
+         * - PROXY 입찰 시: 필수 (자동 응찰할 최대 금액)
          */
         @Positive(message = "입찰 금액은 0보다 커야 합니다")
         Long amount,
@@ -25,6 +26,7 @@ public record PlaceBidRequest(
          * 입찰 유형
          * - ONE_TOUCH: 원터치 입찰 (현재가 + 입찰단위)
          * - DIRECT: 금액 직접 지정
+         * - PROXY: 대리 입찰 (최대 금액까지 자동 응찰)
          */
         @NotNull(message = "입찰 유형은 필수입니다")
         BidType bidType
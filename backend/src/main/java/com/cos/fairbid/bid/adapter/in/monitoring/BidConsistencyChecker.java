@@ -2,6 +2,7 @@ package com.cos.fairbid.bid.adapter.in.monitoring;
 
 import com.cos.fairbid.bid.adapter.out.stream.RedisBidStreamAdapter;
 import com.cos.fairbid.bid.application.port.out.BidRepositoryPort;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -22,7 +25,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * Prometheus Gauge로 노출한다. Grafana에서 두 값의 차이를 시각화하여
  * 불일치 발생 시점과 규모를 확인할 수 있다.
  *
- * Redis 입찰 수: 모든 auction:{id} 해시의 totalBidCount 합산
+ * Redis 입찰 수: 모든 auction:{bucket}:{id} 해시의 totalBidCount 합산
  * RDB 입찰 수: bid 테이블 COUNT(*)
  *
  * 프로덕션에서는 5초마다 COUNT(*) 풀 스캔이 부담이므로
@@ -33,9 +36,6 @@ import java.util.concurrent.atomic.AtomicLong;
 @Slf4j
 public class BidConsistencyChecker {
 
-    private static final String AUCTION_KEY_PREFIX = "auction:";
-    private static final String CLOSING_QUEUE_KEY = "auction:closing";
-
     private final StringRedisTemplate redisTemplate;
     private final BidRepositoryPort bidRepositoryPort;
 
@@ -103,22 +103,30 @@ public class BidConsistencyChecker {
     /**
      * Redis Stream의 PENDING 메시지 수를 조회한다.
      * PENDING이 누적되면 DB 장애 등으로 RDB 동기화가 지연되고 있음을 의미한다.
+     * 단일 스트림과 버킷별 스트림의 PENDING을 합산한다.
      */
     private void checkStreamPending() {
-        try {
-            PendingMessagesSummary summary = redisTemplate.opsForStream()
-                    .pending(RedisBidStreamAdapter.STREAM_KEY, STREAM_GROUP);
-            if (summary != null) {
-                streamPendingCount.set(summary.getTotalPendingMessages());
+        List<String> streamKeys = new ArrayList<>();
+        streamKeys.add(RedisBidStreamAdapter.STREAM_KEY);
+        streamKeys.addAll(AuctionRedisKeys.allBidStreamKeys());
+
+        long total = 0;
+        for (String streamKey : streamKeys) {
+            try {
+                PendingMessagesSummary summary = redisTemplate.opsForStream().pending(streamKey, STREAM_GROUP);
+                if (summary != null) {
+                    total += summary.getTotalPendingMessages();
+                }
+            } catch (Exception e) {
+                // Stream 또는 Group이 아직 없는 경우 무시
+                log.debug("Stream PENDING 조회 실패 (정상 가능): streamKey={}, {}", streamKey, e.getMessage());
             }
-        } catch (Exception e) {
-            // Stream 또는 Group이 아직 없는 경우 무시
-            log.debug("Stream PENDING 조회 실패 (정상 가능): {}", e.getMessage());
         }
+        streamPendingCount.set(total);
     }
 
     /**
-     * Redis의 모든 auction:{id} 해시에서 totalBidCount를 합산한다.
+     * Redis의 모든 auction:{bucket}:{id} 해시에서 totalBidCount를 합산한다.
      * SCAN 명령어를 사용하여 blocking 없이 순회한다.
      *
      * @return Redis 기준 총 입찰 수
@@ -126,15 +134,15 @@ public class BidConsistencyChecker {
     private long countRedisBids() {
         long total = 0;
         ScanOptions options = ScanOptions.scanOptions()
-                .match(AUCTION_KEY_PREFIX + "*")
+                .match(AuctionRedisKeys.AUCTION_KEY_PREFIX + "*")
                 .count(100)
                 .build();
 
         try (Cursor<String> cursor = redisTemplate.scan(options)) {
             while (cursor.hasNext()) {
                 String key = cursor.next();
-                // auction:closing (Sorted Set)은 건너뛴다
-                if (CLOSING_QUEUE_KEY.equals(key)) {
+                // 종료 대기 큐(Sorted Set)와 메타데이터 해시는 건너뛴다
+                if (!AuctionRedisKeys.isAuctionKey(key)) {
                     continue;
                 }
                 Object countValue = redisTemplate.opsForHash().get(key, "totalBidCount");
@@ -0,0 +1,290 @@
+package com.cos.fairbid.bid.adapter.in.monitoring;
+
+import com.cos.fairbid.bid.application.port.out.BidRepositoryPort;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis-RDB 입찰 증분 대사기 (모든 프로파일)
+ *
+ * BidConsistencyChecker는 5초마다 전체 경매 키 SCAN + 키마다 HGET + bid 테이블 COUNT(*)를 수행하므로 load-test 전용이다.
+ * 이 대사기는 bid.lua가 기록하는 두 가지 값을 이용해 변경된 경매만 확인한다.
+ * - bid:count:{bucket}: 버킷별 누적 입찰 기록 수 (16개 합계 = 전역 입찰 카운터, fairbid_bid_redis_counter)
+ * - bid:changed:{bucket}: 입찰이 있었던 경매 인덱스 (score = 마지막 입찰 시각, 불일치가 남은 경매는 마지막 대사 시각)
+ *
+ * 동작 (interval-millis마다, 여러 인스턴스 중 락을 얻은 하나만):
+ * 1. 버킷마다 마지막 입찰 후 settle-millis 이상 지난 경매를 최대 max-auctions-per-bucket개 꺼낸다
+ *    (RDB 동기화가 따라잡을 시간을 주어 처리 중인 메시지를 불일치로 보지 않음)
+ * 2. Redis 해시의 totalBidCount와 bid 테이블 경매별 COUNT(auction_id 인덱스, IN 1회)를 비교한다
+ * 3. 일치하거나 경매 해시가 없으면 인덱스에서 제거한다 (그 사이 새 입찰로 score가 바뀌었으면 남김)
+ * 4. 불일치는 score를 현재 시각으로 미뤄 인덱스 뒤로 보내고 settle-millis 뒤에 다시 확인한다
+ *    (항상 오래된 경매부터 꺼내므로, 그대로 두면 풀리지 않는 불일치가 앞자리를 차지해 다른 경매가 대사되지 않음)
+ *    불일치 진행 중인 경매는 bid:drifting:{bucket}에 남기고, fairbid_bid_reconcile_drift_total{direction}은
+ *    불일치가 처음 발견됐을 때 한 번만 센다 (해결되면 해시에서 지워 다음 불일치를 새로 셈)
+ *    - missing_in_rdb (Redis > RDB): RDB 동기화 누락. 스트림 PENDING/dead-letter/로컬 저널에서 채워지므로 보고만 한다
+ *    - missing_in_redis (Redis < RDB): 오래된 auction.total_bid_count로 캐시가 적재된 경우 등.
+ *      repair-enabled=true면 bid 테이블 기준으로 Redis 입찰수를 보정한다 (bid-count-repair.lua)
+ */
+@Component
+@Slf4j
+public class BidReconciler {
+
+    private static final String LOCK_KEY = "bid:reconcile-lock";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(60);
+    private static final String TOTAL_BID_COUNT_FIELD = "totalBidCount";
+    private static final String DIRECTION_MISSING_IN_RDB = "missing_in_rdb";
+    private static final String DIRECTION_MISSING_IN_REDIS = "missing_in_redis";
+
+    private final StringRedisTemplate redisTemplate;
+    private final BidRepositoryPort bidRepositoryPort;
+    private final boolean enabled;
+    private final long settleMillis;
+    private final int maxAuctionsPerBucket;
+    private final boolean repairEnabled;
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    private final Counter checkedCounter;
+    private final Counter missingInRdbCounter;
+    private final Counter missingInRedisCounter;
+    private final Counter repairedCounter;
+    /** 불일치가 이어지고 있는 경매 수 (bid:drifting:{bucket} 합계) */
+    private final AtomicLong driftingAuctions = new AtomicLong(0);
+    /** Redis 전역 입찰 카운터 (bid:count:{bucket} 합계) */
+    private final AtomicLong redisBidCounter = new AtomicLong(0);
+
+    private DefaultRedisScript<List> ackScript;
+    private DefaultRedisScript<Long> repairScript;
+
+    public BidReconciler(
+            StringRedisTemplate redisTemplate,
+            BidRepositoryPort bidRepositoryPort,
+            MeterRegistry meterRegistry,
+            @Value("${bid.reconcile.enabled:true}") boolean enabled,
+            @Value("${bid.reconcile.settle-millis:30000}") long settleMillis,
+            @Value("${bid.reconcile.max-auctions-per-bucket:100}") int maxAuctionsPerBucket,
+            @Value("${bid.reconcile.repair-enabled:false}") boolean repairEnabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.bidRepositoryPort = bidRepositoryPort;
+        this.enabled = enabled;
+        this.settleMillis = settleMillis;
+        this.maxAuctionsPerBucket = maxAuctionsPerBucket;
+        this.repairEnabled = repairEnabled;
+
+        this.checkedCounter = Counter.builder("fairbid_bid_reconcile_checked_total")
+                .description("증분 대사로 확인한 경매 수")
+                .register(meterRegistry);
+        this.missingInRdbCounter = Counter.builder("fairbid_bid_reconcile_drift_total")
+                .tag("direction", DIRECTION_MISSING_IN_RDB)
+                .description("Redis 입찰수가 RDB보다 많은 불일치 발생 횟수 (경매별 불일치 1건당 1회)")
+                .register(meterRegistry);
+        this.missingInRedisCounter = Counter.builder("fairbid_bid_reconcile_drift_total")
+                .tag("direction", DIRECTION_MISSING_IN_REDIS)
+                .description("Redis 입찰수가 RDB보다 적은 불일치 발생 횟수 (경매별 불일치 1건당 1회)")
+                .register(meterRegistry);
+        this.repairedCounter = Counter.builder("fairbid_bid_reconcile_repaired_total")
+                .description("bid 테이블 기준으로 Redis 입찰수를 보정한 경매 수")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_bid_reconcile_drift_auctions", driftingAuctions, AtomicLong::get)
+                .description("Redis-RDB 입찰수 불일치가 이어지고 있는 경매 수")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_bid_redis_counter", redisBidCounter, AtomicLong::get)
+                .description("Redis 전역 입찰 기록 카운터 (bid.lua가 증가)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        ackScript = new DefaultRedisScript<>();
+        ackScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/changed-auctions-ack.lua")));
+        ackScript.setResultType(List.class);
+        repairScript = loadScript("scripts/bid-count-repair.lua");
+    }
+
+    @Scheduled(fixedDelayString = "${bid.reconcile.interval-millis:10000}")
+    public void reconcile() {
+        if (!enabled || !acquireLock()) {
+            return;
+        }
+        try {
+            refreshRedisBidCounter();
+
+            long now = System.currentTimeMillis();
+            long drifting = 0;
+            for (int bucket = 0; bucket < AuctionRedisKeys.CLOSING_QUEUE_BUCKETS; bucket++) {
+                reconcileBucket(bucket, now);
+                drifting += redisTemplate.opsForHash().size(AuctionRedisKeys.driftingAuctionsKeyOfBucket(bucket));
+            }
+            driftingAuctions.set(drifting);
+        } catch (Exception e) {
+            // DB/Redis 장애 시 다음 주기에 재시도 (인덱스는 그대로 남음)
+            log.error("입찰 증분 대사 실패: {}", e.getMessage());
+        } finally {
+            releaseLock();
+        }
+    }
+
+    /**
+     * 버킷 하나의 변경 경매를 대사한다
+     * 불일치 경매는 인덱스 뒤로 미루고, 새로 시작된 불일치만 방향별로 센다.
+     */
+    @SuppressWarnings("unchecked")
+    private void reconcileBucket(int bucket, long now) {
+        String changedKey = AuctionRedisKeys.changedAuctionsKeyOfBucket(bucket);
+        Set<TypedTuple<String>> changed = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(changedKey, 0, now - settleMillis, 0, maxAuctionsPerBucket);
+        if (changed == null || changed.isEmpty()) {
+            return;
+        }
+
+        // 경매 ID → 인덱스 score (대사 완료 표시 시 비교)
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (TypedTuple<String> tuple : changed) {
+            scores.put(Long.valueOf(tuple.getValue()), tuple.getScore());
+        }
+        List<Long> auctionIds = new ArrayList<>(scores.keySet());
+
+        List<Object> redisCounts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long auctionId : auctionIds) {
+                stringConnection.hGet(AuctionRedisKeys.auctionKey(auctionId), TOTAL_BID_COUNT_FIELD);
+            }
+            return null;
+        });
+        Map<Long, Long> rdbCounts = bidRepositoryPort.countByAuctionIds(auctionIds);
+
+        List<String> ackArgs = new ArrayList<>();
+        ackArgs.add(String.valueOf(now));
+        // 이번 대사에서 발견한 불일치 (경매 ID → 방향, 로그용 입찰수)
+        Map<String, Drift> drifts = new LinkedHashMap<>();
+        for (int i = 0; i < auctionIds.size(); i++) {
+            Long auctionId = auctionIds.get(i);
+            Object redisValue = redisCounts.get(i);
+            checkedCounter.increment();
+
+            // 경매 해시가 없으면(종료 후 정리 등) 대사 대상에서 제외
+            boolean settled = redisValue == null;
+            Drift drift = null;
+            if (!settled) {
+                long redisCount = Long.parseLong(redisValue.toString());
+                long rdbCount = rdbCounts.getOrDefault(auctionId, 0L);
+                if (redisCount == rdbCount) {
+                    settled = true;
+                } else if (redisCount > rdbCount) {
+                    drift = new Drift(DIRECTION_MISSING_IN_RDB, redisCount, rdbCount);
+                } else {
+                    drift = new Drift(DIRECTION_MISSING_IN_REDIS, redisCount, rdbCount);
+                    settled = repair(auctionId, redisCount, rdbCount);
+                }
+            }
+            if (drift != null) {
+                drifts.put(String.valueOf(auctionId), drift);
+            }
+            ackArgs.add(String.valueOf(auctionId));
+            ackArgs.add(String.valueOf(scores.get(auctionId).longValue()));
+            ackArgs.add(drift != null ? drift.direction() : "");
+            ackArgs.add(settled ? "1" : "0");
+        }
+
+        List<Object> started = redisTemplate.execute(ackScript,
+                List.of(changedKey, AuctionRedisKeys.driftingAuctionsKeyOfBucket(bucket)), ackArgs.toArray());
+        if (started != null) {
+            for (Object auctionId : started) {
+                countDriftStarted(auctionId.toString(), drifts.get(auctionId.toString()));
+            }
+        }
+    }
+
+    /**
+     * 새로 시작된 불일치를 방향별로 센다 (같은 불일치가 해결되기 전까지는 다시 세지 않음)
+     */
+    private void countDriftStarted(String auctionId, Drift drift) {
+        if (drift == null) {
+            return;
+        }
+        if (DIRECTION_MISSING_IN_RDB.equals(drift.direction())) {
+            missingInRdbCounter.increment();
+            log.warn("Redis-RDB 입찰수 불일치 (RDB 누락): auctionId={}, redis={}, rdb={}",
+                    auctionId, drift.redisCount(), drift.rdbCount());
+        } else {
+            missingInRedisCounter.increment();
+            log.warn("Redis-RDB 입찰수 불일치 (Redis 부족): auctionId={}, redis={}, rdb={}",
+                    auctionId, drift.redisCount(), drift.rdbCount());
+        }
+    }
+
+    /**
+     * Redis 입찰수가 RDB보다 적은 경매를 보정이 켜져 있으면 bid 테이블 기준으로 맞춘다
+     *
+     * @return 보정 완료 시 true
+     */
+    private boolean repair(Long auctionId, long redisCount, long rdbCount) {
+        if (!repairEnabled) {
+            return false;
+        }
+        Long repaired = redisTemplate.execute(repairScript,
+                List.of(AuctionRedisKeys.auctionKey(auctionId), AuctionRedisKeys.bidCountKey(auctionId)),
+                String.valueOf(rdbCount - redisCount), String.valueOf(auctionId));
+        repairedCounter.increment();
+        log.warn("Redis 입찰수 보정: auctionId={}, redis={} → {}, rdb={}", auctionId, redisCount, repaired, rdbCount);
+        return true;
+    }
+
+    private void refreshRedisBidCounter() {
+        long total = 0;
+        for (int bucket = 0; bucket < AuctionRedisKeys.CLOSING_QUEUE_BUCKETS; bucket++) {
+            // 버킷마다 슬롯이 다르므로 MGET 대신 개별 GET (Cluster 대응)
+            String value = redisTemplate.opsForValue().get(AuctionRedisKeys.bidCountKeyOfBucket(bucket));
+            if (value != null) {
+                total += Long.parseLong(value);
+            }
+        }
+        redisBidCounter.set(total);
+    }
+
+    private boolean acquireLock() {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockOwner, LOCK_TTL));
+    }
+
+    private void releaseLock() {
+        if (lockOwner.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+            redisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    private static DefaultRedisScript<Long> loadScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 대사에서 발견한 불일치 (방향, 확인 시점의 Redis/RDB 입찰수)
+     */
+    private record Drift(String direction, long redisCount, long rdbCount) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.cos.fairbid.bid.adapter.in.monitoring;
+
+import com.cos.fairbid.bid.adapter.in.stream.BidStreamConsumer;
+import com.cos.fairbid.bid.adapter.out.stream.RedisBidStreamAdapter;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입찰 RDB 동기화 스트림 Consumer Group 지연 모니터 (모든 프로파일)
+ *
+ * refresh-interval-millis마다 XINFO GROUPS로 스트림별 Consumer Group 상태를 읽어 Gauge로 노출한다.
+ * Redis 명령만 사용하므로 BidConsistencyChecker(COUNT(*) 비교, load-test 전용)와 달리 프로덕션에서도 켜 둔다.
+ *
+ * - fairbid_stream_group_lag{stream}: 아직 어떤 Consumer에게도 전달되지 않은 메시지 수 (XINFO GROUPS lag, Redis 7+)
+ *   Redis가 계산할 수 없는 경우(트리밍/삭제 직후, Redis 7 미만)에는 -1
+ * - fairbid_stream_group_pending{stream}: 전달됐지만 ACK되지 않은 메시지 수
+ *
+ * 대상: 단일 스트림 + 파티션 스트림 16개 (사용하지 않는 스트림은 0)
+ * 발행부터 RDB 커밋까지의 지연 분포는 BidStreamConsumer의 fairbid_bid_rdb_sync_lag_seconds로 기록한다.
+ */
+@Component
+@Slf4j
+public class BidStreamLagMonitor {
+
+    private static final long UNKNOWN_LAG = -1;
+
+    private final StringRedisTemplate redisTemplate;
+    /** 스트림 키 → Gauge 값 */
+    private final Map<String, AtomicLong> lagByStream = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> pendingByStream = new LinkedHashMap<>();
+
+    public BidStreamLagMonitor(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+
+        List<String> streamKeys = new ArrayList<>();
+        streamKeys.add(RedisBidStreamAdapter.STREAM_KEY);
+        streamKeys.addAll(AuctionRedisKeys.allBidStreamKeys());
+        for (String streamKey : streamKeys) {
+            AtomicLong lag = new AtomicLong(0);
+            AtomicLong pending = new AtomicLong(0);
+            lagByStream.put(streamKey, lag);
+            pendingByStream.put(streamKey, pending);
+
+            Gauge.builder("fairbid_stream_group_lag", lag, AtomicLong::get)
+                    .tag("stream", streamKey)
+                    .description("Consumer Group에 아직 전달되지 않은 RDB 동기화 메시지 수 (-1: 계산 불가)")
+                    .register(meterRegistry);
+            Gauge.builder("fairbid_stream_group_pending", pending, AtomicLong::get)
+                    .tag("stream", streamKey)
+                    .description("전달됐지만 ACK되지 않은 RDB 동기화 메시지 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bid.stream.lag.refresh-interval-millis:5000}")
+    public void refresh() {
+        for (Map.Entry<String, AtomicLong> entry : lagByStream.entrySet()) {
+            String streamKey = entry.getKey();
+            try {
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+                    entry.getValue().set(0);
+                    pendingByStream.get(streamKey).set(0);
+                    continue;
+                }
+                for (StreamInfo.XInfoGroup group : redisTemplate.opsForStream().groups(streamKey)) {
+                    if (BidStreamConsumer.GROUP_NAME.equals(group.groupName())) {
+                        entry.getValue().set(lagOf(group));
+                        pendingByStream.get(streamKey).set(group.pendingCount());
+                    }
+                }
+            } catch (Exception e) {
+                // 그룹이 아직 없는 스트림 등
+                log.debug("Consumer Group 지연 조회 실패: stream={}, error={}", streamKey, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * XINFO GROUPS의 lag 필드 (Spring Data Redis가 별도 접근자를 제공하지 않아 원본 응답에서 읽음)
+     */
+    private static long lagOf(StreamInfo.XInfoGroup group) {
+        Object lag = group.getRaw().get("lag");
+        if (lag instanceof Number number) {
+            return number.longValue();
+        }
+        if (lag instanceof String text && !text.isEmpty()) {
+            return Long.parseLong(text);
+        }
+        if (lag instanceof byte[] bytes && bytes.length > 0) {
+            return Long.parseLong(new String(bytes));
+        }
+        return UNKNOWN_LAG;
+    }
+}
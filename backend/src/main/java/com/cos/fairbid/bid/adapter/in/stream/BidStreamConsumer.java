@@ -1,19 +1,22 @@
 package com.cos.fairbid.bid.adapter.in.stream;
 
+import com.cos.fairbid.bid.adapter.out.stream.BidStreamPayload;
 import com.cos.fairbid.bid.adapter.out.stream.RedisBidStreamAdapter;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
-import org.springframework.data.domain.Range;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessResourceException;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
@@ -21,6 +24,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Redis Stream 기반 입찰 RDB 동기화 컨슈머
@@ -31,7 +35,16 @@ import java.util.UUID;
  * 핵심 동작:
  * 1. 새 메시지 수신 → Handler에서 RDB 저장 (트랜잭션 커밋) → ACK (정상 흐름)
  * 2. RDB 저장 실패 → ACK 안 함 → PENDING에 남음 (장애 시)
- * 3. @Scheduled로 PENDING 메시지 주기적 재처리 (복구 시)
+ * 3. BidStreamRecoveryEngine이 PENDING 메시지를 XAUTOCLAIM으로 가져와 병렬 재처리 (복구 시)
+ *
+ * 배치 모드 (bid.stream.consumer.batch-enabled=true):
+ * - 한 번의 XREADGROUP(최대 50건)을 하나의 트랜잭션으로 저장 (BID_SAVE는 다중 행 INSERT 1회)
+ * - 커밋 후 배치의 모든 ID를 XACK 한 번으로 전송
+ * - 배치 저장이 실패하면 건별 처리로 전환하여 문제 메시지 하나가 배치 전체를 막지 않도록 한다
+ *
+ * 유량 제어 (BidStreamFlowController):
+ * - RDB 저장 트랜잭션마다 허가를 받아 동시 실행 수를 AIMD 한도 이하로 제한하고, 소요 시간/실패를 보고한다
+ * - DB 장애가 이어져 서킷이 열리면 배치 폴러는 읽기를 멈추고, 리스너 스레드는 허가를 기다리며 대기한다
  *
  * @Async 대비 장점:
  * - DB 장애 시에도 호출 스레드(입찰 API) 블로킹 없음
@@ -43,30 +56,44 @@ import java.util.UUID;
 public class BidStreamConsumer implements DisposableBean {
 
     private static final String STREAM_KEY = RedisBidStreamAdapter.STREAM_KEY;
-    private static final String GROUP_NAME = "bid-rdb-sync-group";
-    /** PENDING 메시지 재처리 대상 기준 시간 (이 시간 이상 ACK 안 된 메시지) */
-    private static final Duration PENDING_TIMEOUT = Duration.ofSeconds(30);
+    public static final String GROUP_NAME = "bid-rdb-sync-group";
     /** 병렬 Consumer 수 (Consumer Group 내에서 메시지를 분산 처리) */
     private static final int CONSUMER_COUNT = 10;
+    /** 1회 폴링(XREADGROUP COUNT) 및 PENDING 조회 최대 건수 */
+    private static final int POLL_BATCH_SIZE = 50;
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
 
     private final String consumerName;
     private final StringRedisTemplate redisTemplate;
     private final BidStreamMessageHandler messageHandler;
+    private final BidStreamFlowController flowController;
     private final Timer rdbSyncTimer;
     private final Counter consumeSuccessCounter;
     private final Counter consumeFailCounter;
+    private final Timer rdbSyncBatchTimer;
+    private final DistributionSummary rdbSyncBatchSize;
+    private final Timer rdbSyncLagTimer;
+    private final boolean batchEnabled;
 
     private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
     /** 리스너 컨테이너용 스레드 풀 (destroy()에서 명시적 종료) */
     private ThreadPoolTaskExecutor executor;
+    /** 배치 모드 폴링 루프 실행 여부 */
+    private volatile boolean polling;
+    /** 종료 중이면 허가 대기를 중단 */
+    private volatile boolean stopped;
 
     public BidStreamConsumer(
             StringRedisTemplate redisTemplate,
             BidStreamMessageHandler messageHandler,
-            MeterRegistry meterRegistry
+            BidStreamFlowController flowController,
+            MeterRegistry meterRegistry,
+            @Value("${bid.stream.consumer.batch-enabled:false}") boolean batchEnabled
     ) {
         this.redisTemplate = redisTemplate;
         this.messageHandler = messageHandler;
+        this.flowController = flowController;
+        this.batchEnabled = batchEnabled;
         // 인스턴스별 고유 컨슈머 이름 (다중 인스턴스 대비)
         this.consumerName = "consumer-" + UUID.randomUUID().toString().substring(0, 8);
 
@@ -82,6 +109,17 @@ public class BidStreamConsumer implements DisposableBean {
                 .tag("result", "fail")
                 .description("Stream 메시지 소비 실패 건수")
                 .register(meterRegistry);
+        this.rdbSyncBatchTimer = Timer.builder("fairbid_bid_rdb_sync_batch_seconds")
+                .description("RDB 배치 동기화 소요 시간 (트랜잭션 1회)")
+                .publishPercentileHistogram(true)
+                .register(meterRegistry);
+        this.rdbSyncBatchSize = DistributionSummary.builder("fairbid_bid_rdb_sync_batch_size")
+                .description("RDB 배치 동기화 1회당 메시지 수")
+                .register(meterRegistry);
+        this.rdbSyncLagTimer = Timer.builder("fairbid_bid_rdb_sync_lag_seconds")
+                .description("입찰 동기화 메시지 발행(XADD)부터 RDB 커밋까지 지연")
+                .publishPercentileHistogram(true)
+                .register(meterRegistry);
     }
 
     /**
@@ -89,35 +127,41 @@ public class BidStreamConsumer implements DisposableBean {
      */
     @PostConstruct
     public void init() {
-        createConsumerGroupIfNotExists();
-        startListenerContainer();
-        log.info("BidStreamConsumer 시작: group={}, consumer={}", GROUP_NAME, consumerName);
+        createConsumerGroupIfNotExists(STREAM_KEY);
+        if (batchEnabled) {
+            startBatchPollers();
+        } else {
+            startListenerContainer();
+        }
+        log.info("BidStreamConsumer 시작: group={}, consumer={}, batch={}", GROUP_NAME, consumerName, batchEnabled);
     }
 
     /**
      * Consumer Group이 없으면 생성한다.
      * 스트림이 없는 경우 더미 메시지를 추가하여 스트림을 먼저 생성한다.
+     *
+     * @param streamKey 스트림 키 (단일 스트림 또는 파티션 스트림)
      */
-    private void createConsumerGroupIfNotExists() {
+    void createConsumerGroupIfNotExists(String streamKey) {
         try {
             // 스트림이 없으면 더미 메시지로 생성 후 즉시 삭제 (MKSTREAM 대체)
-            Boolean exists = redisTemplate.hasKey(STREAM_KEY);
+            Boolean exists = redisTemplate.hasKey(streamKey);
             if (Boolean.FALSE.equals(exists)) {
                 RecordId dummyId = redisTemplate.opsForStream()
-                        .add(STREAM_KEY, Map.of("_init", "true"));
+                        .add(streamKey, Map.of("_init", "true"));
                 if (dummyId != null) {
-                    redisTemplate.opsForStream().delete(STREAM_KEY, dummyId);
+                    redisTemplate.opsForStream().delete(streamKey, dummyId);
                 }
-                log.info("Stream 키 생성: {}", STREAM_KEY);
+                log.info("Stream 키 생성: {}", streamKey);
             }
 
-            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP_NAME);
-            log.info("Consumer Group 생성: stream={}, group={}", STREAM_KEY, GROUP_NAME);
+            redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.from("0"), GROUP_NAME);
+            log.info("Consumer Group 생성: stream={}, group={}", streamKey, GROUP_NAME);
         } catch (RedisSystemException e) {
             // BUSYGROUP: 이미 존재하는 경우 정상
             if (e.getCause() != null && e.getCause().getMessage() != null
                     && e.getCause().getMessage().contains("BUSYGROUP")) {
-                log.info("Consumer Group 이미 존재: stream={}, group={}", STREAM_KEY, GROUP_NAME);
+                log.info("Consumer Group 이미 존재: stream={}, group={}", streamKey, GROUP_NAME);
             } else {
                 throw e;
             }
@@ -131,19 +175,12 @@ public class BidStreamConsumer implements DisposableBean {
      * 메시지를 자동으로 분배하므로 중복 처리 없이 병렬성을 확보한다.
      */
     private void startListenerContainer() {
-        executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(CONSUMER_COUNT);
-        executor.setMaxPoolSize(CONSUMER_COUNT * 2);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("bid-stream-consumer-");
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(30);
-        executor.initialize();
+        executor = createConsumerExecutor();
 
         StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
                 StreamMessageListenerContainerOptions.builder()
-                        .batchSize(50)
-                        .pollTimeout(Duration.ofSeconds(1))
+                        .batchSize(POLL_BATCH_SIZE)
+                        .pollTimeout(POLL_TIMEOUT)
                         .executor(executor)
                         .errorHandler(e -> log.error("Stream 리스너 에러: {}", e.getMessage()))
                         .build();
@@ -164,6 +201,171 @@ public class BidStreamConsumer implements DisposableBean {
         container.start();
     }
 
+    /**
+     * 배치 모드: Consumer마다 XREADGROUP 폴링 루프를 실행한다.
+     * 리스너 컨테이너는 레코드 단위로 콜백하므로, 폴링 결과 전체를 한 번에 처리하기 위해 직접 읽는다.
+     */
+    private void startBatchPollers() {
+        executor = createConsumerExecutor();
+        polling = true;
+        for (int i = 0; i < CONSUMER_COUNT; i++) {
+            Consumer consumer = Consumer.from(GROUP_NAME, consumerName + "-" + i);
+            executor.execute(() -> pollLoop(consumer));
+        }
+    }
+
+    private ThreadPoolTaskExecutor createConsumerExecutor() {
+        ThreadPoolTaskExecutor consumerExecutor = new ThreadPoolTaskExecutor();
+        consumerExecutor.setCorePoolSize(CONSUMER_COUNT);
+        consumerExecutor.setMaxPoolSize(CONSUMER_COUNT * 2);
+        consumerExecutor.setQueueCapacity(100);
+        consumerExecutor.setThreadNamePrefix("bid-stream-consumer-");
+        consumerExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        consumerExecutor.setAwaitTerminationSeconds(30);
+        consumerExecutor.initialize();
+        return consumerExecutor;
+    }
+
+    /**
+     * 배치 폴링 루프
+     * XREADGROUP COUNT 50 BLOCK 1000으로 읽고, 읽은 레코드 전체를 onBatch()로 처리한다.
+     * 서킷이 열려 있는 동안에는 읽지 않는다 (읽은 메시지가 처리되지 못한 채 PENDING에 쌓이지 않도록).
+     */
+    private void pollLoop(Consumer consumer) {
+        StreamOperations<String, String, String> streamOps = redisTemplate.opsForStream();
+        StreamReadOptions readOptions = StreamReadOptions.empty()
+                .count(POLL_BATCH_SIZE)
+                .block(POLL_TIMEOUT);
+        StreamOffset<String> offset = StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed());
+
+        while (polling) {
+            if (flowController.isOpen()) {
+                sleepQuietly(POLL_TIMEOUT);
+                continue;
+            }
+            try {
+                List<MapRecord<String, String, String>> records = streamOps.read(consumer, readOptions, offset);
+                if (records != null && !records.isEmpty()) {
+                    onBatch(records);
+                }
+            } catch (Exception e) {
+                if (!polling) {
+                    break;
+                }
+                log.error("Stream 배치 폴링 에러: consumer={}, error={}", consumer.getName(), e.getMessage());
+                sleepQuietly(POLL_TIMEOUT);
+            }
+        }
+    }
+
+    /**
+     * 배치 처리 콜백
+     * Handler 빈에서 배치 전체를 한 트랜잭션으로 저장한 뒤, 모든 ID를 XACK 한 번으로 전송한다.
+     * 배치 저장이 실패하면 건별 처리(onMessage)로 전환한다.
+     * (멱등 저장이므로 일부가 이미 커밋된 상태여도 중복 행이 생기지 않음)
+     */
+    public void onBatch(List<MapRecord<String, String, String>> messages) {
+        try {
+            processBatch(messages);
+        } catch (Exception e) {
+            log.warn("배치 처리 실패, 건별 처리로 전환: size={}, error={}", messages.size(), e.getMessage());
+            messages.forEach(this::onMessage);
+        }
+    }
+
+    /**
+     * 같은 스트림의 레코드 목록을 한 트랜잭션으로 저장하고 다중 ID ACK를 보낸다.
+     * 실패 시 예외를 그대로 던지며 ACK하지 않는다 (순서 보장이 필요한 파티션 컨슈머는 배치 전체를 재시도).
+     *
+     * @param messages 같은 스트림에서 읽은 레코드 목록 (ID 오름차순)
+     */
+    void processBatch(List<MapRecord<String, String, String>> messages) {
+        RecordId[] recordIds = messages.stream()
+                .map(MapRecord::getId)
+                .toArray(RecordId[]::new);
+
+        withPermit(rdbSyncBatchTimer, () -> messageHandler.handleBatch(messages));
+        long committedAtMs = System.currentTimeMillis();
+        messages.forEach(message -> recordSyncLag(message, committedAtMs));
+
+        // 트랜잭션 커밋 확인 후 다중 ID ACK
+        redisTemplate.opsForStream().acknowledge(messages.get(0).getStream(), GROUP_NAME, recordIds);
+        consumeSuccessCounter.increment(messages.size());
+        rdbSyncBatchSize.record(messages.size());
+        log.debug("배치 처리 완료: stream={}, {}건", messages.get(0).getStream(), messages.size());
+    }
+
+    /**
+     * 유량 제어 허가를 받아 RDB 저장을 실행하고, 소요 시간을 타이머와 유량 제어기에 함께 보고한다.
+     * 리스너 모드에서는 허가를 기다리는 동안 해당 Consumer의 폴링도 멈춘다.
+     *
+     * @throws TransientDataAccessResourceException 종료 중이라 허가를 받지 못함 (ACK하지 않아 PENDING 유지)
+     */
+    private void withPermit(Timer timer, Runnable task) {
+        try {
+            while (!flowController.acquire(POLL_TIMEOUT)) {
+                if (stopped) {
+                    throw new TransientDataAccessResourceException("BidStreamConsumer 종료 중");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransientDataAccessResourceException("RDB 동기화 허가 대기 중 인터럽트", e);
+        }
+
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            timer.record(elapsed, TimeUnit.NANOSECONDS);
+            flowController.release(elapsed, failure);
+        }
+    }
+
+    /**
+     * 발행부터 커밋까지 지연을 기록한다
+     * 메시지의 첫 발행 시각(publishedAtMs)을 사용하므로 로컬 저널에서 재발행된 메시지도 원래 발행 시각 기준이다.
+     * 발행 시각이 없는 메시지(스크립트 내 발행, 이전 메시지)는 자동 생성 Record ID의 XADD 시각을 사용한다.
+     */
+    private void recordSyncLag(MapRecord<String, String, String> message, long committedAtMs) {
+        Long publishedAtMs = publishedAtMsOf(message);
+        if (publishedAtMs != null) {
+            // 서버 간 시계 오차로 음수가 되면 0으로 기록
+            rdbSyncLagTimer.record(Math.max(0, committedAtMs - publishedAtMs), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Long publishedAtMsOf(MapRecord<String, String, String> message) {
+        Map<String, String> body = message.getValue();
+        try {
+            String payload = BidStreamPayload.payloadOf(body);
+            Long publishedAtMs = payload != null
+                    ? BidStreamPayload.publishedAtMsOf(payload)
+                    : (body.containsKey(BidStreamPayload.PUBLISHED_AT_FIELD)
+                            ? Long.valueOf(body.get(BidStreamPayload.PUBLISHED_AT_FIELD)) : null);
+            if (publishedAtMs != null) {
+                return publishedAtMs;
+            }
+        } catch (IllegalArgumentException e) {
+            // 형식 오류는 지연 기록만 Record ID 시각으로 대체 (ACK에는 영향 없음)
+        }
+        return message.getId().getTimestamp();
+    }
+
+    private void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            polling = false;
+        }
+    }
+
     /**
      * 메시지 수신 콜백
      * Handler 빈에서 RDB 저장 (트랜잭션 커밋) 후 수동 ACK한다.
@@ -177,76 +379,31 @@ public class BidStreamConsumer implements DisposableBean {
         String recordId = message.getId().getValue();
 
         try {
-            rdbSyncTimer.record(() -> {
-                // Handler 빈 호출 → Spring 프록시 경유 → @Transactional 정상 동작
-                messageHandler.handle(body, recordId);
-            });
+            // Handler 빈 호출 → Spring 프록시 경유 → @Transactional 정상 동작
+            withPermit(rdbSyncTimer, () -> messageHandler.handle(body, recordId));
+            recordSyncLag(message, System.currentTimeMillis());
 
             // 트랜잭션 커밋 확인 후 ACK
-            redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP_NAME, message.getId());
+            redisTemplate.opsForStream().acknowledge(message.getStream(), GROUP_NAME, message.getId());
             consumeSuccessCounter.increment();
             log.debug("메시지 처리 완료: recordId={}", recordId);
         } catch (Exception e) {
             consumeFailCounter.increment();
-            // ACK하지 않으면 PENDING 목록에 남아 retryPendingMessages()에서 재처리됨
+            // ACK하지 않으면 PENDING 목록에 남아 BidStreamRecoveryEngine에서 재처리됨
             log.error("메시지 처리 실패 (PENDING 유지): recordId={}, error={}",
                     recordId, e.getMessage());
         }
     }
 
-    /**
-     * PENDING 메시지 재처리 스케줄러
-     *
-     * 30초마다 실행되며, PENDING_TIMEOUT 이상 ACK되지 않은 메시지를
-     * XCLAIM으로 가져와 재처리한다. DB 복구 후 밀린 메시지가 자동으로
-     * 소진되는 핵심 메커니즘이다.
-     */
-    @Scheduled(fixedRate = 30000)
-    public void retryPendingMessages() {
-        try {
-            // XPENDING으로 처리 안 된 메시지 조회 (최대 50건)
-            PendingMessages pendingMessages = redisTemplate.opsForStream()
-                    .pending(STREAM_KEY, GROUP_NAME, Range.unbounded(), 50);
-
-            if (pendingMessages == null || pendingMessages.isEmpty()) {
-                return;
-            }
-
-            long retryCount = 0;
-            for (PendingMessage pending : pendingMessages) {
-                // PENDING_TIMEOUT 이상 지난 메시지만 재처리
-                if (pending.getElapsedTimeSinceLastDelivery().compareTo(PENDING_TIMEOUT) < 0) {
-                    continue;
-                }
-
-                // XCLAIM으로 이 컨슈머에게 소유권 이전
-                @SuppressWarnings("unchecked")
-                List<MapRecord<String, String, String>> claimed = (List<MapRecord<String, String, String>>) (List<?>)
-                        redisTemplate.opsForStream()
-                                .claim(STREAM_KEY, GROUP_NAME, consumerName,
-                                        PENDING_TIMEOUT, pending.getId());
-
-                for (MapRecord<String, String, String> message : claimed) {
-                    onMessage(message);
-                    retryCount++;
-                }
-            }
-
-            if (retryCount > 0) {
-                log.info("PENDING 메시지 재처리 완료: {}건", retryCount);
-            }
-        } catch (Exception e) {
-            log.error("PENDING 메시지 재처리 중 에러: {}", e.getMessage());
-        }
-    }
-
     /**
      * 애플리케이션 종료 시 리스너 컨테이너와 스레드 풀을 정지한다.
      * 처리 중이던 메시지는 ACK되지 않아 PENDING에 남고,
-     * 재시작 시 retryPendingMessages()에서 재처리된다.
+     * 재시작 시 BidStreamRecoveryEngine에서 재처리된다.
      */
     @Override
     public void destroy() {
+        polling = false;
+        stopped = true;
         if (container != null && container.isRunning()) {
             container.stop();
             log.info("BidStreamConsumer 리스너 컨테이너 종료: consumer={}", consumerName);
@@ -0,0 +1,328 @@
+package com.cos.fairbid.bid.adapter.in.stream;
+
+import com.cos.fairbid.bid.adapter.out.stream.RedisBidStreamAdapter;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * RDB 동기화 컨슈머 적응형 동시성 제어 + 서킷 브레이커
+ *
+ * 스트림 컨슈머(리스너/배치 폴링/파티션 워커/복구 엔진)는 RDB 트랜잭션을 시작하기 전에 허가(permit)를 받고,
+ * 끝나면 소요 시간과 성공 여부를 반환한다. 동시에 실행되는 동기화 트랜잭션 수를 limit 이하로 제한하여
+ * MySQL이 느려지거나 내려가도 Hikari 커넥션 풀을 동기화가 모두 점유하지 않도록 한다.
+ *
+ * AIMD (조정은 adjust-interval-millis에 최대 1번):
+ * - 증가: 서킷이 닫혀 있고, 처리 시간이 target-latency-millis 이하이며, 스트림에 밀린 메시지가 있고,
+ *         현재 limit을 모두 사용 중이면 limit + 1 (max-concurrency까지)
+ * - 감소: 처리 시간이 목표를 넘거나 일시적 장애로 실패하면 limit / 2 (min-concurrency까지)
+ * 처리 시간은 fairbid_bid_rdb_sync_seconds / fairbid_bid_rdb_sync_batch_seconds와 같은 구간을 측정한 값이다.
+ *
+ * 서킷 브레이커:
+ * - CLOSED: 정상. 일시적 장애(DB/Redis 연결, 트랜잭션 시작 실패 등)가 failure-threshold번 연속되면 OPEN
+ * - OPEN: 허가를 내주지 않아 컨슈머가 읽기/처리를 멈춘다. open-millis 후 HALF_OPEN
+ *         (연속으로 다시 열리면 대기 시간을 2배씩 늘려 max-open-millis까지)
+ * - HALF_OPEN: 시험 허가 1개만 내준다. 성공하면 CLOSED(limit=min-concurrency부터 다시 증가), 실패하면 OPEN
+ *
+ * 독성 메시지 등 일시적 장애가 아닌 실패는 서킷/AIMD 판단에 포함하지 않는다 (dead-letter 대상).
+ * 서킷이 열려 있는 동안 배치 폴러와 파티션 워커는 XREADGROUP을 멈추고, 복구 엔진은 XAUTOCLAIM을 건너뛴다.
+ */
+@Component
+@Slf4j
+public class BidStreamFlowController {
+
+    /** 서킷 상태 (Gauge 값: CLOSED=0, HALF_OPEN=1, OPEN=2) */
+    enum CircuitState {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    /** 시각 원천 (nanoTime, 테스트에서 교체) */
+    private final LongSupplier nanoClock;
+    private final boolean enabled;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final long targetLatencyNanos;
+    private final long adjustIntervalNanos;
+    private final int failureThreshold;
+    private final long baseOpenNanos;
+    private final long maxOpenNanos;
+    private final Counter circuitOpenCounter;
+
+    // 아래 상태는 모두 this 모니터로 보호
+    private int limit;
+    private int inFlight;
+    private CircuitState state = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private long openNanos;
+    private long openUntilNanos;
+    private long lastAdjustNanos;
+    private boolean probeInFlight;
+
+    /** 스트림에 아직 처리되지 않은 메시지가 있는지 (스케줄러가 주기적으로 갱신) */
+    private volatile boolean backlog;
+
+    @Autowired
+    public BidStreamFlowController(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${bid.stream.flow.enabled:true}") boolean enabled,
+            @Value("${bid.stream.flow.min-concurrency:1}") int minConcurrency,
+            @Value("${bid.stream.flow.max-concurrency:10}") int maxConcurrency,
+            @Value("${bid.stream.flow.target-latency-millis:500}") long targetLatencyMillis,
+            @Value("${bid.stream.flow.adjust-interval-millis:1000}") long adjustIntervalMillis,
+            @Value("${bid.stream.flow.failure-threshold:5}") int failureThreshold,
+            @Value("${bid.stream.flow.open-millis:5000}") long openMillis,
+            @Value("${bid.stream.flow.max-open-millis:60000}") long maxOpenMillis
+    ) {
+        this(redisTemplate, meterRegistry, System::nanoTime, enabled, minConcurrency, maxConcurrency,
+                targetLatencyMillis, adjustIntervalMillis, failureThreshold, openMillis, maxOpenMillis);
+    }
+
+    /**
+     * 시각 원천을 지정하는 생성자 (테스트에서 서킷 대기 시간을 실제로 기다리지 않도록)
+     */
+    BidStreamFlowController(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            LongSupplier nanoClock,
+            boolean enabled,
+            int minConcurrency,
+            int maxConcurrency,
+            long targetLatencyMillis,
+            long adjustIntervalMillis,
+            int failureThreshold,
+            long openMillis,
+            long maxOpenMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.nanoClock = nanoClock;
+        this.enabled = enabled;
+        this.minConcurrency = minConcurrency;
+        this.maxConcurrency = maxConcurrency;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.adjustIntervalNanos = TimeUnit.MILLISECONDS.toNanos(adjustIntervalMillis);
+        this.failureThreshold = failureThreshold;
+        this.baseOpenNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.maxOpenNanos = TimeUnit.MILLISECONDS.toNanos(maxOpenMillis);
+        this.openNanos = baseOpenNanos;
+        // 정상 상태에서는 기존과 같은 동시성으로 시작
+        this.limit = maxConcurrency;
+
+        Gauge.builder("fairbid_stream_consumer_concurrency_limit", this, c -> c.snapshot()[0])
+                .description("RDB 동기화 컨슈머 동시 처리 한도 (AIMD)")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_stream_consumer_in_flight", this, c -> c.snapshot()[1])
+                .description("RDB 동기화 컨슈머 처리 중인 트랜잭션 수")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_stream_circuit_state", this, c -> c.snapshot()[2])
+                .description("RDB 동기화 서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .register(meterRegistry);
+        this.circuitOpenCounter = Counter.builder("fairbid_stream_circuit_open_total")
+                .description("RDB 동기화 서킷이 열린 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 동기화 트랜잭션 1건의 허가를 기다린다
+     *
+     * @param timeout 최대 대기 시간
+     * @return 허가를 받으면 true (반드시 {@link #release} 호출), 시간 내에 못 받으면 false
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public synchronized boolean acquire(Duration timeout) throws InterruptedException {
+        if (!enabled) {
+            return true;
+        }
+        long deadline = nanoClock.getAsLong() + timeout.toNanos();
+        while (true) {
+            long now = nanoClock.getAsLong();
+            if (state == CircuitState.OPEN && now >= openUntilNanos) {
+                state = CircuitState.HALF_OPEN;
+                probeInFlight = false;
+                log.info("RDB 동기화 서킷 HALF_OPEN: 시험 처리 시작");
+            }
+            if (state == CircuitState.CLOSED && inFlight < limit) {
+                inFlight++;
+                return true;
+            }
+            if (state == CircuitState.HALF_OPEN && !probeInFlight) {
+                probeInFlight = true;
+                inFlight++;
+                return true;
+            }
+
+            long remaining = deadline - now;
+            if (remaining <= 0) {
+                return false;
+            }
+            // OPEN이면 HALF_OPEN 전환 시각까지만 대기
+            long wait = state == CircuitState.OPEN ? Math.min(remaining, openUntilNanos - now) : remaining;
+            TimeUnit.NANOSECONDS.timedWait(this, Math.max(wait, 1));
+        }
+    }
+
+    /**
+     * 허가를 반납하고 처리 결과로 동시성 한도와 서킷 상태를 갱신한다
+     *
+     * @param elapsedNanos 처리 소요 시간
+     * @param failure      실패 원인 (성공이면 null)
+     */
+    public synchronized void release(long elapsedNanos, Throwable failure) {
+        if (!enabled) {
+            return;
+        }
+        inFlight--;
+        long now = nanoClock.getAsLong();
+        boolean transientFailure = failure != null && isTransient(failure);
+
+        if (state == CircuitState.HALF_OPEN) {
+            probeInFlight = false;
+            if (transientFailure) {
+                open(now, true);
+            } else {
+                state = CircuitState.CLOSED;
+                consecutiveFailures = 0;
+                openNanos = baseOpenNanos;
+                limit = minConcurrency;
+                lastAdjustNanos = now;
+                log.info("RDB 동기화 서킷 CLOSED: limit={}부터 증가", limit);
+            }
+            notifyAll();
+            return;
+        }
+
+        if (transientFailure) {
+            consecutiveFailures++;
+            if (state == CircuitState.CLOSED && consecutiveFailures >= failureThreshold) {
+                open(now, false);
+            } else {
+                decrease(now);
+            }
+        } else if (failure == null) {
+            consecutiveFailures = 0;
+            if (elapsedNanos > targetLatencyNanos) {
+                decrease(now);
+            } else if (backlog && inFlight + 1 >= limit && limit < maxConcurrency
+                    && now - lastAdjustNanos >= adjustIntervalNanos) {
+                limit++;
+                lastAdjustNanos = now;
+            }
+        }
+        notifyAll();
+    }
+
+    /**
+     * 서킷이 닫혀 있는지 (복구 엔진이 새 복구 라운드를 시작할지 판단)
+     */
+    public synchronized boolean isClosed() {
+        return !enabled || state == CircuitState.CLOSED;
+    }
+
+    /**
+     * 서킷이 열려 있어 새 메시지를 읽지 말아야 하는지 (HALF_OPEN 전환 시각이 지났으면 false)
+     */
+    public synchronized boolean isOpen() {
+        return enabled && state == CircuitState.OPEN && nanoClock.getAsLong() < openUntilNanos;
+    }
+
+    /**
+     * 스트림에 밀린 메시지가 있는지 갱신한다 (AIMD 증가 조건)
+     * 그룹의 last-delivered-id가 스트림 마지막 ID보다 뒤처졌거나 PENDING이 있으면 밀린 것으로 본다.
+     */
+    @Scheduled(fixedDelayString = "${bid.stream.flow.adjust-interval-millis:1000}")
+    public void refreshBacklog() {
+        if (!enabled) {
+            return;
+        }
+        boolean found = false;
+        for (String streamKey : streamKeys()) {
+            try {
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+                    continue;
+                }
+                String lastGeneratedId = redisTemplate.opsForStream().info(streamKey).lastGeneratedId();
+                for (StreamInfo.XInfoGroup group : redisTemplate.opsForStream().groups(streamKey)) {
+                    if (group.pendingCount() > 0 || !lastGeneratedId.equals(group.lastDeliveredId())) {
+                        found = true;
+                        break;
+                    }
+                }
+            } catch (Exception e) {
+                log.debug("스트림 적체 조회 실패: stream={}, error={}", streamKey, e.getMessage());
+            }
+            if (found) {
+                break;
+            }
+        }
+        backlog = found;
+    }
+
+    /**
+     * DB/Redis 연결 실패처럼 시간이 지나면 해소되는 장애인지 판단한다 (원인 체인 전체 확인)
+     */
+    static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void decrease(long now) {
+        if (now - lastAdjustNanos < adjustIntervalNanos) {
+            return;
+        }
+        limit = Math.max(minConcurrency, limit / 2);
+        lastAdjustNanos = now;
+    }
+
+    private void open(long now, boolean fromHalfOpen) {
+        if (fromHalfOpen) {
+            openNanos = Math.min(openNanos * 2, maxOpenNanos);
+        }
+        state = CircuitState.OPEN;
+        openUntilNanos = now + openNanos;
+        limit = minConcurrency;
+        circuitOpenCounter.increment();
+        log.warn("RDB 동기화 서킷 OPEN: {}ms 동안 소비 중단 (연속 실패 {}회)",
+                TimeUnit.NANOSECONDS.toMillis(openNanos), consecutiveFailures);
+    }
+
+    private synchronized double[] snapshot() {
+        return new double[]{limit, inFlight, state.ordinal()};
+    }
+
+    private static List<String> streamKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(RedisBidStreamAdapter.STREAM_KEY);
+        keys.addAll(AuctionRedisKeys.allBidStreamKeys());
+        return keys;
+    }
+}
@@ -1,15 +1,20 @@
 package com.cos.fairbid.bid.adapter.in.stream;
 
 import com.cos.fairbid.auction.application.port.out.AuctionRepositoryPort;
+import com.cos.fairbid.bid.adapter.out.stream.BidStreamPayload;
+import com.cos.fairbid.bid.adapter.out.stream.BidStreamPayload.InstantBuyUpdate;
 import com.cos.fairbid.bid.application.port.out.BidRepositoryPort;
 import com.cos.fairbid.bid.domain.Bid;
 import com.cos.fairbid.bid.domain.BidType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -19,6 +24,8 @@ import java.util.Map;
  * StreamMessageListenerContainer가 this::onMessage로 콜백을 등록하면
  * Spring 프록시를 우회하여 @Transactional이 적용되지 않는다.
  * 별도 빈으로 분리하여 프록시 기반 트랜잭션이 정상 동작하도록 한다.
+ *
+ * 메시지 형식: 필드별 문자열(레거시)과 단일 필드 compact 형식({@link BidStreamPayload})을 모두 처리한다.
  */
 @Component
 @RequiredArgsConstructor
@@ -33,11 +40,24 @@ public class BidStreamMessageHandler {
      * 트랜잭션 커밋 후 호출자(BidStreamConsumer)가 ACK를 전송한다.
      *
      * @param body     메시지 필드 맵
-     * @param recordId Stream Record ID (멱등 저장에 사용)
+     * @param recordId Stream Record ID (메시지에 dedupeKey가 없을 때 멱등 저장 키로 사용)
      * @throws IllegalArgumentException 알 수 없는 메시지 타입
      */
     @Transactional
     public void handle(Map<String, String> body, String recordId) {
+        String payload = BidStreamPayload.payloadOf(body);
+        if (payload != null) {
+            switch (BidStreamPayload.kindOf(payload)) {
+                case BidStreamPayload.KIND_BID_SAVE ->
+                        bidRepository.saveIdempotent(BidStreamPayload.decodeBidSave(payload),
+                                idempotencyKeyOf(BidStreamPayload.dedupeKeyOf(payload), recordId));
+                case BidStreamPayload.KIND_INSTANT_BUY_UPDATE ->
+                        updateInstantBuy(BidStreamPayload.decodeInstantBuyUpdate(payload));
+                default -> log.warn("알 수 없는 compact 메시지 종류: payload={}, recordId={}", payload, recordId);
+            }
+            return;
+        }
+
         String type = body.get("type");
 
         if (type == null) {
@@ -52,19 +72,78 @@ public class BidStreamMessageHandler {
         }
     }
 
+    /**
+     * 폴링 배치 전체를 하나의 트랜잭션으로 RDB에 저장한다.
+     * BID_SAVE는 다중 행 INSERT 한 번으로 묶고, INSTANT_BUY_UPDATE는 수신 순서대로 개별 UPDATE한다.
+     * 트랜잭션 커밋 후 호출자(BidStreamConsumer)가 배치의 모든 ID를 한 번에 ACK한다.
+     *
+     * @param messages 스트림 레코드 목록 (한 번의 XREADGROUP/XCLAIM 결과)
+     */
+    @Transactional
+    public void handleBatch(List<MapRecord<String, String, String>> messages) {
+        // 같은 배치에 재발행 중복이 함께 들어오면 멱등 키가 같아 한 건만 남는다
+        Map<String, Bid> bidsByKey = new LinkedHashMap<>();
+
+        for (MapRecord<String, String, String> message : messages) {
+            Map<String, String> body = message.getValue();
+            String recordId = message.getId().getValue();
+
+            String payload = BidStreamPayload.payloadOf(body);
+            if (payload != null) {
+                switch (BidStreamPayload.kindOf(payload)) {
+                    case BidStreamPayload.KIND_BID_SAVE ->
+                            bidsByKey.put(idempotencyKeyOf(BidStreamPayload.dedupeKeyOf(payload), recordId),
+                                    BidStreamPayload.decodeBidSave(payload));
+                    case BidStreamPayload.KIND_INSTANT_BUY_UPDATE ->
+                            updateInstantBuy(BidStreamPayload.decodeInstantBuyUpdate(payload));
+                    default -> log.warn("알 수 없는 compact 메시지 종류: payload={}, recordId={}", payload, recordId);
+                }
+                continue;
+            }
+
+            String type = body.get("type");
+
+            if (type == null) {
+                log.warn("메시지 타입 누락, 스킵: recordId={}", recordId);
+                continue;
+            }
+
+            switch (type) {
+                case "BID_SAVE" -> bidsByKey.put(
+                        idempotencyKeyOf(body.get(BidStreamPayload.DEDUPE_KEY_FIELD), recordId), toBid(body));
+                case "INSTANT_BUY_UPDATE" -> processInstantBuyUpdate(body);
+                default -> log.warn("알 수 없는 메시지 타입: type={}, recordId={}", type, recordId);
+            }
+        }
+
+        bidRepository.saveAllIdempotent(bidsByKey);
+    }
+
     /**
      * BID_SAVE 메시지 처리: 입찰 이력을 RDB에 멱등하게 저장한다.
      * streamRecordId unique 제약으로 at-least-once 중복 처리를 방지한다.
      */
     private void processBidSave(Map<String, String> body, String recordId) {
-        Bid bid = Bid.reconstitute()
+        bidRepository.saveIdempotent(toBid(body),
+                idempotencyKeyOf(body.get(BidStreamPayload.DEDUPE_KEY_FIELD), recordId));
+    }
+
+    /**
+     * 입찰 저장 멱등 키: 발행 측이 정한 dedupeKey, 없으면(스크립트 내 발행, 이전 메시지) Record ID
+     * 저널 재발행은 새 Record ID를 받으므로 dedupeKey가 있어야 XADD 시간 초과·재발행 중복을 걸러낸다.
+     */
+    private static String idempotencyKeyOf(String dedupeKey, String recordId) {
+        return dedupeKey != null && !dedupeKey.isEmpty() ? dedupeKey : recordId;
+    }
+
+    private Bid toBid(Map<String, String> body) {
+        return Bid.reconstitute()
                 .auctionId(Long.parseLong(body.get("auctionId")))
                 .bidderId(Long.parseLong(body.get("bidderId")))
                 .amount(Long.parseLong(body.get("amount")))
                 .bidType(BidType.valueOf(body.get("bidType")))
                 .createdAt(LocalDateTime.parse(body.get("createdAt")))
                 .build();
-        bidRepository.saveIdempotent(bid, recordId);
     }
 
     /**
@@ -81,4 +160,16 @@ public class BidStreamMessageHandler {
                 Long.parseLong(body.get("scheduledEndTimeMs"))
         );
     }
+
+    private void updateInstantBuy(InstantBuyUpdate update) {
+        auctionRepository.updateInstantBuyActivated(
+                update.auctionId(),
+                update.currentPrice(),
+                update.totalBidCount(),
+                update.bidIncrement(),
+                update.bidderId(),
+                update.currentTimeMs(),
+                update.scheduledEndTimeMs()
+        );
+    }
 }
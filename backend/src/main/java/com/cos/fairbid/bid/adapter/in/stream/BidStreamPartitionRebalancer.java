@@ -0,0 +1,427 @@
+package com.cos.fairbid.bid.adapter.in.stream;
+
+import com.cos.fairbid.bid.adapter.out.stream.RedisBidStreamAdapter;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 파티션 스트림 리스 기반 리밸런서 (bid.stream.partitioned=true 전용)
+ *
+ * 입찰 RDB 동기화 스트림을 경매 버킷별로 나눈 stream:bid-rdb-sync:{bucket}(16개)을
+ * 앱 인스턴스들이 나눠 소비한다. 파티션마다 소유자는 하나뿐이고 소유자 안에서도 스레드 하나가 순서대로 처리하므로,
+ * BidStreamMessageHandler는 같은 경매의 메시지를 발행 순서대로 받는다.
+ *
+ * 리스 동작 (rebalance-interval-millis마다, 전용 스레드 bid-stream-rebalancer에서 실행):
+ * 1. 인스턴스 하트비트 갱신 (ZSET stream:bid-rdb-sync:instances, score=최근 하트비트ms) 및 만료 인스턴스 제거
+ * 2. 목표 소유 수 = ceil(파티션 수 / 살아 있는 인스턴스 수)
+ * 3. 보유 리스 갱신 (소유자가 같을 때만 PEXPIRE), 갱신 실패한 파티션은 즉시 처리 중단
+ * 4. 목표보다 많이 보유하면 초과분을 처리 중단 후 반납, 적게 보유하면 빈 리스를 SET NX PX로 획득
+ *
+ * 파티션의 Consumer 이름은 소유 인스턴스와 무관하게 partition-{bucket}으로 고정한다.
+ * 새 소유자는 먼저 ID 0부터 읽어 이전 소유자가 ACK하지 못한 PENDING 메시지를 처리한 뒤 새 메시지로 넘어가므로
+ * 소유권이 이동해도 순서가 유지된다. 배치 처리가 실패하면 건별로 넘기지 않고 같은 배치부터 다시 처리한다.
+ * 같은 배치가 bid.stream.recovery.max-deliveries회 연속 실패하면 순서대로 건별 처리하며
+ * 독성 메시지는 dead-letter 스트림으로 옮긴다 (BidStreamRecoveryEngine.processOrDeadLetter, 일시적 장애면 중단 후 재시도).
+ *
+ * 리스 갱신은 공용 @Scheduled 스레드를 쓰지 않는다. 다른 주기 작업이 길어져 갱신이 TTL(15초)을 넘기면
+ * 리스를 잃고 소유권이 불필요하게 이동하기 때문이다. 워커 정지도 기다리지 않고 요청만 하며,
+ * 반납할 파티션은 워커가 처리 중인 배치를 끝내고 나갈 때 스스로 리스를 반납한다.
+ * 정지를 요청한 워커가 실제로 끝나기 전에는 같은 파티션을 다시 획득하지 않는다 (한 파티션에 워커 두 개가 겹치지 않도록).
+ *
+ * 인스턴스를 늘리면 파티션이 고르게 재분배되어 동기화 처리량이 파티션 수(16)까지 선형으로 늘어난다.
+ * 리스 만료 직전 GC 정지 등으로 잠시 두 소유자가 겹칠 수 있으나, 저장이 stream_record_id 기준 멱등이라 중복 행은 생기지 않는다.
+ */
+@Component
+@Slf4j
+public class BidStreamPartitionRebalancer implements DisposableBean {
+
+    private static final String INSTANCES_KEY = RedisBidStreamAdapter.STREAM_KEY + ":instances";
+    private static final String LEASE_KEY_PREFIX = RedisBidStreamAdapter.STREAM_KEY + ":lease:";
+    private static final int PARTITION_COUNT = AuctionRedisKeys.CLOSING_QUEUE_BUCKETS;
+    private static final int POLL_BATCH_SIZE = 50;
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    /** 처리 실패 후 같은 배치를 다시 읽기 전 대기 시간 */
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+    /** 종료 시 처리 중인 배치가 끝나기를 기다리는 최대 시간 */
+    private static final Duration WORKER_STOP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final BidStreamConsumer streamConsumer;
+    private final BidStreamRecoveryEngine recoveryEngine;
+    private final BidStreamFlowController flowController;
+    private final boolean enabled;
+    private final long maxDeliveries;
+    private final long leaseTtlMillis;
+    private final long rebalanceIntervalMillis;
+    private final String instanceId = "instance-" + UUID.randomUUID().toString().substring(0, 8);
+
+    /** 보유 중인 파티션 → 워커 */
+    private final Map<Integer, PartitionWorker> workers = new ConcurrentHashMap<>();
+    /** 정지를 요청했지만 아직 끝나지 않은 파티션 → 워커 (워커가 끝나면서 제거) */
+    private final Map<Integer, PartitionWorker> stopping = new ConcurrentHashMap<>();
+    private final AtomicInteger ownedPartitions = new AtomicInteger(0);
+
+    private DefaultRedisScript<Long> renewScript;
+    private DefaultRedisScript<Long> releaseScript;
+    private ExecutorService workerExecutor;
+    private ScheduledExecutorService rebalanceScheduler;
+
+    public BidStreamPartitionRebalancer(
+            StringRedisTemplate redisTemplate,
+            BidStreamConsumer streamConsumer,
+            BidStreamRecoveryEngine recoveryEngine,
+            BidStreamFlowController flowController,
+            MeterRegistry meterRegistry,
+            @Value("${bid.stream.partitioned:true}") boolean enabled,
+            @Value("${bid.stream.partition.lease-ttl-millis:15000}") long leaseTtlMillis,
+            @Value("${bid.stream.partition.rebalance-interval-millis:3000}") long rebalanceIntervalMillis,
+            @Value("${bid.stream.recovery.max-deliveries:5}") long maxDeliveries
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.streamConsumer = streamConsumer;
+        this.recoveryEngine = recoveryEngine;
+        this.flowController = flowController;
+        this.enabled = enabled;
+        this.maxDeliveries = maxDeliveries;
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.rebalanceIntervalMillis = rebalanceIntervalMillis;
+
+        Gauge.builder("fairbid_stream_partitions_owned", ownedPartitions, AtomicInteger::get)
+                .description("이 인스턴스가 소유한 입찰 동기화 스트림 파티션 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        renewScript = loadScript("scripts/lease-renew.lua");
+        releaseScript = loadScript("scripts/lease-release.lua");
+
+        // 한 인스턴스가 모든 파티션을 소유할 수 있으므로 파티션 수만큼 스레드 확보
+        AtomicInteger threadSeq = new AtomicInteger();
+        workerExecutor = Executors.newFixedThreadPool(PARTITION_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "bid-stream-partition-" + threadSeq.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (String streamKey : AuctionRedisKeys.allBidStreamKeys()) {
+            streamConsumer.createConsumerGroupIfNotExists(streamKey);
+        }
+
+        // 리스 갱신은 공용 스케줄러 스레드와 분리 (다른 주기 작업 지연에 영향받지 않음)
+        rebalanceScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bid-stream-rebalancer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebalanceScheduler.scheduleWithFixedDelay(this::rebalance, 0, rebalanceIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("파티션 스트림 리밸런서 시작: instance={}, partitions={}, leaseTtlMillis={}",
+                instanceId, PARTITION_COUNT, leaseTtlMillis);
+    }
+
+    /**
+     * 하트비트 갱신 후 목표 소유 수에 맞춰 리스를 갱신/반납/획득한다
+     */
+    void rebalance() {
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().add(INSTANCES_KEY, instanceId, now);
+            redisTemplate.opsForZSet().removeRangeByScore(INSTANCES_KEY, 0, now - leaseTtlMillis);
+            Long live = redisTemplate.opsForZSet().zCard(INSTANCES_KEY);
+            int liveInstances = (live == null || live < 1) ? 1 : live.intValue();
+            int target = (PARTITION_COUNT + liveInstances - 1) / liveInstances;
+
+            renewOwnedLeases();
+            releaseExcess(target);
+            acquireFree(target);
+
+            ownedPartitions.set(workers.size());
+        } catch (Exception e) {
+            log.error("파티션 리밸런싱 실패: {}", e.getMessage());
+        }
+    }
+
+    private void renewOwnedLeases() {
+        for (Integer partition : List.copyOf(workers.keySet())) {
+            Long renewed = redisTemplate.execute(renewScript, List.of(leaseKey(partition)),
+                    instanceId, String.valueOf(leaseTtlMillis));
+            if (renewed == null || renewed == 0) {
+                // 이미 다른 인스턴스가 가져간 파티션이므로 반납 없이 처리만 중단
+                log.warn("파티션 리스 상실: partition={}", partition);
+                requestStop(partition, false);
+            }
+        }
+    }
+
+    private void releaseExcess(int target) {
+        List<Integer> owned = workers.keySet().stream().sorted().toList();
+        for (int i = target; i < owned.size(); i++) {
+            Integer partition = owned.get(i);
+            // 처리 중인 배치를 끝낸 뒤 반납해야 다음 소유자와 겹치지 않으므로, 워커가 나가면서 반납한다
+            // (그 전까지 리스는 이 인스턴스 소유로 남아 SET NX 획득이 실패하므로 다른 소유자와 겹치지 않음)
+            requestStop(partition, true);
+            log.info("파티션 반납 요청: partition={}, target={}", partition, target);
+        }
+    }
+
+    private void acquireFree(int target) {
+        // 인스턴스마다 시작 위치를 달리해 동시 획득 경합을 줄임
+        int offset = Math.floorMod(instanceId.hashCode(), PARTITION_COUNT);
+        for (int i = 0; i < PARTITION_COUNT && workers.size() < target; i++) {
+            int partition = (offset + i) % PARTITION_COUNT;
+            if (workers.containsKey(partition) || stopping.containsKey(partition)) {
+                // 정지 중인 워커가 아직 배치를 처리하고 있을 수 있으므로 끝날 때까지 획득하지 않음
+                continue;
+            }
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey(partition), instanceId, Duration.ofMillis(leaseTtlMillis));
+            if (Boolean.TRUE.equals(acquired)) {
+                startWorker(partition);
+                log.info("파티션 획득: partition={}, target={}", partition, target);
+            }
+        }
+    }
+
+    private void startWorker(int partition) {
+        PartitionWorker worker = new PartitionWorker(partition);
+        worker.future = workerExecutor.submit(worker);
+        workers.put(partition, worker);
+    }
+
+    /**
+     * 워커 정지를 요청만 하고 기다리지 않는다 (리밸런스 스레드가 리스 갱신을 계속할 수 있도록)
+     *
+     * @param releaseLease true면 워커가 처리 중인 배치를 끝내고 나갈 때 리스를 반납
+     */
+    private void requestStop(Integer partition, boolean releaseLease) {
+        PartitionWorker worker = workers.remove(partition);
+        if (worker == null) {
+            return;
+        }
+        stopping.put(partition, worker);
+        worker.releaseLeaseOnExit = releaseLease;
+        worker.active = false;
+        if (worker.exited) {
+            // 정지 요청 전에 이미 끝난 워커 (등록과 제거가 엇갈린 경우)
+            stopping.remove(partition, worker);
+        }
+    }
+
+    /**
+     * 워커를 멈추고 처리 중인 배치가 끝나기를 기다린다 (종료 시에만 사용)
+     */
+    private void stopWorker(Integer partition) {
+        PartitionWorker worker = workers.remove(partition);
+        if (worker == null) {
+            return;
+        }
+        worker.active = false;
+        try {
+            worker.future.get(WORKER_STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            worker.future.cancel(true);
+            log.warn("파티션 워커 정지 시간 초과: partition={}", partition);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("파티션 워커 정지 중 에러: partition={}, error={}", partition, e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 워커를 멈추고 리스와 하트비트를 반납하여 다른 인스턴스가 바로 인수하도록 한다
+     */
+    @Override
+    public void destroy() {
+        if (!enabled) {
+            return;
+        }
+        if (rebalanceScheduler != null) {
+            rebalanceScheduler.shutdownNow();
+        }
+        for (Integer partition : List.copyOf(workers.keySet())) {
+            stopWorker(partition);
+            try {
+                redisTemplate.execute(releaseScript, List.of(leaseKey(partition)), instanceId);
+            } catch (Exception e) {
+                log.debug("파티션 리스 반납 실패 (TTL 만료로 해제됨): partition={}", partition);
+            }
+        }
+        try {
+            redisTemplate.opsForZSet().remove(INSTANCES_KEY, instanceId);
+        } catch (Exception e) {
+            log.debug("인스턴스 하트비트 제거 실패: {}", e.getMessage());
+        }
+        if (workerExecutor != null) {
+            workerExecutor.shutdownNow();
+        }
+        ownedPartitions.set(0);
+        log.info("파티션 스트림 리밸런서 종료: instance={}", instanceId);
+    }
+
+    private static String leaseKey(int partition) {
+        return LEASE_KEY_PREFIX + partition;
+    }
+
+    private static DefaultRedisScript<Long> loadScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 파티션 하나를 순서대로 소비하는 워커
+     * PENDING(ID 0부터)을 먼저 모두 처리한 뒤 새 메시지(>)를 읽고, 실패하면 다시 PENDING부터 읽는다.
+     * 서킷이 열려 있는 동안에는 읽지 않으며, 이 대기는 연속 실패 횟수에 더하지 않는다.
+     */
+    private final class PartitionWorker implements Runnable {
+
+        private final int partition;
+        private final String streamKey;
+        private final Consumer consumer;
+        private volatile boolean active = true;
+        /** 정지 후 나가면서 리스를 반납할지 여부 (초과 보유 반납 시 true) */
+        private volatile boolean releaseLeaseOnExit;
+        /** run()을 빠져나왔는지 여부 (stopping 등록과 제거가 엇갈려도 항목이 남지 않도록) */
+        private volatile boolean exited;
+        private Future<?> future;
+
+        private PartitionWorker(int partition) {
+            this.partition = partition;
+            this.streamKey = AuctionRedisKeys.bidStreamKeyOfBucket(partition);
+            this.consumer = Consumer.from(BidStreamConsumer.GROUP_NAME, "partition-" + partition);
+        }
+
+        @Override
+        public void run() {
+            try {
+                consume();
+            } finally {
+                if (releaseLeaseOnExit) {
+                    releaseLease();
+                }
+                exited = true;
+                stopping.remove(partition, this);
+            }
+        }
+
+        private void releaseLease() {
+            try {
+                redisTemplate.execute(releaseScript, List.of(leaseKey(partition)), instanceId);
+                log.info("파티션 반납: partition={}", partition);
+            } catch (Exception e) {
+                log.warn("파티션 리스 반납 실패 (TTL 만료로 해제됨): partition={}, error={}", partition, e.getMessage());
+            }
+        }
+
+        private void consume() {
+            StreamOperations<String, String, String> streamOps = redisTemplate.opsForStream();
+            boolean replayPending = true;
+            // 연속 실패 중인 배치의 첫 메시지 ID와 실패 횟수
+            RecordId failingHeadId = null;
+            int consecutiveFailures = 0;
+
+            while (active) {
+                if (flowController.isOpen()) {
+                    sleepQuietly(POLL_TIMEOUT);
+                    continue;
+                }
+                List<MapRecord<String, String, String>> records = null;
+                try {
+                    records = replayPending
+                            ? streamOps.read(consumer, StreamReadOptions.empty().count(POLL_BATCH_SIZE),
+                                    StreamOffset.create(streamKey, ReadOffset.from("0")))
+                            : streamOps.read(consumer, StreamReadOptions.empty().count(POLL_BATCH_SIZE).block(POLL_TIMEOUT),
+                                    StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
+
+                    if (records == null || records.isEmpty()) {
+                        replayPending = false;
+                        continue;
+                    }
+                    // 읽는 동안 리스를 잃었으면 처리하지 않음 (새 소유자가 PENDING부터 처리)
+                    if (!active) {
+                        break;
+                    }
+                    if (consecutiveFailures >= maxDeliveries && records.get(0).getId().equals(failingHeadId)) {
+                        processInOrderWithDeadLetter(records);
+                    } else {
+                        streamConsumer.processBatch(records);
+                    }
+                    failingHeadId = null;
+                    consecutiveFailures = 0;
+                } catch (Exception e) {
+                    if (!active) {
+                        break;
+                    }
+                    RecordId headId = (records == null || records.isEmpty()) ? null : records.get(0).getId();
+                    if (headId != null && headId.equals(failingHeadId)) {
+                        consecutiveFailures++;
+                    } else {
+                        failingHeadId = headId;
+                        consecutiveFailures = 1;
+                    }
+                    // 뒤 메시지가 먼저 저장되지 않도록 같은 배치부터 다시 처리
+                    replayPending = true;
+                    log.error("파티션 배치 처리 실패 (재시도): partition={}, failures={}, error={}",
+                            partition, consecutiveFailures, e.getMessage());
+                    sleepQuietly(RETRY_BACKOFF);
+                }
+            }
+        }
+
+        /**
+         * 반복 실패한 배치를 순서대로 건별 처리한다
+         * 일시적 장애로 멈추면 예외를 던져 같은 위치부터 다시 시도하게 한다.
+         */
+        private void processInOrderWithDeadLetter(List<MapRecord<String, String, String>> records) {
+            for (MapRecord<String, String, String> record : records) {
+                if (!recoveryEngine.processOrDeadLetter(record)) {
+                    throw new IllegalStateException("일시적 장애로 건별 처리 중단: recordId=" + record.getId());
+                }
+            }
+        }
+
+        private void sleepQuietly(Duration duration) {
+            try {
+                Thread.sleep(duration.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                active = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.cos.fairbid.bid.adapter.in.stream;
+
+import com.cos.fairbid.bid.adapter.out.stream.RedisBidStreamAdapter;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입찰 RDB 동기화 스트림 PENDING 복구 엔진
+ *
+ * 단일 스트림(stream:bid-rdb-sync)에서 min-idle 이상 ACK되지 않은 메시지를
+ * XAUTOCLAIM(stream-autoclaim.lua)으로 claim-count건씩 가져와 병렬로 배치 재처리한다.
+ * 커서를 따라 PENDING 목록을 끝까지 훑으므로 DB 복구 후 밀린 메시지가 수 초 안에 소진된다.
+ *
+ * 독성 메시지 (dead-letter):
+ * - 전달 횟수가 max-deliveries 이상인 메시지는 건별로 한 번 더 처리해 보고,
+ *   일시적 장애(DB/Redis 연결, 트랜잭션 시작 실패 등)가 아닌 이유로 실패하면
+ *   stream:bid-rdb-sync:dlq에 원본 필드와 실패 정보를 남기고 원본을 ACK한다.
+ * - DB 장애가 길어져 전달 횟수가 쌓여도 일시적 장애로 실패한 메시지는 dead-letter로 보내지 않는다.
+ * - 파티션 워커(BidStreamPartitionRebalancer)도 같은 배치가 반복 실패하면 {@link #processOrDeadLetter}를 사용한다.
+ *
+ * 고아 Consumer 정리:
+ * - 종료된 인스턴스가 남긴 Consumer(무작위 이름) 중 PENDING이 없고 orphan-consumer-idle-millis 이상 유휴인 것을
+ *   XGROUP DELCONSUMER로 삭제한다. PENDING이 남은 Consumer는 XAUTOCLAIM으로 비워진 뒤 다음 주기에 삭제된다.
+ *
+ * XAUTOCLAIM 반복과 재처리 대기는 전용 스레드(bid-stream-recovery-claim)에서 수행하고 스케줄러 스레드는 제출만 한다.
+ * 이전 복구가 끝나지 않았으면 새로 제출하지 않는다.
+ *
+ * 재처리도 BidStreamConsumer를 거치므로 BidStreamFlowController의 동시성 한도를 함께 사용한다.
+ *
+ * 파티션 스트림은 경매별 순서를 지키기 위해 소유 워커가 직접 PENDING을 재처리하므로 XAUTOCLAIM 대상에서 제외한다.
+ */
+@Component
+@Slf4j
+public class BidStreamRecoveryEngine implements DisposableBean {
+
+    /** dead-letter 스트림 (단일 스트림과 파티션 스트림 공용) */
+    public static final String DEAD_LETTER_STREAM_KEY = RedisBidStreamAdapter.STREAM_KEY + ":dlq";
+    private static final String STREAM_KEY = RedisBidStreamAdapter.STREAM_KEY;
+    private static final String GROUP_NAME = BidStreamConsumer.GROUP_NAME;
+    /** 병렬 재처리 단위 (BidStreamConsumer 배치 크기와 동일) */
+    private static final int RECOVERY_BATCH_SIZE = 50;
+    /** 1회 복구 시 최대 XAUTOCLAIM 반복 횟수 (남은 PENDING은 다음 주기에 이어서 처리) */
+    private static final int MAX_ROUNDS_PER_RUN = 20;
+    /** dead-letter 메시지에 남기는 에러 메시지 최대 길이 */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final BidStreamConsumer streamConsumer;
+    private final BidStreamFlowController flowController;
+    private final String consumerName = "recovery-" + UUID.randomUUID().toString().substring(0, 8);
+    private final long minIdleMillis;
+    private final int claimCount;
+    private final int parallelism;
+    private final long maxDeliveries;
+    private final long orphanConsumerIdleMillis;
+
+    private final Counter recoveredCounter;
+    private final Counter deadLetterCounter;
+    private final Counter orphanConsumerCounter;
+    private final AtomicLong deadLetterLength = new AtomicLong(0);
+
+    private DefaultRedisScript<List> autoClaimScript;
+    private ThreadPoolTaskExecutor executor;
+    /** XAUTOCLAIM 반복을 실행하는 단일 스레드 (재처리 풀과 분리해야 재처리 완료 대기 중 교착이 없음) */
+    private ExecutorService claimExecutor;
+    private final AtomicBoolean recoveryRunning = new AtomicBoolean(false);
+
+    public BidStreamRecoveryEngine(
+            StringRedisTemplate redisTemplate,
+            BidStreamConsumer streamConsumer,
+            BidStreamFlowController flowController,
+            MeterRegistry meterRegistry,
+            @Value("${bid.stream.recovery.min-idle-millis:30000}") long minIdleMillis,
+            @Value("${bid.stream.recovery.claim-count:500}") int claimCount,
+            @Value("${bid.stream.recovery.parallelism:4}") int parallelism,
+            @Value("${bid.stream.recovery.max-deliveries:5}") long maxDeliveries,
+            @Value("${bid.stream.recovery.orphan-consumer-idle-millis:3600000}") long orphanConsumerIdleMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.streamConsumer = streamConsumer;
+        this.flowController = flowController;
+        this.minIdleMillis = minIdleMillis;
+        this.claimCount = claimCount;
+        this.parallelism = parallelism;
+        this.maxDeliveries = maxDeliveries;
+        this.orphanConsumerIdleMillis = orphanConsumerIdleMillis;
+
+        this.recoveredCounter = Counter.builder("fairbid_stream_recovered_total")
+                .description("XAUTOCLAIM으로 인수하여 재처리한 PENDING 메시지 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("fairbid_stream_dead_letter_total")
+                .description("dead-letter 스트림으로 이동한 독성 메시지 수")
+                .register(meterRegistry);
+        this.orphanConsumerCounter = Counter.builder("fairbid_stream_orphan_consumer_deleted_total")
+                .description("삭제된 고아 Consumer 수")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_stream_dead_letter_length", deadLetterLength, AtomicLong::get)
+                .description("dead-letter 스트림 길이")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        autoClaimScript = new DefaultRedisScript<>();
+        autoClaimScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/stream-autoclaim.lua")));
+        autoClaimScript.setResultType(List.class);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(claimCount / RECOVERY_BATCH_SIZE + 1);
+        executor.setThreadNamePrefix("bid-stream-recovery-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        claimExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bid-stream-recovery-claim");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * PENDING 메시지 복구 제출 + 고아 Consumer 정리
+     */
+    @Scheduled(fixedDelayString = "${bid.stream.recovery.interval-millis:5000}")
+    public void recover() {
+        // 서킷이 닫혀 있지 않으면(DB 장애) 인수해도 실패만 반복하므로 PENDING을 그대로 둔다
+        if (flowController.isClosed()) {
+            submitRecovery();
+        }
+
+        deleteOrphanConsumers();
+        refreshDeadLetterLength();
+    }
+
+    /**
+     * PENDING 복구를 전용 스레드에 제출한다 (이전 복구가 진행 중이면 생략)
+     */
+    private void submitRecovery() {
+        if (!recoveryRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            claimExecutor.execute(() -> {
+                try {
+                    long recovered = recoverPending();
+                    if (recovered > 0) {
+                        log.info("PENDING 메시지 복구 완료: {}건", recovered);
+                    }
+                } catch (Exception e) {
+                    log.error("PENDING 메시지 복구 중 에러: {}", e.getMessage());
+                } finally {
+                    recoveryRunning.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            recoveryRunning.set(false);
+        }
+    }
+
+    /**
+     * 커서를 따라 XAUTOCLAIM을 반복하며 인수한 메시지를 병렬 재처리한다
+     *
+     * @return 인수한 메시지 수
+     */
+    private long recoverPending() {
+        long total = 0;
+        String cursor = "0-0";
+
+        for (int round = 0; round < MAX_ROUNDS_PER_RUN; round++) {
+            List<Object> result = redisTemplate.execute(autoClaimScript, List.of(STREAM_KEY),
+                    GROUP_NAME, consumerName, String.valueOf(minIdleMillis), cursor, String.valueOf(claimCount));
+            if (result == null || result.isEmpty()) {
+                break;
+            }
+
+            List<MapRecord<String, String, String>> fresh = new ArrayList<>();
+            List<MapRecord<String, String, String>> suspects = new ArrayList<>();
+            for (int i = 1; i < result.size(); i++) {
+                ClaimedRecord claimed = toClaimedRecord(result.get(i));
+                (claimed.deliveries() >= maxDeliveries ? suspects : fresh).add(claimed.record());
+            }
+
+            reprocessInParallel(fresh);
+            suspects.forEach(this::processOrDeadLetter);
+            total += fresh.size() + suspects.size();
+
+            cursor = String.valueOf(result.get(0));
+            if ("0-0".equals(cursor)) {
+                break;
+            }
+        }
+
+        recoveredCounter.increment(total);
+        return total;
+    }
+
+    /**
+     * RECOVERY_BATCH_SIZE건씩 나눠 병렬로 배치 재처리하고 모두 끝날 때까지 기다린다
+     * (BidStreamConsumer.onBatch: 배치 실패 시 건별 처리로 전환)
+     */
+    private void reprocessInParallel(List<MapRecord<String, String, String>> records) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < records.size(); from += RECOVERY_BATCH_SIZE) {
+            List<MapRecord<String, String, String>> batch =
+                    records.subList(from, Math.min(from + RECOVERY_BATCH_SIZE, records.size()));
+            futures.add(CompletableFuture.runAsync(() -> streamConsumer.onBatch(batch), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * 메시지 1건을 처리하고, 일시적 장애가 아닌 이유로 실패하면 dead-letter 스트림으로 옮긴다
+     *
+     * @param record 처리할 메시지
+     * @return 처리 또는 dead-letter 이동 완료 시 true, 일시적 장애로 PENDING에 남긴 경우 false
+     */
+    boolean processOrDeadLetter(MapRecord<String, String, String> record) {
+        try {
+            streamConsumer.processBatch(List.of(record));
+            return true;
+        } catch (Exception e) {
+            if (BidStreamFlowController.isTransient(e)) {
+                log.warn("일시적 장애로 재처리 보류: stream={}, recordId={}, error={}",
+                        record.getStream(), record.getId(), e.getMessage());
+                return false;
+            }
+            deadLetter(record, e);
+            return true;
+        }
+    }
+
+    /**
+     * 원본 필드에 실패 정보를 더해 dead-letter 스트림에 XADD한 뒤 원본을 ACK한다
+     */
+    private void deadLetter(MapRecord<String, String, String> record, Exception cause) {
+        Map<String, String> body = new LinkedHashMap<>(record.getValue());
+        body.put("_stream", record.getStream());
+        body.put("_recordId", record.getId().getValue());
+        body.put("_error", truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage()));
+        body.put("_deadLetteredAtMs", String.valueOf(System.currentTimeMillis()));
+
+        redisTemplate.opsForStream().add(StreamRecords.string(body).withStreamKey(DEAD_LETTER_STREAM_KEY));
+        redisTemplate.opsForStream().acknowledge(record.getStream(), GROUP_NAME, record.getId());
+        deadLetterCounter.increment();
+        log.error("독성 메시지 dead-letter 이동: stream={}, recordId={}, error={}",
+                record.getStream(), record.getId(), cause.getMessage());
+    }
+
+    /**
+     * PENDING이 없고 오래 유휴 상태인 Consumer를 삭제한다 (단일 스트림 + 파티션 스트림)
+     */
+    private void deleteOrphanConsumers() {
+        List<String> streamKeys = new ArrayList<>();
+        streamKeys.add(STREAM_KEY);
+        streamKeys.addAll(AuctionRedisKeys.allBidStreamKeys());
+
+        for (String streamKey : streamKeys) {
+            try {
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+                    continue;
+                }
+                StreamInfo.XInfoConsumers consumers = redisTemplate.opsForStream().consumers(streamKey, GROUP_NAME);
+                if (consumers == null) {
+                    continue;
+                }
+                for (StreamInfo.XInfoConsumer consumer : consumers) {
+                    if (consumer.pendingCount() == 0 && consumer.idleTimeMs() >= orphanConsumerIdleMillis) {
+                        redisTemplate.opsForStream().deleteConsumer(streamKey,
+                                Consumer.from(GROUP_NAME, consumer.consumerName()));
+                        orphanConsumerCounter.increment();
+                        log.info("고아 Consumer 삭제: stream={}, consumer={}, idleMs={}",
+                                streamKey, consumer.consumerName(), consumer.idleTimeMs());
+                    }
+                }
+            } catch (Exception e) {
+                // 그룹이 아직 없는 스트림 등
+                log.debug("고아 Consumer 정리 실패: stream={}, error={}", streamKey, e.getMessage());
+            }
+        }
+    }
+
+    private void refreshDeadLetterLength() {
+        try {
+            Long length = redisTemplate.opsForStream().size(DEAD_LETTER_STREAM_KEY);
+            deadLetterLength.set(length != null ? length : 0);
+        } catch (Exception e) {
+            log.debug("dead-letter 스트림 길이 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ClaimedRecord toClaimedRecord(Object raw) {
+        List<Object> item = (List<Object>) raw;
+        String id = String.valueOf(item.get(0));
+        long deliveries = ((Number) item.get(1)).longValue();
+
+        Map<String, String> body = new LinkedHashMap<>();
+        for (int i = 2; i + 1 < item.size(); i += 2) {
+            body.put(String.valueOf(item.get(i)), String.valueOf(item.get(i + 1)));
+        }
+        MapRecord<String, String, String> record = StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .withId(RecordId.of(id))
+                .ofMap(body);
+        return new ClaimedRecord(record, deliveries);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    @Override
+    public void destroy() {
+        if (claimExecutor != null) {
+            claimExecutor.shutdownNow();
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * XAUTOCLAIM으로 인수한 메시지와 전달 횟수
+     */
+    private record ClaimedRecord(MapRecord<String, String, String> record, long deliveries) {
+    }
+}
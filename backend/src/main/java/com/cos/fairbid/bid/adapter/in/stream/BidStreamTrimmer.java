@@ -0,0 +1,289 @@
+package com.cos.fairbid.bid.adapter.in.stream;
+
+import com.cos.fairbid.bid.adapter.out.stream.BidStreamArchiver;
+import com.cos.fairbid.bid.adapter.out.stream.RedisBidStreamAdapter;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입찰 RDB 동기화 스트림 트리머
+ *
+ * XADD에 MAXLEN을 두지 않으므로 ACK까지 끝난 메시지도 스트림에 계속 남는다.
+ * 주기적으로 Consumer Group 기준 워터마크(아직 ACK되지 않은 가장 낮은 ID)를 계산하고
+ * XTRIM MINID로 그보다 오래된 레코드를 삭제한다.
+ *
+ * 워터마크 계산 (그룹별로 구한 뒤 최솟값):
+ * - PENDING이 있으면 XPENDING의 최소 ID (그 이전은 모두 ACK 완료)
+ * - PENDING이 없으면 last-delivered-id 다음 ID (전달된 메시지가 모두 ACK 완료)
+ * - 최근 min-retention-millis 구간은 디버깅을 위해 남긴다
+ * - Consumer Group이 없으면 트리밍하지 않는다 (소비 전 메시지 유실 방지)
+ *
+ * 아카이브가 켜져 있으면 삭제 구간을 먼저 세그먼트 파일로 기록하고, 기록에 성공한 범위까지만 트리밍한다.
+ * 여러 인스턴스가 동시에 같은 구간을 아카이브하지 않도록 Redis 락(SET NX PX)으로 한 인스턴스만 실행한다.
+ *
+ * 단일 스트림과 버킷별 파티션 스트림(stream:bid-rdb-sync:{bucket})을 모두 같은 방식으로 트리밍한다.
+ * 스트림 길이(XLEN)와 메모리 사용량(MEMORY USAGE)은 전체 스트림 합계로, 트리밍 여부와 관계없이 Gauge로 노출한다.
+ */
+@Component
+@Slf4j
+public class BidStreamTrimmer {
+
+    private static final String LOCK_KEY = RedisBidStreamAdapter.STREAM_KEY + ":trim-lock";
+    /** 트리밍 대상 스트림 (단일 스트림 + 버킷별 파티션 스트림) */
+    private static final List<String> STREAM_KEYS = streamKeys();
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    /** 아카이브 시 XRANGE 1회 조회 건수 */
+    private static final int ARCHIVE_READ_CHUNK = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final BidStreamArchiver archiver;
+    private final boolean enabled;
+    private final long minRetentionMillis;
+    private final int maxArchiveRecordsPerRun;
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    private final AtomicLong streamLength = new AtomicLong(0);
+    private final AtomicLong streamMemoryBytes = new AtomicLong(0);
+    private final Counter trimmedCounter;
+    private final Counter archivedCounter;
+
+    public BidStreamTrimmer(
+            StringRedisTemplate redisTemplate,
+            BidStreamArchiver archiver,
+            MeterRegistry meterRegistry,
+            @Value("${bid.stream.trim.enabled:true}") boolean enabled,
+            @Value("${bid.stream.trim.min-retention-millis:60000}") long minRetentionMillis,
+            @Value("${bid.stream.archive.max-records-per-run:50000}") int maxArchiveRecordsPerRun
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.archiver = archiver;
+        this.enabled = enabled;
+        this.minRetentionMillis = minRetentionMillis;
+        this.maxArchiveRecordsPerRun = maxArchiveRecordsPerRun;
+
+        Gauge.builder("fairbid_stream_length", streamLength, AtomicLong::get)
+                .description("입찰 RDB 동기화 스트림 길이 (XLEN)")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_stream_memory_bytes", streamMemoryBytes, AtomicLong::get)
+                .description("입찰 RDB 동기화 스트림 메모리 사용량 (MEMORY USAGE)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.trimmedCounter = Counter.builder("fairbid_stream_trimmed_total")
+                .description("XTRIM으로 삭제된 스트림 레코드 수")
+                .register(meterRegistry);
+        this.archivedCounter = Counter.builder("fairbid_stream_archived_total")
+                .description("세그먼트 파일로 아카이브된 스트림 레코드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 워터마크 이전 구간을 (아카이브 후) 트리밍하고 스트림 Gauge를 갱신한다
+     */
+    @Scheduled(fixedDelayString = "${bid.stream.trim.interval-millis:10000}")
+    public void trim() {
+        try {
+            if (enabled && acquireLock()) {
+                try {
+                    for (String streamKey : STREAM_KEYS) {
+                        trimBelowWatermark(streamKey);
+                    }
+                } finally {
+                    releaseLock();
+                }
+            }
+        } catch (Exception e) {
+            log.error("스트림 트리밍 실패: {}", e.getMessage());
+        }
+
+        refreshGauges();
+    }
+
+    private void trimBelowWatermark(String streamKey) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+            return;
+        }
+        String watermark = computeWatermark(streamKey);
+        if (watermark == null) {
+            return;
+        }
+
+        if (archiver.isEnabled()) {
+            watermark = archiveBelow(streamKey, watermark);
+        }
+
+        long trimmed = xtrimMinId(streamKey, watermark);
+        if (trimmed > 0) {
+            trimmedCounter.increment(trimmed);
+            log.info("스트림 트리밍: stream={}, minId={}, trimmed={}", streamKey, watermark, trimmed);
+        }
+    }
+
+    /**
+     * 모든 Consumer Group이 ACK를 끝낸 구간의 상한 ID를 계산한다
+     *
+     * @return 이 ID 미만은 삭제해도 되는 워터마크, 트리밍할 수 없으면 null
+     */
+    private String computeWatermark(String streamKey) {
+        StreamInfo.XInfoGroups groups = redisTemplate.opsForStream().groups(streamKey);
+        if (groups == null || groups.isEmpty()) {
+            return null;
+        }
+
+        String watermark = (System.currentTimeMillis() - minRetentionMillis) + "-0";
+        for (StreamInfo.XInfoGroup group : groups) {
+            // last-delivered-id를 먼저 읽고 PENDING을 조회하므로, 그 사이 ACK가 끝나도 안전한 쪽으로 계산된다
+            String candidate = nextId(group.lastDeliveredId());
+            if (group.pendingCount() > 0) {
+                PendingMessagesSummary summary = redisTemplate.opsForStream().pending(streamKey, group.groupName());
+                if (summary != null && summary.getTotalPendingMessages() > 0) {
+                    candidate = summary.minMessageId();
+                }
+            }
+            if (compareIds(candidate, watermark) < 0) {
+                watermark = candidate;
+            }
+        }
+        return watermark;
+    }
+
+    /**
+     * 워터마크 미만 구간을 세그먼트 파일로 기록한다
+     * 한 번에 max-records-per-run건까지만 기록하고, 기록한 범위까지로 워터마크를 낮춘다.
+     *
+     * @return 실제로 트리밍할 워터마크
+     */
+    private String archiveBelow(String streamKey, String watermark) {
+        StreamOperations<String, String, String> streamOps = redisTemplate.opsForStream();
+        List<MapRecord<String, String, String>> records = new ArrayList<>();
+        Range.Bound<String> lower = Range.Bound.unbounded();
+
+        while (records.size() < maxArchiveRecordsPerRun) {
+            int count = Math.min(ARCHIVE_READ_CHUNK, maxArchiveRecordsPerRun - records.size());
+            List<MapRecord<String, String, String>> chunk = streamOps.range(streamKey,
+                    Range.of(lower, Range.Bound.exclusive(watermark)), Limit.limit().count(count));
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            records.addAll(chunk);
+            if (chunk.size() < count) {
+                break;
+            }
+            lower = Range.Bound.exclusive(chunk.get(chunk.size() - 1).getId().getValue());
+        }
+
+        if (records.isEmpty()) {
+            return watermark;
+        }
+
+        // 기록 실패 시 예외가 전파되어 트리밍하지 않음
+        archiver.writeSegment(streamKey, records);
+        archivedCounter.increment(records.size());
+
+        String lastArchivedId = records.get(records.size() - 1).getId().getValue();
+        return records.size() >= maxArchiveRecordsPerRun ? nextId(lastArchivedId) : watermark;
+    }
+
+    private long xtrimMinId(String streamKey, String minId) {
+        Object result = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("XTRIM",
+                bytes(streamKey), bytes("MINID"), bytes(minId)));
+        return toLong(result);
+    }
+
+    private void refreshGauges() {
+        try {
+            long totalLength = 0;
+            long totalMemory = 0;
+            for (String streamKey : STREAM_KEYS) {
+                Long length = redisTemplate.opsForStream().size(streamKey);
+                totalLength += length != null ? length : 0;
+
+                // 키가 없으면 MEMORY USAGE는 nil
+                Object memory = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("MEMORY",
+                        bytes("USAGE"), bytes(streamKey)));
+                totalMemory += toLong(memory);
+            }
+            streamLength.set(totalLength);
+            streamMemoryBytes.set(totalMemory);
+        } catch (Exception e) {
+            log.debug("스트림 Gauge 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private static List<String> streamKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(RedisBidStreamAdapter.STREAM_KEY);
+        keys.addAll(AuctionRedisKeys.allBidStreamKeys());
+        return List.copyOf(keys);
+    }
+
+    private boolean acquireLock() {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockOwner, LOCK_TTL));
+    }
+
+    private void releaseLock() {
+        if (lockOwner.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+            redisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    /**
+     * 스트림 ID(ms-seq) 비교
+     */
+    private static int compareIds(String a, String b) {
+        long[] left = parseId(a);
+        long[] right = parseId(b);
+        int cmp = Long.compare(left[0], right[0]);
+        return cmp != 0 ? cmp : Long.compare(left[1], right[1]);
+    }
+
+    /**
+     * 바로 다음 스트림 ID (XTRIM MINID는 지정 ID 미만을 삭제하므로 해당 ID까지 포함시키는 데 사용)
+     */
+    private static String nextId(String id) {
+        long[] parsed = parseId(id);
+        return parsed[0] + "-" + (parsed[1] + 1);
+    }
+
+    private static long[] parseId(String id) {
+        int dash = id.indexOf('-');
+        if (dash < 0) {
+            return new long[]{Long.parseLong(id), 0};
+        }
+        return new long[]{Long.parseLong(id.substring(0, dash)), Long.parseLong(id.substring(dash + 1))};
+    }
+
+    private static long toLong(Object result) {
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        if (result instanceof byte[] raw) {
+            return Long.parseLong(new String(raw, StandardCharsets.UTF_8));
+        }
+        return 0;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
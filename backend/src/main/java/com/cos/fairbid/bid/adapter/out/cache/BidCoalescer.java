@@ -0,0 +1,149 @@
+package com.cos.fairbid.bid.adapter.out.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * 경매별 입찰 마이크로 배치 합류기
+ *
+ * 같은 경매로 짧은 윈도우 안에 들어온 입찰을 모아 스크립트 1회 호출로 도착 순서대로 처리한다.
+ * 배치의 첫 요청 스레드(리더)가 윈도우가 끝나거나 배치가 가득 찰 때까지 대기한 뒤 배치를 닫고 실행하며,
+ * 나머지 요청 스레드는 자신의 결과가 채워질 때까지 대기한다. 별도 스케줄러 스레드는 두지 않는다.
+ *
+ * 배치 실행 자체가 실패하면(Redis 연결 끊김, 응답 시간 초과 등) 배치의 모든 요청에 같은 예외를 전달한다.
+ * 시간 초과는 스크립트가 이미 실행됐을 수 있어 입찰을 따로 다시 실행하면 중복 반영되므로 재실행하지 않는다.
+ * 입찰 하나의 스크립트 오류는 bid.lua가 해당 입찰의 실패 결과(SCRIPT_ERROR)로 돌려주므로 다른 입찰에 전파되지 않는다.
+ *
+ * 인기 경매 마감 직전처럼 한 키에 EVAL이 몰릴 때 Redis 호출 수를 배치 크기만큼 줄인다.
+ *
+ * @param <T> 입찰 요청 (스크립트 인자)
+ * @param <R> 입찰별 원시 결과 (스크립트 반환값)
+ */
+@Slf4j
+public class BidCoalescer<T, R> {
+
+    private final ConcurrentHashMap<Long, Batch<T, R>> openBatches = new ConcurrentHashMap<>();
+    private final BiFunction<Long, List<T>, List<R>> executor;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    /**
+     * @param executor     배치 실행 함수 (경매 ID, 도착 순서의 요청 목록) → 요청별 결과 (같은 순서)
+     * @param windowMicros 배치 수집 윈도우 (마이크로초)
+     * @param maxBatchSize 배치 최대 크기 (초과 시 새 배치로 분리)
+     */
+    public BidCoalescer(BiFunction<Long, List<T>, List<R>> executor, long windowMicros, int maxBatchSize) {
+        this.executor = executor;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 입찰 요청을 해당 경매의 배치에 합류시키고 결과를 반환한다
+     *
+     * @param auctionId 경매 ID
+     * @param request   입찰 요청
+     * @return 이 요청에 대한 스크립트 결과
+     */
+    public R submit(Long auctionId, T request) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+
+        while (true) {
+            Batch<T, R> batch = openBatches.computeIfAbsent(auctionId, id -> new Batch<>());
+            boolean leader;
+            synchronized (batch) {
+                if (batch.closed) {
+                    // 리더가 이미 닫은 배치 → 새 배치로 재시도
+                    continue;
+                }
+                batch.requests.add(request);
+                batch.futures.add(future);
+                leader = batch.requests.size() == 1;
+                if (batch.requests.size() >= maxBatchSize) {
+                    // 가득 찬 배치는 이후 도착분이 합류하지 않도록 맵에서 분리하고, 대기 중인 리더를 깨워 바로 실행
+                    openBatches.remove(auctionId, batch);
+                    batch.notifyAll();
+                }
+            }
+
+            if (leader) {
+                awaitWindow(batch);
+                flush(auctionId, batch);
+            }
+            break;
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 윈도우가 끝나거나 배치가 가득 찰 때까지 대기한다 (리더 전용)
+     * 인터럽트되면 인터럽트 상태를 복원하고 모인 요청만으로 바로 실행한다.
+     */
+    private void awaitWindow(Batch<T, R> batch) {
+        long deadline = System.nanoTime() + windowNanos;
+        synchronized (batch) {
+            long remaining;
+            while (batch.requests.size() < maxBatchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(batch, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 배치를 닫고 스크립트 1회로 실행한 뒤 요청별 결과를 전달한다
+     */
+    private void flush(Long auctionId, Batch<T, R> batch) {
+        List<T> requests;
+        List<CompletableFuture<R>> futures;
+        synchronized (batch) {
+            batch.closed = true;
+            requests = new ArrayList<>(batch.requests);
+            futures = new ArrayList<>(batch.futures);
+        }
+        openBatches.remove(auctionId, batch);
+
+        try {
+            List<R> results = executor.apply(auctionId, requests);
+            if (results == null || results.size() != requests.size()) {
+                throw new IllegalStateException("배치 입찰 결과 개수 불일치: auctionId=" + auctionId
+                        + ", requests=" + requests.size() + ", results=" + (results == null ? 0 : results.size()));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                futures.get(i).complete(results.get(i));
+            }
+            log.debug("입찰 배치 처리: auctionId={}, size={}", auctionId, requests.size());
+        } catch (Throwable t) {
+            // Redis 장애 등 배치 전체 실패 → 모든 대기 요청에 같은 예외 전달 (재실행하지 않음, 클래스 설명 참고)
+            futures.forEach(f -> f.completeExceptionally(t));
+        }
+    }
+
+    /**
+     * 경매별 수집 중인 배치 (요청과 결과 Future는 같은 인덱스로 대응)
+     */
+    private static final class Batch<T, R> {
+        private final List<T> requests = new ArrayList<>();
+        private final List<CompletableFuture<R>> futures = new ArrayList<>();
+        private boolean closed;
+    }
+}
@@ -6,31 +6,92 @@ import com.cos.fairbid.bid.domain.exception.AuctionEndedException;
 import com.cos.fairbid.bid.domain.exception.InstantBuyException;
 import com.cos.fairbid.bid.domain.exception.SelfBidNotAllowedException;
 import com.cos.fairbid.auction.domain.exception.AuctionNotFoundException;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Redis Lua 스크립트 기반 입찰 캐시 어댑터
  * 원자적 입찰 처리로 동시성 제어
+ *
+ * bid.stream.publish-in-script=true면 RDB 동기화 스트림 키를 KEYS[5]로 함께 넘겨
+ * bid.lua가 상태 변경과 같은 스크립트 안에서 XADD까지 수행한다.
+ * EVAL 이후 별도 XADD 전에 프로세스가 죽어 입찰이 RDB에 누락되는 구간이 사라지고, 왕복도 1회 줄어든다.
+ * 스트림 키는 경매 해시와 같은 해시 태그의 버킷별 스트림(bid.stream.partitioned=true)이어야 Redis Cluster에서
+ * CROSSSLOT이 나지 않으므로, 해시 태그가 없는 단일 스트림과의 조합은 기동 시 거부한다.
+ * bid.stream.compact-encoding=true면 createdAt 인자를 빈 문자열로 넘겨 bid.lua가 compact 형식(BidStreamPayload)으로 발행한다.
+ * near-cache 무효화 알림(auction:invalidate PUBLISH)은 auction.near-cache.enabled=true일 때만 ARGV[1]로 요청한다.
+ *
+ * bid.coalescing.enabled=true면 같은 경매로 윈도우(bid.coalescing.window-micros) 안에 들어온 입찰을
+ * {@link BidCoalescer}로 모아 스크립트 1회 호출로 처리한다. 입찰별 결과 파싱과 예외 변환은
+ * 각 요청 스레드에서 단건 실행과 동일하게 수행되므로 호출자가 받는 결과/예외는 같다.
+ *
+ * placeBidAtomicAsync는 같은 스크립트를 Lettuce 리액티브 API(ReactiveStringRedisTemplate)로 실행하여
+ * 응답을 기다리는 동안 스레드를 점유하지 않는다. 합류기는 대기 스레드를 전제로 하므로 비동기 경로에는 적용하지 않는다.
  */
 @Component
-@RequiredArgsConstructor
 public class RedisBidCacheAdapter implements BidCachePort {
 
-    private static final String AUCTION_KEY_PREFIX = "auction:";
-    private static final String CLOSING_QUEUE_KEY = "auction:closing";
-
     private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final boolean publishInScript;
+    private final boolean compactEncoding;
+    /** bid.lua ARGV[1] (near-cache 무효화 알림 PUBLISH 여부) */
+    private final String publishInvalidationArg;
+    /** 경매별 입찰 마이크로 배치 합류기 (비활성화 시 null) */
+    private final BidCoalescer<List<String>, List<Object>> bidCoalescer;
+    /** 스크립트 내 XADD도 RedisBidStreamAdapter와 같은 발행 성공 카운터로 집계 */
+    private final Counter publishSuccessCounter;
     private DefaultRedisScript<List> bidScript;
 
+    public RedisBidCacheAdapter(
+            StringRedisTemplate redisTemplate,
+            ReactiveStringRedisTemplate reactiveRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${bid.stream.publish-in-script:true}") boolean publishInScript,
+            @Value("${bid.stream.partitioned:true}") boolean partitionedStream,
+            @Value("${bid.stream.compact-encoding:false}") boolean compactEncoding,
+            @Value("${bid.coalescing.enabled:false}") boolean coalescingEnabled,
+            @Value("${bid.coalescing.window-micros:200}") long coalescingWindowMicros,
+            @Value("${bid.coalescing.max-batch-size:64}") int coalescingMaxBatchSize,
+            @Value("${auction.near-cache.enabled:false}") boolean nearCacheEnabled
+    ) {
+        if (publishInScript && !partitionedStream) {
+            // 단일 스트림 키는 {bucket} 해시 태그가 없어 스크립트의 다른 KEYS와 슬롯이 달라진다
+            throw new IllegalStateException(
+                    "bid.stream.publish-in-script=true는 bid.stream.partitioned=true(버킷별 스트림)와 함께 사용해야 합니다");
+        }
+        this.redisTemplate = redisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.publishInScript = publishInScript;
+        this.compactEncoding = compactEncoding;
+        this.publishInvalidationArg = nearCacheEnabled ? "1" : "0";
+        this.bidCoalescer = coalescingEnabled
+                ? new BidCoalescer<>(this::executeBids, coalescingWindowMicros, coalescingMaxBatchSize)
+                : null;
+        this.publishSuccessCounter = Counter.builder("fairbid_stream_publish_total")
+                .tag("result", "success")
+                .description("Stream 메시지 발행 성공 건수")
+                .register(meterRegistry);
+    }
+
     @PostConstruct
     public void init() {
         // 입찰 처리 Lua 스크립트 로드
@@ -40,26 +101,55 @@ public class RedisBidCacheAdapter implements BidCachePort {
     }
 
     @Override
-    public boolean existsInCache(Long auctionId) {
-        String key = AUCTION_KEY_PREFIX + auctionId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    public BidResult placeBidAtomic(Long auctionId, Long bidAmount, Long bidderId, String bidType, Long currentTimeMs) {
+        List<String> bidArgs = bidArgs(bidAmount, bidderId, bidType, currentTimeMs);
+
+        // 합류 모드면 같은 경매의 동시 입찰과 묶어 한 번에 실행, 아니면 단건 실행
+        List<Object> result = bidCoalescer != null
+                ? bidCoalescer.submit(auctionId, bidArgs)
+                : executeBids(auctionId, List.of(bidArgs)).get(0);
+
+        return toBidResult(auctionId, bidAmount, bidderId, result);
     }
 
     @Override
     @SuppressWarnings("unchecked")
-    public BidResult placeBidAtomic(Long auctionId, Long bidAmount, Long bidderId, String bidType, Long currentTimeMs) {
-        String key = AUCTION_KEY_PREFIX + auctionId;
+    public CompletableFuture<BidResult> placeBidAtomicAsync(
+            Long auctionId, Long bidAmount, Long bidderId, String bidType, Long currentTimeMs) {
+        List<String> bidArgs = bidArgs(bidAmount, bidderId, bidType, currentTimeMs);
 
-        // Lua 스크립트 실행 (KEYS: 경매 해시 키 + 종료 대기 큐)
-        List<Object> result = redisTemplate.execute(
-                bidScript,
-                Arrays.asList(key, CLOSING_QUEUE_KEY),
+        // 리액티브 스크립트 실행은 최상위 결과 배열을 원소(입찰별 결과) 단위로 방출한다
+        return reactiveRedisTemplate.execute(bidScript, scriptKeys(auctionId), scriptArgs(List.of(bidArgs)))
+                .map(result -> (List<Object>) result)
+                .collectList()
+                .toFuture()
+                .thenApply(results -> toBidResult(
+                        auctionId, bidAmount, bidderId, results.isEmpty() ? null : results.get(0)));
+    }
+
+    /**
+     * 입찰 1건의 스크립트 인자 (bid.lua ARGV 5개)
+     */
+    private List<String> bidArgs(Long bidAmount, Long bidderId, String bidType, Long currentTimeMs) {
+        // BID_SAVE 메시지의 createdAt은 입찰 시각(currentTimeMs) 기준
+        // compact 형식은 currentTimeMs를 그대로 담으므로 빈 문자열로 형식만 알린다
+        String createdAt = compactEncoding
+                ? ""
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(currentTimeMs), ZoneId.systemDefault()).toString();
+        return List.of(
                 String.valueOf(bidAmount),
                 String.valueOf(bidderId),
                 bidType,
-                String.valueOf(currentTimeMs)
+                String.valueOf(currentTimeMs),
+                createdAt
         );
+    }
 
+    /**
+     * 입찰 1건의 스크립트 결과를 BidResult로 변환한다 (실패 코드는 도메인 예외로 변환)
+     * benchmark 모듈(JMH)에서 같은 패키지로 호출하므로 package-private
+     */
+    BidResult toBidResult(Long auctionId, Long bidAmount, Long bidderId, List<Object> result) {
         if (result == null || result.isEmpty()) {
             throw AuctionNotFoundException.withId(auctionId);
         }
@@ -73,7 +163,9 @@ public class RedisBidCacheAdapter implements BidCachePort {
             handleBidError(errorCode, auctionId, bidderId, bidAmount, result);
         }
 
-        // 성공 케이스: {1, newCurrentPrice, newTotalBidCount, newBidIncrement, extended, extensionCount, scheduledEndTimeMs, instantBuyActivated}
+        // 성공 케이스: {1, newCurrentPrice, newTotalBidCount, newBidIncrement, extended, extensionCount, scheduledEndTimeMs, instantBuyActivated,
+        //             bidSaveRecordId, instantBuyRecordId, bidAmount, topBidderId, autoBidderId, autoBidAmount, autoBidRecordId,
+        //             proxyBidderId, proxyMaxAmount}
         Long newCurrentPrice = (Long) result.get(1);
         Long newTotalBidCount = (Long) result.get(2);
         Long newBidIncrement = (Long) result.get(3);
@@ -81,6 +173,21 @@ public class RedisBidCacheAdapter implements BidCachePort {
         Long extensionCount = (Long) result.get(5);
         Long scheduledEndTimeMs = (Long) result.get(6);
         Long instantBuyActivated = (Long) result.get(7);
+        String bidSaveRecordId = recordIdAt(result, 8);
+        String instantBuyRecordId = recordIdAt(result, 9);
+        Long recordedBidAmount = positiveLongAt(result, 10);
+        Long topBidderId = positiveLongAt(result, 11);
+        Long autoBidderId = positiveLongAt(result, 12);
+        Long autoBidAmount = positiveLongAt(result, 13);
+        String autoBidRecordId = recordIdAt(result, 14);
+        Long proxyBidderId = positiveLongAt(result, 15);
+        Long proxyMaxAmount = positiveLongAt(result, 16);
+
+        for (String recordId : new String[]{bidSaveRecordId, instantBuyRecordId, autoBidRecordId}) {
+            if (recordId != null) {
+                publishSuccessCounter.increment();
+            }
+        }
 
         return new BidResult(
                 newCurrentPrice,
@@ -89,10 +196,90 @@ public class RedisBidCacheAdapter implements BidCachePort {
                 extended == 1L,
                 extensionCount.intValue(),
                 scheduledEndTimeMs,
-                instantBuyActivated == 1L
+                instantBuyActivated == 1L,
+                bidSaveRecordId,
+                instantBuyRecordId,
+                recordedBidAmount,
+                topBidderId,
+                autoBidderId,
+                autoBidAmount,
+                autoBidRecordId,
+                proxyBidderId,
+                proxyMaxAmount
         );
     }
 
+    /**
+     * Lua 스크립트로 같은 경매의 입찰을 도착 순서대로 처리한다
+     * (KEYS: 경매 해시 키 + 종료 대기 큐 + 입찰 카운터 + 변경 인덱스 [+ RDB 동기화 스트림], ARGV: 무효화 알림 여부 + 입찰당 5개)
+     *
+     * @return 입찰별 스크립트 결과 (요청 순서와 동일)
+     */
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> executeBids(Long auctionId, List<List<String>> bids) {
+        List<Object> results = redisTemplate.execute(bidScript, scriptKeys(auctionId), scriptArgs(bids).toArray());
+        if (results == null) {
+            return Collections.nCopies(bids.size(), null);
+        }
+        return results.stream()
+                .map(result -> (List<Object>) result)
+                .toList();
+    }
+
+    /**
+     * bid.lua ARGV (ARGV[1] 무효화 알림 여부 + 입찰별 인자를 도착 순서대로 이어 붙임)
+     */
+    private List<String> scriptArgs(List<List<String>> bids) {
+        List<String> args = new ArrayList<>();
+        args.add(publishInvalidationArg);
+        bids.forEach(args::addAll);
+        return args;
+    }
+
+    /**
+     * bid.lua KEYS (경매 해시 키 + 종료 대기 큐 + 입찰 카운터 + 변경 인덱스 [+ RDB 동기화 스트림])
+     */
+    private List<String> scriptKeys(Long auctionId) {
+        // 경매 해시, 버킷 종료 대기 큐, 입찰 카운터, 변경 인덱스, 버킷 스트림은 같은 해시 태그({bucket})라 Cluster에서도 같은 슬롯
+        String key = AuctionRedisKeys.auctionKey(auctionId);
+        String closingQueueKey = AuctionRedisKeys.closingQueueKey(auctionId);
+        String bidCountKey = AuctionRedisKeys.bidCountKey(auctionId);
+        String changedAuctionsKey = AuctionRedisKeys.changedAuctionsKey(auctionId);
+        return publishInScript
+                ? Arrays.asList(key, closingQueueKey, bidCountKey, changedAuctionsKey,
+                        AuctionRedisKeys.bidStreamKey(auctionId))
+                : Arrays.asList(key, closingQueueKey, bidCountKey, changedAuctionsKey);
+    }
+
+    /**
+     * 스크립트가 발행한 Stream 레코드 ID 추출 (미발행 시 빈 문자열 → null)
+     */
+    private String recordIdAt(List<Object> result, int index) {
+        if (result.size() <= index) {
+            return null;
+        }
+        Object value = result.get(index);
+        return (value instanceof String recordId && !recordId.isEmpty()) ? recordId : null;
+    }
+
+    /**
+     * 스크립트 결과의 양수 값 추출 (0, 빈 문자열, 누락은 null)
+     */
+    private Long positiveLongAt(List<Object> result, int index) {
+        if (result.size() <= index) {
+            return null;
+        }
+        Object value = result.get(index);
+        if (value instanceof Long longValue) {
+            return longValue > 0 ? longValue : null;
+        }
+        if (value instanceof String stringValue && !stringValue.isEmpty()) {
+            long parsed = Long.parseLong(stringValue);
+            return parsed > 0 ? parsed : null;
+        }
+        return null;
+    }
+
     /**
      * Lua 스크립트 에러 코드를 도메인 예외로 변환
      */
@@ -109,6 +296,9 @@ public class RedisBidCacheAdapter implements BidCachePort {
             case "INSTANT_BUY_NOT_AVAILABLE" -> throw InstantBuyException.notAvailable(auctionId);
             case "INSTANT_BUY_DISABLED" -> throw InstantBuyException.disabled(auctionId);
             case "INSTANT_BUY_ALREADY_ACTIVATED" -> throw InstantBuyException.alreadyActivated(auctionId);
+            // 입찰 처리 중 Lua/Redis 오류 (배치 합류 시에도 이 입찰만 실패)
+            case "SCRIPT_ERROR" -> throw new IllegalStateException(
+                    "입찰 스크립트 오류: auctionId=" + auctionId + ", " + result.get(2));
             default -> throw new RuntimeException("Unknown bid error: " + errorCode);
         }
     }
@@ -0,0 +1,153 @@
+package com.cos.fairbid.bid.adapter.out.persistence;
+
+import com.cos.fairbid.auction.application.port.out.AuctionRepositoryPort;
+import com.cos.fairbid.auction.application.port.out.AuctionRepositoryPort.LiveStateUpdate;
+import com.cos.fairbid.bid.application.port.out.AuctionStateWriteBehindPort;
+import com.cos.fairbid.bid.application.port.out.BidCachePort.BidResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경매 실시간 상태 write-behind 어댑터
+ *
+ * 입찰 처리 시 auction 테이블의 current_price/total_bid_count/bid_increment/extension_count/scheduled_end_time은
+ * Redis에서만 바뀌고 RDB에는 종료 시점(AuctionClosingHelper)에야 반영되므로, RDB 기반 조회(목록 정렬, 관리자 통계,
+ * 내 입찰 목록)가 오래된 값을 보게 된다.
+ *
+ * 입찰마다 경매별 최신 상태만 메모리에 남기고(같은 경매의 이전 상태는 덮어씀),
+ * flush-interval-millis마다 쌓인 경매 전체를 JDBC 배치 UPDATE 한 번으로 반영한다.
+ * RDB 쓰기량은 입찰 수가 아니라 "주기당 입찰이 있었던 경매 수"에 비례한다.
+ * 1순위 입찰자와 대리 입찰 최대 금액도 함께 보관하여, Redis 키가 사라진 뒤 RDB에서 재적재해도 대리 입찰이 복원된다.
+ *
+ * - 최신 판단: total_bid_count가 큰 상태가 최신 (동시 입찰 결과가 순서 없이 도착해도 역전되지 않음)
+ * - 종료된 경매, 이미 더 최신 상태가 반영된 경매는 UPDATE 조건에서 제외 (AuctionPersistenceAdapter.updateLiveStates)
+ * - 반영 실패 시 다음 주기에 다시 시도 (그 사이 들어온 더 최신 상태가 있으면 그것을 유지)
+ * - 인스턴스가 비정상 종료되면 마지막 주기분이 유실될 수 있으나, Redis가 원본이고 종료 시점 동기화가 최종 값을 맞춘다
+ */
+@Component
+@Slf4j
+public class AuctionStateWriteBehindAdapter implements AuctionStateWriteBehindPort, DisposableBean {
+
+    private final AuctionRepositoryPort auctionRepository;
+    private final boolean enabled;
+
+    /** 경매 ID → 아직 반영되지 않은 최신 상태 */
+    private final ConcurrentHashMap<Long, LiveStateUpdate> dirty = new ConcurrentHashMap<>();
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter coalescedCounter;
+    private final Counter flushFailCounter;
+
+    public AuctionStateWriteBehindAdapter(
+            AuctionRepositoryPort auctionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${bid.write-behind.enabled:true}") boolean enabled
+    ) {
+        this.auctionRepository = auctionRepository;
+        this.enabled = enabled;
+
+        this.flushTimer = Timer.builder("fairbid_auction_write_behind_flush_seconds")
+                .description("경매 상태 write-behind 일괄 반영 소요 시간")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("fairbid_auction_write_behind_rows_total")
+                .description("write-behind로 RDB에 반영한 경매 상태 수")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("fairbid_auction_write_behind_coalesced_total")
+                .description("반영 전에 더 최신 상태로 대체되어 생략된 경매 상태 수")
+                .register(meterRegistry);
+        this.flushFailCounter = Counter.builder("fairbid_auction_write_behind_flush_fail_total")
+                .description("write-behind 일괄 반영 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_auction_write_behind_dirty", dirty, ConcurrentHashMap::size)
+                .description("RDB 반영 대기 중인 경매 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void markDirty(Long auctionId, BidResult result) {
+        if (!enabled) {
+            return;
+        }
+        LiveStateUpdate update = new LiveStateUpdate(
+                auctionId,
+                result.newCurrentPrice(),
+                result.newTotalBidCount(),
+                result.newBidIncrement(),
+                result.extensionCount(),
+                result.scheduledEndTimeMs(),
+                result.topBidderId(),
+                result.proxyBidderId(),
+                result.proxyMaxAmount()
+        );
+        merge(update);
+    }
+
+    /**
+     * 쌓인 경매 상태를 한 번에 반영한다
+     */
+    @Scheduled(fixedDelayString = "${bid.write-behind.flush-interval-millis:1000}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        // 키별로 꺼내므로 꺼낸 뒤 들어온 상태는 다음 주기에 반영된다
+        List<LiveStateUpdate> batch = new ArrayList<>(dirty.size());
+        for (Long auctionId : dirty.keySet()) {
+            LiveStateUpdate update = dirty.remove(auctionId);
+            if (update != null) {
+                batch.add(update);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> auctionRepository.updateLiveStates(batch));
+            flushedCounter.increment(batch.size());
+            log.debug("경매 상태 write-behind 반영: {}건", batch.size());
+        } catch (Exception e) {
+            flushFailCounter.increment();
+            // 다음 주기에 재시도 (그 사이 더 최신 상태가 들어왔으면 그대로 유지)
+            batch.forEach(this::requeue);
+            log.warn("경매 상태 write-behind 반영 실패 (재시도 예정): {}건, error={}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void merge(LiveStateUpdate update) {
+        dirty.merge(update.auctionId(), update, (existing, incoming) -> {
+            coalescedCounter.increment();
+            return isNewer(incoming, existing) ? incoming : existing;
+        });
+    }
+
+    private void requeue(LiveStateUpdate update) {
+        dirty.merge(update.auctionId(), update,
+                (existing, failed) -> isNewer(failed, existing) ? failed : existing);
+    }
+
+    private static boolean isNewer(LiveStateUpdate candidate, LiveStateUpdate current) {
+        return candidate.totalBidCount() >= current.totalBidCount();
+    }
+
+    /**
+     * 종료 시 남은 상태를 마지막으로 반영한다
+     */
+    @Override
+    public void destroy() {
+        flush();
+    }
+}
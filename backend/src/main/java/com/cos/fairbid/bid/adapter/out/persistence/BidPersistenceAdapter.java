@@ -8,9 +8,16 @@ import com.cos.fairbid.bid.domain.Bid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 입찰 영속성 어댑터
@@ -21,8 +28,18 @@ import java.util.List;
 @Slf4j
 public class BidPersistenceAdapter implements BidRepositoryPort {
 
+    /** 다중 행 INSERT 한 문장에 담는 최대 행 수 (바인딩 파라미터 수 제한 대비) */
+    private static final int MULTI_ROW_INSERT_CHUNK = 500;
+    private static final String MULTI_ROW_INSERT_PREFIX =
+            "INSERT INTO bid (auction_id, bidder_id, amount, bid_type, created_at, stream_record_id) VALUES ";
+    private static final String MULTI_ROW_INSERT_VALUES = "(?, ?, ?, ?, ?, ?)";
+    /** stream_record_id unique 충돌 시 아무것도 바꾸지 않음 (INSERT IGNORE와 달리 다른 오류는 그대로 실패) */
+    private static final String MULTI_ROW_INSERT_SUFFIX =
+            " ON DUPLICATE KEY UPDATE stream_record_id = stream_record_id";
+
     private final JpaBidRepository jpaBidRepository;
     private final BidMapper bidMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Bid save(Bid bid) {
@@ -34,6 +51,8 @@ public class BidPersistenceAdapter implements BidRepositoryPort {
     /**
      * 멱등 저장: streamRecordId unique 제약으로 중복 INSERT 방지
      * 이미 처리된 메시지면 DataIntegrityViolationException → false 반환
+     *
+     * created_at은 메시지의 입찰 시각을 사용하고, 없으면 저장 시각으로 채운다 (saveAllIdempotent와 동일).
      */
     @Override
     public boolean saveIdempotent(Bid bid, String streamRecordId) {
@@ -43,6 +62,7 @@ public class BidPersistenceAdapter implements BidRepositoryPort {
                     .bidderId(bid.getBidderId())
                     .amount(bid.getAmount())
                     .bidType(bid.getBidType())
+                    .createdAt(bid.getCreatedAt())
                     .streamRecordId(streamRecordId)
                     .build();
             jpaBidRepository.save(entity);
@@ -59,6 +79,48 @@ public class BidPersistenceAdapter implements BidRepositoryPort {
         }
     }
 
+    /**
+     * 다중 행 멱등 저장: INSERT ... VALUES (...), (...) ON DUPLICATE KEY UPDATE
+     * JPA IDENTITY 전략은 행마다 INSERT를 따로 실행하므로 JdbcTemplate으로 한 문장에 묶는다.
+     * 호출 측 트랜잭션(JpaTransactionManager)의 커넥션을 그대로 사용한다.
+     *
+     * created_at은 메시지의 입찰 시각을 사용하고, 없으면 저장 시각으로 채운다.
+     */
+    @Override
+    public void saveAllIdempotent(Map<String, Bid> bidsByStreamRecordId) {
+        if (bidsByStreamRecordId.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, Bid>> entries = new ArrayList<>(bidsByStreamRecordId.entrySet());
+        for (int from = 0; from < entries.size(); from += MULTI_ROW_INSERT_CHUNK) {
+            List<Map.Entry<String, Bid>> chunk =
+                    entries.subList(from, Math.min(from + MULTI_ROW_INSERT_CHUNK, entries.size()));
+
+            StringBuilder sql = new StringBuilder(MULTI_ROW_INSERT_PREFIX);
+            Object[] args = new Object[chunk.size() * 6];
+            int i = 0;
+            for (Map.Entry<String, Bid> entry : chunk) {
+                Bid bid = entry.getValue();
+                LocalDateTime createdAt = bid.getCreatedAt() != null ? bid.getCreatedAt() : LocalDateTime.now();
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(MULTI_ROW_INSERT_VALUES);
+                args[i++] = bid.getAuctionId();
+                args[i++] = bid.getBidderId();
+                args[i++] = bid.getAmount();
+                args[i++] = bid.getBidType().name();
+                args[i++] = Timestamp.valueOf(createdAt);
+                args[i++] = entry.getKey();
+            }
+            sql.append(MULTI_ROW_INSERT_SUFFIX);
+
+            jdbcTemplate.update(sql.toString(), args);
+        }
+        log.debug("다중 행 멱등 저장: {}건", entries.size());
+    }
+
     @Override
     public List<Bid> findTop2ByAuctionId(Long auctionId) {
         return jpaBidRepository.findTop2ByAuctionIdOrderByAmountDesc(auctionId)
@@ -71,4 +133,16 @@ public class BidPersistenceAdapter implements BidRepositoryPort {
     public long countAll() {
         return jpaBidRepository.count();
     }
+
+    @Override
+    public Map<Long, Long> countByAuctionIds(Collection<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : jpaBidRepository.countGroupByAuctionIdIn(auctionIds)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
 }
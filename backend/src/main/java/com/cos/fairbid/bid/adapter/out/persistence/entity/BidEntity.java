@@ -6,8 +6,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
@@ -16,10 +16,9 @@ import java.time.LocalDateTime;
  * DB 테이블 매핑 전용 (비즈니스 로직 금지)
  */
 @Entity
-@Table(name = "bid")
+@Table(name = "bid", indexes = @Index(name = "idx_bid_auction_id", columnList = "auction_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
 public class BidEntity {
 
     @Id
@@ -35,15 +34,23 @@ public class BidEntity {
     @Column(nullable = false)
     private Long amount;
 
+    /**
+     * MySQL 네이티브 enum 대신 VARCHAR로 매핑 (BidType 상수 추가 시 컬럼 변경 불필요)
+     * 기존 enum 컬럼은 BidPersistenceAdapter 시작 시 VARCHAR로 변경한다 (ddl-auto: update는 컬럼 타입을 바꾸지 않음)
+     */
     @Enumerated(EnumType.STRING)
-    @Column(name = "bid_type", nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "bid_type", nullable = false, length = 20)
     private BidType bidType;
 
-    @CreatedDate
+    /**
+     * 입찰 시각 (Stream 메시지의 입찰 시각을 그대로 저장)
+     * @CreatedDate는 저장 시각으로 덮어쓰므로 사용하지 않고, 값이 없을 때만 저장 시각으로 채운다.
+     */
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    /** Redis Stream 메시지 ID (멱등성 보장용, at-least-once 중복 방지) */
+    /** 멱등 키: 발행 측 dedupeKey, 없으면 Redis Stream 메시지 ID (at-least-once·저널 재발행 중복 방지) */
     @Column(name = "stream_record_id", unique = true)
     private String streamRecordId;
 
@@ -54,6 +61,7 @@ public class BidEntity {
             Long bidderId,
             Long amount,
             BidType bidType,
+            LocalDateTime createdAt,
             String streamRecordId
     ) {
         this.id = id;
@@ -61,6 +69,14 @@ public class BidEntity {
         this.bidderId = bidderId;
         this.amount = amount;
         this.bidType = bidType;
+        this.createdAt = createdAt;
         this.streamRecordId = streamRecordId;
     }
+
+    @PrePersist
+    private void fillCreatedAt() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
 }
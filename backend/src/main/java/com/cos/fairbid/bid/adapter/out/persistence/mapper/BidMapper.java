@@ -20,6 +20,7 @@ public class BidMapper {
                 .bidderId(bid.getBidderId())
                 .amount(bid.getAmount())
                 .bidType(bid.getBidType())
+                .createdAt(bid.getCreatedAt())
                 .build();
     }
 
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,6 +24,16 @@ public interface JpaBidRepository extends JpaRepository<BidEntity, Long> {
     @Query("SELECT b FROM BidEntity b WHERE b.auctionId = :auctionId ORDER BY b.amount DESC LIMIT 2")
     List<BidEntity> findTop2ByAuctionIdOrderByAmountDesc(@Param("auctionId") Long auctionId);
 
+    /**
+     * 경매별 입찰 수를 집계한다 (auction_id 인덱스 사용)
+     * 결과: [auctionId, count]
+     *
+     * @param auctionIds 경매 ID 목록
+     * @return Object[] 배열 목록 (JPQL projection)
+     */
+    @Query("SELECT b.auctionId, COUNT(b) FROM BidEntity b WHERE b.auctionId IN :auctionIds GROUP BY b.auctionId")
+    List<Object[]> countGroupByAuctionIdIn(@Param("auctionIds") Collection<Long> auctionIds);
+
     /**
      * 입찰자가 입찰한 경매 목록을 커서 기반으로 조회한다.
      * 각 경매별 내 최고 입찰가를 GROUP BY로 집계한다.
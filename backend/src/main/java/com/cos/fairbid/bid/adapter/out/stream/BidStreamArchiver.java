@@ -0,0 +1,112 @@
+package com.cos.fairbid.bid.adapter.out.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Redis Stream 트리밍 구간 아카이버
+ *
+ * XTRIM으로 삭제하기 직전의 레코드를 로컬 세그먼트 파일(gzip JSON Lines)로 남긴다.
+ * 감사(audit) 용도이며, 파일 하나가 트리밍 1회 구간에 해당한다.
+ *
+ * 파일명: {스트림 키}-{첫 레코드 ID}_{마지막 레코드 ID}.jsonl.gz (스트림 키의 ':', '{', '}'는 '_'로 치환)
+ *   예: stream_bid-rdb-sync__3_-1700000000000-0_1700000005000-3.jsonl.gz
+ * 한 줄 형식: {"id":"1700000000000-0","fields":{"type":"BID_SAVE",...}}
+ *
+ * 임시 파일에 모두 쓴 뒤 이름을 바꾸므로, 쓰기 도중 실패하면 세그먼트가 남지 않고 트리밍도 진행되지 않는다.
+ * 실패한 임시 파일은 예외를 던지기 전에 삭제한다.
+ */
+@Component
+@Slf4j
+public class BidStreamArchiver {
+
+    private static final String SEGMENT_SUFFIX = ".jsonl.gz";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path archiveDir;
+
+    public BidStreamArchiver(
+            ObjectMapper objectMapper,
+            @Value("${bid.stream.archive.enabled:false}") boolean enabled,
+            @Value("${bid.stream.archive.dir:./data/stream-archive}") String archiveDir
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.archiveDir = Paths.get(archiveDir);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 레코드 목록을 세그먼트 파일 하나로 기록한다
+     *
+     * @param streamKey 레코드를 읽은 스트림 키
+     * @param records 트리밍 대상 레코드 (ID 오름차순)
+     * @return 생성된 세그먼트 파일 경로
+     * @throws UncheckedIOException 파일 쓰기 실패 (호출 측은 트리밍을 건너뛴다)
+     */
+    public Path writeSegment(String streamKey, List<MapRecord<String, String, String>> records) {
+        String prefix = streamKey.replaceAll("[:{}]", "_") + "-";
+        String firstId = records.get(0).getId().getValue();
+        String lastId = records.get(records.size() - 1).getId().getValue();
+        Path segment = archiveDir.resolve(prefix + firstId + "_" + lastId + SEGMENT_SUFFIX);
+
+        Path temp = null;
+        try {
+            Files.createDirectories(archiveDir);
+            temp = Files.createTempFile(archiveDir, prefix, ".tmp");
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                for (MapRecord<String, String, String> record : records) {
+                    Map<String, Object> line = new LinkedHashMap<>();
+                    line.put("id", record.getId().getValue());
+                    line.put("fields", record.getValue());
+                    writer.write(objectMapper.writeValueAsString(line));
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteTemp(temp, e);
+            throw new UncheckedIOException("스트림 세그먼트 기록 실패: " + segment, e);
+        }
+
+        log.info("스트림 세그먼트 아카이브: file={}, records={}", segment.getFileName(), records.size());
+        return segment;
+    }
+
+    /**
+     * 실패한 기록의 임시 파일을 지운다 (트리밍이 재시도될 때마다 .tmp 파일이 쌓이지 않도록)
+     * 삭제 실패는 원래 예외에 suppressed로 덧붙인다.
+     */
+    private void deleteTemp(Path temp, IOException cause) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+}
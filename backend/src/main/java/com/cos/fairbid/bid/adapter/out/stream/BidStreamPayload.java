@@ -0,0 +1,286 @@
+package com.cos.fairbid.bid.adapter.out.stream;
+
+import com.cos.fairbid.bid.domain.Bid;
+import com.cos.fairbid.bid.domain.BidType;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+/**
+ * 입찰 RDB 동기화 메시지 compact 인코딩
+ *
+ * 레거시 형식은 메시지마다 type/auctionId/.../createdAt(ISO-8601) 문자열 필드를 따로 저장하므로
+ * 스트림 엔트리마다 필드 이름이 반복되고, 소비 시 LocalDateTime.parse 비용이 든다.
+ * compact 형식은 필드 하나(p)에 버전과 값을 '|'로 이어 붙이고, 시각은 epoch millis, 입찰 유형은 숫자 코드로 담는다.
+ *
+ * 형식 (버전 1):
+ * - BID_SAVE:           1|B|auctionId|bidderId|amount|bidTypeCode|createdAtMs[|publishedAtMs|dedupeKey]
+ * - INSTANT_BUY_UPDATE: 1|I|auctionId|currentPrice|totalBidCount|bidIncrement|bidderId|currentTimeMs|scheduledEndTimeMs[|publishedAtMs]
+ * - bidTypeCode: ONE_TOUCH=1, DIRECT=2, INSTANT_BUY=3, PROXY=4 (bid.lua의 BID_TYPE_CODES와 동일)
+ * - 대괄호 안은 앱이 직접 XADD하는 메시지에만 붙는 발행 정보 (스크립트 내 발행 메시지에는 없음)
+ *   - publishedAtMs: 첫 발행 시도 시각. 저널 재발행으로 Record ID 시각이 늦어져도 원래 발행 시각 기준으로 동기화 지연을 잰다.
+ *   - dedupeKey: 첫 발행 시도에서 정한 멱등 키. 저널 재발행으로 Record ID가 바뀌어도 같은 입찰로 판별한다.
+ *   없으면 컨슈머가 Record ID(시각)를 대신 쓴다.
+ *
+ * 컨슈머는 p 필드 유무로 형식을 구분하므로 레거시 메시지와 섞여 있어도 함께 처리한다.
+ * 새 버전을 추가할 때는 버전 번호를 올리고, 이전 버전 디코딩을 남겨둔다.
+ */
+public final class BidStreamPayload {
+
+    /** compact 메시지의 단일 필드 이름 */
+    public static final String FIELD = "p";
+    /** 레거시 형식 메시지의 멱등 키 필드 이름 */
+    public static final String DEDUPE_KEY_FIELD = "dedupeKey";
+    /** 레거시 형식 메시지의 첫 발행 시각(ms) 필드 이름 */
+    public static final String PUBLISHED_AT_FIELD = "publishedAtMs";
+    public static final String VERSION = "1";
+    public static final char KIND_BID_SAVE = 'B';
+    public static final char KIND_INSTANT_BUY_UPDATE = 'I';
+
+    private static final char SEPARATOR = '|';
+    private static final int BID_SAVE_PARTS = 7;
+    /** 발행 정보(publishedAtMs, dedupeKey)가 붙은 BID_SAVE */
+    private static final int BID_SAVE_PUBLISHED_PARTS = 9;
+    private static final int INSTANT_BUY_UPDATE_PARTS = 9;
+    /** 발행 정보(publishedAtMs)가 붙은 INSTANT_BUY_UPDATE */
+    private static final int INSTANT_BUY_UPDATE_PUBLISHED_PARTS = 10;
+
+    private BidStreamPayload() {
+    }
+
+    /**
+     * compact 형식 메시지이면 payload를, 레거시 형식이면 null을 반환한다
+     */
+    public static String payloadOf(Map<String, String> body) {
+        return body.get(FIELD);
+    }
+
+    /**
+     * 메시지 종류 (KIND_BID_SAVE / KIND_INSTANT_BUY_UPDATE)
+     *
+     * @throws IllegalArgumentException 지원하지 않는 버전
+     */
+    public static char kindOf(String payload) {
+        if (!payload.startsWith(VERSION + SEPARATOR) || payload.length() < 3) {
+            throw new IllegalArgumentException("지원하지 않는 메시지 버전: " + payload);
+        }
+        return payload.charAt(2);
+    }
+
+    /**
+     * 메시지의 경매 ID (발행 스트림 결정용, 나머지 필드는 해석하지 않음)
+     *
+     * @throws IllegalArgumentException 지원하지 않는 버전이거나 형식이 잘못됨
+     */
+    public static long auctionIdOf(String payload) {
+        kindOf(payload);
+        int start = payload.indexOf(SEPARATOR, 2) + 1;
+        int end = payload.indexOf(SEPARATOR, start);
+        if (start <= 0 || end < 0) {
+            throw new IllegalArgumentException("경매 ID 없음: " + payload);
+        }
+        return Long.parseLong(payload, start, end, 10);
+    }
+
+    /**
+     * 발행 정보 없이 인코딩한다 (컨슈머가 Record ID를 멱등 키와 발행 시각으로 사용)
+     */
+    public static String encodeBidSave(Bid bid) {
+        return VERSION + SEPARATOR + KIND_BID_SAVE
+                + SEPARATOR + bid.getAuctionId()
+                + SEPARATOR + bid.getBidderId()
+                + SEPARATOR + bid.getAmount()
+                + SEPARATOR + bidTypeCode(bid.getBidType())
+                + SEPARATOR + toEpochMillis(bid.getCreatedAt());
+    }
+
+    /**
+     * 발행 정보를 붙여 인코딩한다
+     *
+     * @param publishedAtMs 첫 발행 시도 시각 (밀리초)
+     * @param dedupeKey     첫 발행 시도에서 정한 멱등 키 ('|' 미포함)
+     */
+    public static String encodeBidSave(Bid bid, long publishedAtMs, String dedupeKey) {
+        return encodeBidSave(bid) + SEPARATOR + publishedAtMs + SEPARATOR + dedupeKey;
+    }
+
+    /**
+     * BID_SAVE payload의 멱등 키 (없으면 null)
+     */
+    public static String dedupeKeyOf(String payload) {
+        if (kindOf(payload) != KIND_BID_SAVE || partCount(payload) != BID_SAVE_PUBLISHED_PARTS) {
+            return null;
+        }
+        return fieldAt(payload, BID_SAVE_PUBLISHED_PARTS - 1);
+    }
+
+    /**
+     * 첫 발행 시도 시각 (밀리초, 없으면 null)
+     */
+    public static Long publishedAtMsOf(String payload) {
+        int index = switch (kindOf(payload)) {
+            case KIND_BID_SAVE -> partCount(payload) == BID_SAVE_PUBLISHED_PARTS ? BID_SAVE_PARTS : -1;
+            case KIND_INSTANT_BUY_UPDATE ->
+                    partCount(payload) == INSTANT_BUY_UPDATE_PUBLISHED_PARTS ? INSTANT_BUY_UPDATE_PARTS : -1;
+            default -> -1;
+        };
+        return index < 0 ? null : Long.parseLong(fieldAt(payload, index));
+    }
+
+    public static String encodeInstantBuyUpdate(
+            Long auctionId, Long currentPrice, Integer totalBidCount,
+            Long bidIncrement, Long bidderId, Long currentTimeMs, Long scheduledEndTimeMs
+    ) {
+        return VERSION + SEPARATOR + KIND_INSTANT_BUY_UPDATE
+                + SEPARATOR + auctionId
+                + SEPARATOR + currentPrice
+                + SEPARATOR + totalBidCount
+                + SEPARATOR + bidIncrement
+                + SEPARATOR + bidderId
+                + SEPARATOR + currentTimeMs
+                + SEPARATOR + scheduledEndTimeMs;
+    }
+
+    /**
+     * 첫 발행 시도 시각을 붙여 인코딩한다
+     *
+     * @param publishedAtMs 첫 발행 시도 시각 (밀리초)
+     */
+    public static String encodeInstantBuyUpdate(
+            Long auctionId, Long currentPrice, Integer totalBidCount,
+            Long bidIncrement, Long bidderId, Long currentTimeMs, Long scheduledEndTimeMs, long publishedAtMs
+    ) {
+        return encodeInstantBuyUpdate(auctionId, currentPrice, totalBidCount, bidIncrement, bidderId,
+                currentTimeMs, scheduledEndTimeMs) + SEPARATOR + publishedAtMs;
+    }
+
+    /**
+     * BID_SAVE payload를 입찰 도메인 객체로 복원한다
+     */
+    public static Bid decodeBidSave(String payload) {
+        long[] values = split(prefixOf(payload, BID_SAVE_PARTS), BID_SAVE_PARTS);
+        return Bid.reconstitute()
+                .auctionId(values[2])
+                .bidderId(values[3])
+                .amount(values[4])
+                .bidType(bidTypeOf((int) values[5]))
+                .createdAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(values[6]), ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * INSTANT_BUY_UPDATE payload를 복원한다
+     */
+    public static InstantBuyUpdate decodeInstantBuyUpdate(String payload) {
+        long[] values = split(prefixOf(payload, INSTANT_BUY_UPDATE_PARTS), INSTANT_BUY_UPDATE_PARTS);
+        return new InstantBuyUpdate(values[2], values[3], (int) values[4], values[5],
+                values[6], values[7], values[8]);
+    }
+
+    /**
+     * 즉시 구매 활성화 동기화 값
+     */
+    public record InstantBuyUpdate(
+            long auctionId,
+            long currentPrice,
+            int totalBidCount,
+            long bidIncrement,
+            long bidderId,
+            long currentTimeMs,
+            long scheduledEndTimeMs
+    ) {
+    }
+
+    /**
+     * '|' 구분 숫자 필드를 파싱한다 (버전/종류 자리는 0으로 채움)
+     * String.split의 정규식/배열 할당 없이 한 번 순회로 처리한다.
+     */
+    private static long[] split(String payload, int expectedParts) {
+        long[] values = new long[expectedParts];
+        int index = 0;
+        int start = 0;
+        for (int i = 0; i <= payload.length(); i++) {
+            if (i == payload.length() || payload.charAt(i) == SEPARATOR) {
+                if (index >= expectedParts) {
+                    throw new IllegalArgumentException("필드 수 불일치: " + payload);
+                }
+                // 0: 버전, 1: 종류 (숫자 아님)
+                if (index >= 2) {
+                    values[index] = Long.parseLong(payload, start, i, 10);
+                }
+                index++;
+                start = i + 1;
+            }
+        }
+        if (index != expectedParts) {
+            throw new IllegalArgumentException("필드 수 불일치: " + payload);
+        }
+        return values;
+    }
+
+    /**
+     * 앞 parts개 필드 (뒤에 붙은 발행 정보 제외)
+     */
+    private static String prefixOf(String payload, int parts) {
+        int end = separatorIndex(payload, parts);
+        return end < 0 ? payload : payload.substring(0, end);
+    }
+
+    /**
+     * index번째(0부터) 필드
+     */
+    private static String fieldAt(String payload, int index) {
+        int start = separatorIndex(payload, index) + 1;
+        int end = payload.indexOf(SEPARATOR, start);
+        return payload.substring(start, end < 0 ? payload.length() : end);
+    }
+
+    /**
+     * n번째(1부터) 구분자 위치 (없으면 -1, n=0이면 -1)
+     */
+    private static int separatorIndex(String payload, int n) {
+        int index = -1;
+        for (int i = 0; i < n; i++) {
+            index = payload.indexOf(SEPARATOR, index + 1);
+            if (index < 0) {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    private static int partCount(String payload) {
+        int count = 1;
+        for (int i = 0; i < payload.length(); i++) {
+            if (payload.charAt(i) == SEPARATOR) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int bidTypeCode(BidType bidType) {
+        return switch (bidType) {
+            case ONE_TOUCH -> 1;
+            case DIRECT -> 2;
+            case INSTANT_BUY -> 3;
+            case PROXY -> 4;
+        };
+    }
+
+    private static BidType bidTypeOf(int code) {
+        return switch (code) {
+            case 1 -> BidType.ONE_TOUCH;
+            case 2 -> BidType.DIRECT;
+            case 3 -> BidType.INSTANT_BUY;
+            case 4 -> BidType.PROXY;
+            default -> throw new IllegalArgumentException("알 수 없는 입찰 유형 코드: " + code);
+        };
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,382 @@
+package com.cos.fairbid.bid.adapter.out.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 입찰 RDB 동기화 메시지 로컬 저널 (memory-mapped write-ahead log)
+ *
+ * Redis Stream 발행(XADD)이 실패한 동기화 메시지를 요청 스레드에서 로컬 파일에 바로 남기고,
+ * Redis가 복구되면 RedisBidStreamAdapter가 기록 순서대로 스트림에 다시 발행한다.
+ * 파일은 mmap으로 열어 두므로 기록은 메모리 복사 수준(수 마이크로초)이며 시스템 콜이 없다.
+ *
+ * 파일 구조:
+ * - 세그먼트: {dir}/bid-sync-{순번 20자리}.wal, 고정 크기(records-per-segment × 256바이트), 가득 차면 다음 세그먼트 생성
+ * - 레코드(256바이트 고정): [상태 1][길이 2][CRC32 4][payload 최대 249]
+ *   - 상태: 0=빈 칸, 1=기록됨(재발행 대기), 2=재발행 완료
+ *   - payload: {@link BidStreamPayload} compact 형식 (발행 형식 설정과 무관, 컨슈머는 두 형식 모두 처리)
+ * - 상태 바이트를 마지막에 쓰므로 기록 도중 종료되면 빈 칸으로 남고, CRC가 맞지 않는 레코드는 건너뛴다
+ * - 모든 레코드가 재발행된 세그먼트(현재 기록 중인 세그먼트 제외)는 삭제한다
+ *
+ * 재시작 시 기존 세그먼트를 다시 열어 재발행 대기 레코드부터 이어서 처리한다.
+ * mmap 페이지는 프로세스가 비정상 종료되어도 OS가 디스크에 내려쓰지만, OS/전원 장애까지 보장하려면
+ * 주기적인 force가 필요하다 (재발행 주기마다 수행).
+ * 재발행 직후 완료 표시 전에 종료되면 같은 메시지가 다시 발행될 수 있다 (at-least-once).
+ * 입찰 저장 메시지는 payload의 dedupeKey로 컨슈머가 중복을 걸러내므로 bid 행이 중복되지 않는다.
+ *
+ * bid.stream.publish-in-script=true면 입찰 반영과 발행이 같은 스크립트 안에서 이뤄져 앱에서 XADD할 일이 없으므로 사용하지 않는다.
+ * 저널 디렉터리는 재시작/재배포 후에도 남아야 하므로 절대 경로(컨테이너라면 영구 볼륨)만 허용하고, 아니면 기동을 거부한다.
+ */
+@Component
+@Slf4j
+public class BidSyncJournal implements DisposableBean {
+
+    static final int RECORD_SIZE = 256;
+    private static final int HEADER_SIZE = 7;
+    private static final int MAX_PAYLOAD_SIZE = RECORD_SIZE - HEADER_SIZE;
+    private static final byte STATE_EMPTY = 0;
+    private static final byte STATE_WRITTEN = 1;
+    private static final byte STATE_REPLAYED = 2;
+    private static final String SEGMENT_PREFIX = "bid-sync-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final boolean enabled;
+    private final Path journalDir;
+    private final int recordsPerSegment;
+
+    /** 열려 있는 세그먼트 (순번 오름차순, 마지막이 기록 중인 세그먼트) */
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final AtomicLong pending = new AtomicLong(0);
+    private final Counter appendedCounter;
+    private final Counter appendFailCounter;
+
+    public BidSyncJournal(
+            MeterRegistry meterRegistry,
+            @Value("${bid.stream.journal.enabled:true}") boolean enabled,
+            @Value("${bid.stream.publish-in-script:true}") boolean publishInScript,
+            @Value("${bid.stream.journal.dir:/var/lib/fairbid/bid-sync-journal}") String journalDir,
+            @Value("${bid.stream.journal.records-per-segment:4096}") int recordsPerSegment
+    ) {
+        this.enabled = enabled && !publishInScript;
+        this.journalDir = Paths.get(journalDir);
+        if (this.enabled && !this.journalDir.isAbsolute()) {
+            // 상대 경로는 작업 디렉터리에 따라 위치가 바뀌고 컨테이너 재생성 시 함께 사라져 재발행 대기 메시지를 잃는다
+            throw new IllegalStateException(
+                    "bid.stream.journal.dir은 영구 저장소의 절대 경로여야 합니다: " + journalDir);
+        }
+        this.recordsPerSegment = recordsPerSegment;
+
+        this.appendedCounter = Counter.builder("fairbid_stream_journal_appended_total")
+                .tag("result", "success")
+                .description("스트림 발행 실패로 로컬 저널에 기록한 메시지 수")
+                .register(meterRegistry);
+        this.appendFailCounter = Counter.builder("fairbid_stream_journal_appended_total")
+                .tag("result", "fail")
+                .description("로컬 저널 기록까지 실패한 메시지 수 (RDB 동기화 누락)")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_stream_journal_pending", pending, AtomicLong::get)
+                .description("로컬 저널에서 재발행 대기 중인 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이전 실행에서 남은 세그먼트를 열고 재발행 위치를 복원한다
+     */
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(journalDir);
+            List<Path> paths;
+            try (Stream<Path> files = Files.list(journalDir)) {
+                paths = files.filter(path -> {
+                            String name = path.getFileName().toString();
+                            return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                        })
+                        .sorted()
+                        .toList();
+            }
+            for (Path path : paths) {
+                Segment segment = Segment.open(path, sequenceOf(path), recordsPerSegment);
+                segments.addLast(segment);
+                pending.addAndGet(segment.countWritten());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("입찰 동기화 저널 초기화 실패: " + journalDir, e);
+        }
+        if (pending.get() > 0) {
+            log.warn("입찰 동기화 저널 복원: 재발행 대기 {}건, segments={}", pending.get(), segments.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean hasPending() {
+        return pending.get() > 0;
+    }
+
+    /**
+     * 동기화 메시지를 저널 끝에 기록한다
+     *
+     * @param payload {@link BidStreamPayload} compact 형식 메시지
+     * @return 저널 위치 ID (journal-{세그먼트 순번}-{레코드 번호}), 비활성화/기록 실패 시 null
+     */
+    public String append(String payload) {
+        if (!enabled) {
+            return null;
+        }
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_PAYLOAD_SIZE) {
+            appendFailCounter.increment();
+            log.error("저널 레코드 크기 초과: size={}, payload={}", bytes.length, payload);
+            return null;
+        }
+
+        try {
+            String id;
+            synchronized (this) {
+                Segment segment = writableSegment();
+                int index = segment.writeIndex++;
+                segment.write(index, bytes);
+                id = "journal-" + segment.sequence + "-" + index;
+            }
+            pending.incrementAndGet();
+            appendedCounter.increment();
+            return id;
+        } catch (IOException | RuntimeException e) {
+            appendFailCounter.increment();
+            log.error("저널 기록 실패 (RDB 동기화 누락): payload={}, error={}", payload, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 재발행 대기 레코드를 기록 순서대로 최대 max건 읽는다 (완료 표시는 {@link #markReplayed})
+     */
+    public synchronized List<Entry> readPending(int max) {
+        List<Entry> entries = new ArrayList<>();
+        for (Segment segment : segments) {
+            for (int index = segment.replayIndex; index < segment.writeIndex && entries.size() < max; index++) {
+                if (segment.stateAt(index) != STATE_WRITTEN) {
+                    continue;
+                }
+                String payload = segment.read(index);
+                if (payload == null) {
+                    // CRC 불일치: 기록 도중 종료된 레코드로 보고 건너뜀
+                    log.error("저널 레코드 손상, 건너뜀: segment={}, index={}", segment.sequence, index);
+                    segment.markReplayed(index);
+                    pending.decrementAndGet();
+                    continue;
+                }
+                entries.add(new Entry(segment, index, payload));
+            }
+            if (entries.size() >= max) {
+                break;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 재발행 완료를 표시하고, 모두 완료된 지난 세그먼트는 삭제한다
+     */
+    public synchronized void markReplayed(Entry entry) {
+        entry.segment.markReplayed(entry.index);
+        pending.decrementAndGet();
+
+        while (segments.size() > 1 && segments.peekFirst().isFullyReplayed()) {
+            Segment done = segments.pollFirst();
+            done.delete();
+            log.info("저널 세그먼트 재발행 완료, 삭제: segment={}", done.sequence);
+        }
+    }
+
+    /**
+     * 기록 내용을 디스크에 내려쓴다 (OS 장애 대비, 재발행 주기마다 호출)
+     */
+    public synchronized void force() {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+    }
+
+    private Segment writableSegment() throws IOException {
+        Segment last = segments.peekLast();
+        if (last != null && last.writeIndex < recordsPerSegment) {
+            return last;
+        }
+        long sequence = last != null ? last.sequence + 1 : 0;
+        Files.createDirectories(journalDir);
+        Path path = journalDir.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        Segment segment = Segment.open(path, sequence, recordsPerSegment);
+        segments.addLast(segment);
+        log.info("저널 세그먼트 생성: segment={}", sequence);
+        return segment;
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    @Override
+    public synchronized void destroy() {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+    }
+
+    /**
+     * 재발행 대상 레코드
+     */
+    record Entry(Segment segment, int index, String payload) {
+    }
+
+    /**
+     * 고정 크기 mmap 세그먼트 파일
+     */
+    static final class Segment {
+
+        private final Path path;
+        private final long sequence;
+        private final int capacity;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        /** 다음 기록 위치 */
+        private int writeIndex;
+        /** 이 위치 앞은 모두 재발행 완료 */
+        private int replayIndex;
+
+        private Segment(Path path, long sequence, int capacity, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.sequence = sequence;
+            this.capacity = capacity;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        /**
+         * 세그먼트를 열고(없으면 생성) 기록/재발행 위치를 복원한다
+         */
+        static Segment open(Path path, long sequence, int capacity) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+            Segment segment = new Segment(path, sequence, capacity, channel, buffer);
+
+            int write = 0;
+            while (write < capacity && segment.stateAt(write) != STATE_EMPTY) {
+                write++;
+            }
+            int replay = 0;
+            while (replay < write && segment.stateAt(replay) == STATE_REPLAYED) {
+                replay++;
+            }
+            segment.writeIndex = write;
+            segment.replayIndex = replay;
+            return segment;
+        }
+
+        byte stateAt(int index) {
+            return buffer.get(index * RECORD_SIZE);
+        }
+
+        void write(int index, byte[] payload) {
+            int position = index * RECORD_SIZE;
+            buffer.putShort(position + 1, (short) payload.length);
+            buffer.putInt(position + 3, (int) crcOf(payload));
+            buffer.put(position + HEADER_SIZE, payload);
+            // 상태 바이트를 마지막에 기록 (커밋 표시)
+            buffer.put(position, STATE_WRITTEN);
+        }
+
+        /**
+         * 레코드 payload (CRC 불일치 시 null)
+         */
+        String read(int index) {
+            int position = index * RECORD_SIZE;
+            int length = buffer.getShort(position + 1);
+            if (length < 0 || length > MAX_PAYLOAD_SIZE) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_SIZE, payload);
+            if ((int) crcOf(payload) != buffer.getInt(position + 3)) {
+                return null;
+            }
+            return new String(payload, StandardCharsets.UTF_8);
+        }
+
+        void markReplayed(int index) {
+            buffer.put(index * RECORD_SIZE, STATE_REPLAYED);
+            while (replayIndex < writeIndex && stateAt(replayIndex) == STATE_REPLAYED) {
+                replayIndex++;
+            }
+        }
+
+        boolean isFullyReplayed() {
+            return writeIndex == capacity && replayIndex == capacity;
+        }
+
+        long countWritten() {
+            long count = 0;
+            for (int index = replayIndex; index < writeIndex; index++) {
+                if (stateAt(index) == STATE_WRITTEN) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        void close() {
+            try {
+                buffer.force();
+                channel.close();
+            } catch (IOException e) {
+                log.warn("저널 세그먼트 닫기 실패: segment={}, error={}", sequence, e.getMessage());
+            }
+        }
+
+        void delete() {
+            close();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("저널 세그먼트 삭제 실패: segment={}, error={}", sequence, e.getMessage());
+            }
+        }
+
+        private static long crcOf(byte[] payload) {
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return crc.getValue();
+        }
+    }
+}
@@ -2,17 +2,23 @@ package com.cos.fairbid.bid.adapter.out.stream;
 
 import com.cos.fairbid.bid.application.port.out.BidStreamPort;
 import com.cos.fairbid.bid.domain.Bid;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.connection.stream.StringRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 /**
  * Redis Stream 기반 입찰 RDB 동기화 메시지 발행 어댑터
@@ -22,6 +28,18 @@ import java.util.Map;
  *
  * XADD는 Redis 메모리 내 O(1) 연산이므로 DB 상태와 무관하게
  * 일정한 응답 시간(~0.1ms)을 보장한다.
+ *
+ * bid.stream.partitioned=true면 단일 스트림 대신 경매 버킷별 스트림(stream:bid-rdb-sync:{bucket})에 발행한다.
+ * 같은 경매의 메시지는 항상 같은 스트림에 쌓이므로, 파티션당 소유자 하나가 순서대로 소비할 수 있다.
+ * 파티션 모드 전환 시 단일 스트림에 남은 메시지는 기존 컨슈머가 계속 소진한다.
+ *
+ * bid.stream.compact-encoding=true면 필드별 문자열 대신 {@link BidStreamPayload} 단일 필드로 발행한다.
+ * 컨슈머는 두 형식을 모두 읽으므로, 모든 인스턴스를 배포한 뒤 켠다.
+ *
+ * XADD가 실패하면 메시지를 로컬 저널({@link BidSyncJournal}, mmap)에 기록하고 저널 위치 ID를 반환한다.
+ * replay-interval-millis마다 저널에 남은 메시지를 기록 순서대로 다시 XADD하며, 실패하면 다음 주기에 이어서 시도한다.
+ * 재발행 메시지는 새 Record ID를 받으므로, 입찰 저장 메시지는 첫 시도에서 정한 멱등 키(dedupeKey)로 중복을 판별한다.
+ * (스크립트 내 발행 모드에서는 Redis 장애 시 입찰 자체가 실패하므로 저널을 거치지 않는다)
  */
 @Component
 @Slf4j
@@ -29,13 +47,28 @@ public class RedisBidStreamAdapter implements BidStreamPort {
 
     /** Redis Stream 키 */
     public static final String STREAM_KEY = "stream:bid-rdb-sync";
+    /** 저널 재발행 1회 최대 건수 */
+    private static final int JOURNAL_REPLAY_BATCH_SIZE = 500;
 
     private final StringRedisTemplate redisTemplate;
+    private final BidSyncJournal journal;
+    private final boolean partitioned;
+    private final boolean compactEncoding;
     private final Counter publishSuccessCounter;
     private final Counter publishFailCounter;
+    private final Counter journalReplayedCounter;
 
-    public RedisBidStreamAdapter(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+    public RedisBidStreamAdapter(
+            StringRedisTemplate redisTemplate,
+            BidSyncJournal journal,
+            MeterRegistry meterRegistry,
+            @Value("${bid.stream.partitioned:true}") boolean partitioned,
+            @Value("${bid.stream.compact-encoding:false}") boolean compactEncoding
+    ) {
         this.redisTemplate = redisTemplate;
+        this.journal = journal;
+        this.partitioned = partitioned;
+        this.compactEncoding = compactEncoding;
         this.publishSuccessCounter = Counter.builder("fairbid_stream_publish_total")
                 .tag("result", "success")
                 .description("Stream 메시지 발행 성공 건수")
@@ -44,10 +77,33 @@ public class RedisBidStreamAdapter implements BidStreamPort {
                 .tag("result", "fail")
                 .description("Stream 메시지 발행 실패 건수")
                 .register(meterRegistry);
+        this.journalReplayedCounter = Counter.builder("fairbid_stream_journal_replayed_total")
+                .description("로컬 저널에서 스트림으로 재발행한 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 경매의 RDB 동기화 메시지를 발행할 스트림 키
+     *
+     * @param auctionId   경매 ID
+     * @param partitioned 파티션 모드 여부
+     * @return 파티션 모드면 버킷별 스트림 키, 아니면 단일 스트림 키
+     */
+    public static String streamKeyOf(Long auctionId, boolean partitioned) {
+        return partitioned ? AuctionRedisKeys.bidStreamKey(auctionId) : STREAM_KEY;
     }
 
     @Override
     public String publishBidSave(Bid bid) {
+        // XADD 시간 초과 후 실제로는 추가됐거나 저널 재발행이 중복되어도 컨슈머가 같은 입찰로 판별하도록
+        // 첫 시도에서 멱등 키와 발행 시각을 정해 스트림 메시지와 저널 레코드에 함께 싣는다
+        long publishedAtMs = System.currentTimeMillis();
+        String dedupeKey = newDedupeKey();
+        String payload = BidStreamPayload.encodeBidSave(bid, publishedAtMs, dedupeKey);
+        if (compactEncoding) {
+            return publish(Map.of(BidStreamPayload.FIELD, payload), "BID_SAVE", bid.getAuctionId(), () -> payload);
+        }
+
         Map<String, String> message = new HashMap<>();
         message.put("type", "BID_SAVE");
         message.put("auctionId", String.valueOf(bid.getAuctionId()));
@@ -55,8 +111,19 @@ public class RedisBidStreamAdapter implements BidStreamPort {
         message.put("amount", String.valueOf(bid.getAmount()));
         message.put("bidType", bid.getBidType().name());
         message.put("createdAt", bid.getCreatedAt().toString());
+        message.put(BidStreamPayload.PUBLISHED_AT_FIELD, String.valueOf(publishedAtMs));
+        message.put(BidStreamPayload.DEDUPE_KEY_FIELD, dedupeKey);
 
-        return publish(message, "BID_SAVE", bid.getAuctionId());
+        return publish(message, "BID_SAVE", bid.getAuctionId(), () -> payload);
+    }
+
+    /**
+     * 입찰 메시지 멱등 키 (128비트 난수, UUID 문자열 형식)
+     * UUID.randomUUID()의 SecureRandom 경합을 피하려고 ThreadLocalRandom을 쓴다 (보안 용도 아님).
+     */
+    private static String newDedupeKey() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
     }
 
     @Override
@@ -64,6 +131,14 @@ public class RedisBidStreamAdapter implements BidStreamPort {
             Long auctionId, Long currentPrice, Integer totalBidCount,
             Long bidIncrement, Long bidderId, Long currentTimeMs, Long scheduledEndTimeMs
     ) {
+        long publishedAtMs = System.currentTimeMillis();
+        Supplier<String> payload = () -> BidStreamPayload.encodeInstantBuyUpdate(
+                auctionId, currentPrice, totalBidCount, bidIncrement, bidderId, currentTimeMs, scheduledEndTimeMs,
+                publishedAtMs);
+        if (compactEncoding) {
+            return publish(Map.of(BidStreamPayload.FIELD, payload.get()), "INSTANT_BUY_UPDATE", auctionId, payload);
+        }
+
         Map<String, String> message = new HashMap<>();
         message.put("type", "INSTANT_BUY_UPDATE");
         message.put("auctionId", String.valueOf(auctionId));
@@ -73,8 +148,9 @@ public class RedisBidStreamAdapter implements BidStreamPort {
         message.put("bidderId", String.valueOf(bidderId));
         message.put("currentTimeMs", String.valueOf(currentTimeMs));
         message.put("scheduledEndTimeMs", String.valueOf(scheduledEndTimeMs));
+        message.put(BidStreamPayload.PUBLISHED_AT_FIELD, String.valueOf(publishedAtMs));
 
-        return publish(message, "INSTANT_BUY_UPDATE", auctionId);
+        return publish(message, "INSTANT_BUY_UPDATE", auctionId, payload);
     }
 
     /**
@@ -83,11 +159,12 @@ public class RedisBidStreamAdapter implements BidStreamPort {
      * @param message 메시지 필드 맵
      * @param type    메시지 타입 (로깅용)
      * @param auctionId 경매 ID (로깅용)
-     * @return Record ID 문자열, 실패 시 null
+     * @param journalPayload 발행 실패 시 저널에 기록할 compact 형식 메시지
+     * @return Record ID 문자열, 발행 실패 시 저널 위치 ID, 저널 기록까지 실패하면 null
      */
-    private String publish(Map<String, String> message, String type, Long auctionId) {
+    private String publish(Map<String, String> message, String type, Long auctionId, Supplier<String> journalPayload) {
         try {
-            StringRecord record = StreamRecords.string(message).withStreamKey(STREAM_KEY);
+            StringRecord record = StreamRecords.string(message).withStreamKey(streamKeyOf(auctionId, partitioned));
             RecordId recordId = redisTemplate.opsForStream().add(record);
 
             publishSuccessCounter.increment();
@@ -98,7 +175,48 @@ public class RedisBidStreamAdapter implements BidStreamPort {
             publishFailCounter.increment();
             log.error("Stream 메시지 발행 실패: type={}, auctionId={}, error={}",
                     type, auctionId, e.getMessage());
-            return null;
+            // 로컬 저널에 남기고 Redis 복구 후 재발행
+            String journalId = journal.append(journalPayload.get());
+            if (journalId != null) {
+                log.warn("로컬 저널에 기록 (재발행 예정): type={}, auctionId={}, journalId={}", type, auctionId, journalId);
+            }
+            return journalId;
+        }
+    }
+
+    /**
+     * 로컬 저널에 남은 메시지를 기록 순서대로 스트림에 다시 발행한다
+     * 한 건이라도 실패하면 멈추고 다음 주기에 같은 위치부터 이어서 시도한다 (순서 유지).
+     */
+    @Scheduled(fixedDelayString = "${bid.stream.journal.replay-interval-millis:1000}")
+    public void replayJournal() {
+        if (!journal.hasPending()) {
+            return;
+        }
+        journal.force();
+
+        int replayed = 0;
+        for (BidSyncJournal.Entry entry : journal.readPending(JOURNAL_REPLAY_BATCH_SIZE)) {
+            try {
+                String streamKey = streamKeyOf(BidStreamPayload.auctionIdOf(entry.payload()), partitioned);
+                redisTemplate.opsForStream().add(StreamRecords.string(Map.of(BidStreamPayload.FIELD, entry.payload()))
+                        .withStreamKey(streamKey));
+            } catch (IllegalArgumentException e) {
+                // 해석할 수 없는 메시지는 재발행해도 처리될 수 없으므로 건너뜀
+                log.error("저널 메시지 형식 오류, 건너뜀: payload={}, error={}", entry.payload(), e.getMessage());
+                journal.markReplayed(entry);
+                continue;
+            } catch (Exception e) {
+                log.warn("저널 재발행 실패 (다음 주기 재시도): replayed={}, error={}", replayed, e.getMessage());
+                break;
+            }
+            journal.markReplayed(entry);
+            replayed++;
+        }
+
+        if (replayed > 0) {
+            journalReplayedCounter.increment(replayed);
+            log.info("로컬 저널 재발행: {}건", replayed);
         }
     }
 }
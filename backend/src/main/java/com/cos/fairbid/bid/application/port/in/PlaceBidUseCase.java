@@ -4,6 +4,8 @@ import com.cos.fairbid.bid.domain.Bid;
 import com.cos.fairbid.bid.domain.BidType;
 import lombok.Builder;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 입찰 유스케이스 인터페이스
  */
@@ -17,13 +19,22 @@ public interface PlaceBidUseCase {
      */
     Bid placeBid(PlaceBidCommand command);
 
+    /**
+     * 입찰을 비동기로 처리한다
+     * Redis 응답을 기다리는 동안 요청 스레드를 점유하지 않으며, 이벤트/스트림 발행은 별도 스레드에서 수행한다.
+     *
+     * @param command 입찰 명령
+     * @return 생성된 입찰 도메인 객체 Future (실패 시 placeBid와 같은 도메인 예외로 완료)
+     */
+    CompletableFuture<Bid> placeBidAsync(PlaceBidCommand command);
+
     /**
      * 입찰 명령 객체
      *
      * @param auctionId 경매 ID
      * @param bidderId  입찰자 ID
-     * @param amount    입찰 금액 (ONE_TOUCH인 경우 무시됨)
-     * @param bidType   입찰 유형 (ONE_TOUCH / DIRECT)
+     * @param amount    입찰 금액 (ONE_TOUCH인 경우 무시됨, PROXY인 경우 최대 금액)
+     * @param bidType   입찰 유형 (ONE_TOUCH / DIRECT / INSTANT_BUY / PROXY)
      */
     @Builder
     record PlaceBidCommand(
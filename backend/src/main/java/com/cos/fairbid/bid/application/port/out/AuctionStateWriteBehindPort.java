@@ -0,0 +1,18 @@
+package com.cos.fairbid.bid.application.port.out;
+
+import com.cos.fairbid.bid.application.port.out.BidCachePort.BidResult;
+
+/**
+ * 경매 실시간 상태 write-behind 아웃바운드 포트
+ * 입찰로 바뀐 경매 상태(현재가, 입찰수, 연장 등)를 RDB에 지연 반영한다.
+ */
+public interface AuctionStateWriteBehindPort {
+
+    /**
+     * 입찰 결과로 경매 상태가 바뀌었음을 기록한다 (경매별 최신 상태만 보관 후 주기적으로 일괄 반영)
+     *
+     * @param auctionId 경매 ID
+     * @param result    Lua 스크립트 입찰 결과
+     */
+    void markDirty(Long auctionId, BidResult result);
+}
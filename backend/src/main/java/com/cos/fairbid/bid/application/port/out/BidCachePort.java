@@ -1,31 +1,33 @@
 package com.cos.fairbid.bid.application.port.out;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 입찰 캐시 아웃바운드 포트
  * Redis Lua 스크립트를 통한 원자적 입찰 처리
  */
 public interface BidCachePort {
 
-    /**
-     * 캐시에 경매 정보가 있는지 확인한다
-     *
-     * @param auctionId 경매 ID
-     * @return 캐시에 존재하면 true
-     */
-    boolean existsInCache(Long auctionId);
-
     /**
      * Lua 스크립트로 원자적 입찰 처리를 수행한다
      *
      * @param auctionId     경매 ID
-     * @param bidAmount     입찰 금액 (ONE_TOUCH면 0, INSTANT_BUY면 0)
+     * @param bidAmount     입찰 금액 (ONE_TOUCH면 0, INSTANT_BUY면 0, PROXY면 최대 금액)
      * @param bidderId      입찰자 ID
      * @param bidType       입찰 유형 (ONE_TOUCH / DIRECT / INSTANT_BUY)
      * @param currentTimeMs 현재 시간 (밀리초, 경매 연장 판단용)
-     * @return 입찰 결과 (성공 시 새 현재가, 실패 시 예외)
+     * @return 입찰 결과 (성공 시 새 현재가, 실패 시 예외, 캐시에 경매가 없으면 AuctionNotFoundException)
      */
     BidResult placeBidAtomic(Long auctionId, Long bidAmount, Long bidderId, String bidType, Long currentTimeMs);
 
+    /**
+     * Lua 스크립트 입찰을 비동기로 수행한다 (Redis 응답 대기 중 호출 스레드를 점유하지 않음)
+     * 인자와 결과는 {@link #placeBidAtomic}과 같으며, 실패는 같은 도메인 예외로 Future가 완료된다.
+     *
+     * @return 입찰 결과 Future
+     */
+    CompletableFuture<BidResult> placeBidAtomicAsync(Long auctionId, Long bidAmount, Long bidderId, String bidType, Long currentTimeMs);
+
     /**
      * 입찰 결과 DTO
      *
@@ -36,6 +38,15 @@ public interface BidCachePort {
      * @param extensionCount      연장 횟수
      * @param scheduledEndTimeMs  종료 예정 시간 (밀리초)
      * @param instantBuyActivated 즉시 구매 활성화 여부
+     * @param bidSaveRecordId     스크립트가 발행한 BID_SAVE 스트림 레코드 ID (스크립트 내 발행 모드가 아니면 null)
+     * @param instantBuyRecordId  스크립트가 발행한 INSTANT_BUY_UPDATE 스트림 레코드 ID (미발행 시 null)
+     * @param bidAmount           요청자 입찰로 기록된 금액 (대리 입찰 최대 금액만 갱신한 경우 null)
+     * @param topBidderId         처리 후 1순위 입찰자 ID (대리 입찰에 밀리면 요청자가 아닐 수 있음)
+     * @param autoBidderId        대리 입찰로 자동 응찰한 입찰자 ID (없으면 null)
+     * @param autoBidAmount       대리 자동 응찰 금액 (없으면 null)
+     * @param autoBidRecordId     스크립트가 발행한 대리 자동 응찰 BID_SAVE 레코드 ID (미발행 시 null)
+     * @param proxyBidderId       처리 후 남은 1순위의 대리 입찰자 ID (없으면 null)
+     * @param proxyMaxAmount      처리 후 남은 대리 입찰 최대 금액 (없으면 null)
      */
     record BidResult(
             Long newCurrentPrice,
@@ -44,6 +55,30 @@ public interface BidCachePort {
             Boolean extended,
             Integer extensionCount,
             Long scheduledEndTimeMs,
-            Boolean instantBuyActivated
-    ) {}
+            Boolean instantBuyActivated,
+            String bidSaveRecordId,
+            String instantBuyRecordId,
+            Long bidAmount,
+            Long topBidderId,
+            Long autoBidderId,
+            Long autoBidAmount,
+            String autoBidRecordId,
+            Long proxyBidderId,
+            Long proxyMaxAmount
+    ) {
+
+        /**
+         * RDB 동기화 메시지가 Lua 스크립트 안에서 이미 발행되었는지 여부
+         */
+        public boolean publishedInScript() {
+            return bidSaveRecordId != null || autoBidRecordId != null;
+        }
+
+        /**
+         * 대리 입찰 자동 응찰이 함께 기록되었는지 여부
+         */
+        public boolean hasAutoBid() {
+            return autoBidderId != null;
+        }
+    }
 }
@@ -2,7 +2,9 @@ package com.cos.fairbid.bid.application.port.out;
 
 import com.cos.fairbid.bid.domain.Bid;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 입찰 저장소 아웃바운드 포트
@@ -33,11 +35,19 @@ public interface BidRepositoryPort {
      * 중복 처리를 방지하기 위해 streamRecordId 기반으로 중복 체크한다.
      *
      * @param bid 저장할 입찰 도메인 객체
-     * @param streamRecordId Redis Stream 메시지 ID (중복 판별 키)
+     * @param streamRecordId 중복 판별 키 (메시지의 dedupeKey, 없으면 Redis Stream 메시지 ID)
      * @return 저장 성공 시 true, 중복으로 스킵 시 false
      */
     boolean saveIdempotent(Bid bid, String streamRecordId);
 
+    /**
+     * 여러 입찰을 한 번의 다중 행 INSERT로 멱등하게 저장한다 (중복 행은 무시)
+     * 밀린 Redis Stream 메시지를 배치 단위로 소진할 때 사용한다.
+     *
+     * @param bidsByStreamRecordId 중복 판별 키(메시지의 dedupeKey, 없으면 Redis Stream 메시지 ID) → 저장할 입찰 (삽입 순서 유지)
+     */
+    void saveAllIdempotent(Map<String, Bid> bidsByStreamRecordId);
+
     /**
      * 전체 입찰 건수를 조회한다
      * Redis-RDB 정합성 모니터링에 사용
@@ -45,4 +55,12 @@ public interface BidRepositoryPort {
      * @return 전체 입찰 건수
      */
     long countAll();
+
+    /**
+     * 경매별 입찰 수를 조회한다 (auction_id 인덱스 범위 조회, 증분 대사용)
+     *
+     * @param auctionIds 경매 ID 목록
+     * @return 경매 ID → 입찰 수 (입찰이 없는 경매는 포함되지 않음)
+     */
+    Map<Long, Long> countByAuctionIds(Collection<Long> auctionIds);
 }
@@ -13,6 +13,8 @@ import com.cos.fairbid.bid.domain.Bid;
  * - 디스크 기반 영속성 (앱 종료 시에도 메시지 유실 없음)
  * - DB 장애 시 호출 스레드 블로킹 없음 (CallerRunsPolicy 문제 해결)
  * - 실패 메시지 자동 재처리 (PENDING 메커니즘)
+ *
+ * 발행 실패 시에는 로컬 저널에 남긴 뒤 Redis 복구 후 재발행하므로 입찰 이력이 유실되지 않는다.
  */
 public interface BidStreamPort {
 
@@ -20,7 +22,7 @@ public interface BidStreamPort {
      * 입찰 이력 저장 메시지를 스트림에 발행한다.
      *
      * @param bid 저장할 입찰 도메인 객체
-     * @return 발행된 메시지의 Redis Stream Record ID (null이면 발행 실패)
+     * @return 발행된 메시지의 Redis Stream Record ID (발행 실패 후 로컬 저널에 기록했으면 저널 위치 ID, null이면 둘 다 실패)
      */
     String publishBidSave(Bid bid);
 
@@ -34,7 +36,7 @@ public interface BidStreamPort {
      * @param bidderId           즉시 구매 요청자 ID
      * @param currentTimeMs      즉시 구매 활성화 시간 (밀리초)
      * @param scheduledEndTimeMs 새 종료 예정 시간 (밀리초)
-     * @return 발행된 메시지의 Redis Stream Record ID (null이면 발행 실패)
+     * @return 발행된 메시지의 Redis Stream Record ID (발행 실패 후 로컬 저널에 기록했으면 저널 위치 ID, null이면 둘 다 실패)
      */
     String publishInstantBuyUpdate(
             Long auctionId, Long currentPrice, Integer totalBidCount,
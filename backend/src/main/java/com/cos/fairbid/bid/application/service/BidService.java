@@ -5,25 +5,54 @@ import com.cos.fairbid.auction.application.port.out.AuctionRepositoryPort;
 import com.cos.fairbid.auction.domain.Auction;
 import com.cos.fairbid.auction.domain.exception.AuctionNotFoundException;
 import com.cos.fairbid.bid.application.port.in.PlaceBidUseCase;
+import com.cos.fairbid.bid.application.port.out.AuctionStateWriteBehindPort;
 import com.cos.fairbid.bid.application.port.out.BidCachePort;
 import com.cos.fairbid.bid.application.port.out.BidCachePort.BidResult;
 import com.cos.fairbid.bid.application.port.out.BidEventPublisherPort;
 import com.cos.fairbid.bid.application.port.out.BidStreamPort;
 import com.cos.fairbid.bid.domain.Bid;
+import com.cos.fairbid.bid.domain.BidType;
+import com.cos.fairbid.bid.domain.exception.BidBackpressureException;
+import com.cos.fairbid.bid.domain.exception.InvalidBidException;
+import com.cos.fairbid.common.exception.DomainException;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
 /**
  * 입찰 서비스
  * Redis 메인 DB + Lua 스크립트로 원자적 입찰 처리
  *
  * 흐름:
- * 1. Redis 캐시 확인 (없으면 RDB에서 로드)
- * 2. Lua 스크립트로 원자적 입찰 처리 (Read + Write)
- * 3. WebSocket 이벤트 발행
- * 4. Redis Stream에 RDB 동기화 메시지 발행 (내구적 비동기 처리)
+ * 1. Lua 스크립트로 원자적 입찰 처리 (Read + Write, 캐시 미스면 RDB에서 로드 후 1회 재시도)
+ * 2. WebSocket 이벤트 발행
+ * 3. Redis Stream에 RDB 동기화 메시지 발행 (내구적 비동기 처리)
+ *    - 스크립트 내 발행 모드면 Lua 스크립트가 이미 XADD 했으므로 생략
+ * 4. 경매 실시간 상태(현재가, 입찰수, 연장 등)를 write-behind로 기록 (경매별 최신 상태만 주기적으로 RDB 일괄 반영)
+ *
+ * 대리 입찰(PROXY):
+ * 경쟁 최대 금액 비교와 자동 응찰은 Lua 스크립트에서 한 번에 처리된다.
+ * 요청자 입찰과 대리 자동 응찰이 각각 BID_SAVE로 기록되고, 1순위는 스크립트 결과(topBidderId)를 따른다.
+ * 대리 입찰 최대 금액은 Redis에만 보관되므로 캐시가 RDB에서 재적재되면 사라진다.
+ *
+ * 단계별 소요 시간은 fairbid_bid_stage_seconds{stage, bid_type, outcome}으로 기록한다 (BidStageTimers 참고).
+ *
+ * 비동기 입찰(placeBidAsync):
+ * Lua 스크립트를 리액티브 API로 실행하고, 응답 이후 이벤트/스트림 발행은 bidPublishExecutor에서 수행한다.
+ * 캐시 미스 시 RDB 적재는 bidCacheLoadExecutor(제한 풀)에서 수행하여 발행 순서 실행기를 막지 않는다.
+ * 응답은 발행 완료를 기다리지 않으므로 요청 처리 스레드와 Lettuce I/O 스레드 모두 블로킹되지 않는다.
+ * 후처리 대기열 자리(publishPermits)를 스크립트 실행 전에 확보하므로, 대기열이 가득 차면 입찰 자체를 503으로 거절하고
+ * 스크립트가 성공한 입찰의 후처리는 항상 실행기에 들어간다 (Lettuce 완료 스레드에서 직접 발행하지 않음).
  *
  * @Transactional 제거:
  * 기존에는 클래스 레벨 @Transactional로 인해 placeBid() 진입 시점에 DB 커넥션을 획득했다.
@@ -44,11 +73,23 @@ public class BidService implements PlaceBidUseCase {
     private final AuctionCachePort auctionCachePort;
     private final BidEventPublisherPort bidEventPublisher;
     private final BidStreamPort bidStreamPort;
+    private final AuctionStateWriteBehindPort auctionStateWriteBehind;
+    /** 비동기 입찰 후처리 실행기 (단일 스레드, 이벤트 순서 보장) */
+    private final Executor bidPublishExecutor;
+    /** 후처리 실행기 대기열 자리 (대기열 용량만큼, 스크립트 실행 전 확보하고 후처리 종료 시 반환) */
+    private final Semaphore publishPermits;
+    /** 비동기 입찰 캐시 미스 시 RDB 적재 실행기 (발행 실행기와 분리된 제한 풀) */
+    private final Executor bidCacheLoadExecutor;
 
     /** 입찰 성공 카운터 */
     private final Counter bidSuccessCounter;
     /** 입찰 실패 카운터 */
     private final Counter bidFailCounter;
+    /** 거절 사유(errorCode)별 입찰 거절 카운터 (사유 종류가 고정이므로 최초 발생 시 등록) */
+    private final ConcurrentHashMap<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    /** 단계별 소요 시간 타이머 (fairbid_bid_stage_seconds) */
+    private final BidStageTimers stageTimers;
 
     public BidService(
             BidCachePort bidCachePort,
@@ -56,6 +97,10 @@ public class BidService implements PlaceBidUseCase {
             AuctionCachePort auctionCachePort,
             BidEventPublisherPort bidEventPublisher,
             BidStreamPort bidStreamPort,
+            AuctionStateWriteBehindPort auctionStateWriteBehind,
+            @Qualifier("bidPublishExecutor") Executor bidPublishExecutor,
+            @Value("${bid.async.publish-queue-capacity:10000}") int publishQueueCapacity,
+            @Qualifier("bidCacheLoadExecutor") Executor bidCacheLoadExecutor,
             MeterRegistry meterRegistry
     ) {
         this.bidCachePort = bidCachePort;
@@ -63,6 +108,12 @@ public class BidService implements PlaceBidUseCase {
         this.auctionCachePort = auctionCachePort;
         this.bidEventPublisher = bidEventPublisher;
         this.bidStreamPort = bidStreamPort;
+        this.auctionStateWriteBehind = auctionStateWriteBehind;
+        this.bidPublishExecutor = bidPublishExecutor;
+        this.publishPermits = new Semaphore(publishQueueCapacity);
+        this.bidCacheLoadExecutor = bidCacheLoadExecutor;
+        this.meterRegistry = meterRegistry;
+        this.stageTimers = new BidStageTimers(meterRegistry);
 
         // Micrometer 메트릭 등록
         this.bidSuccessCounter = Counter.builder("fairbid_bid_total")
@@ -77,37 +128,204 @@ public class BidService implements PlaceBidUseCase {
 
     @Override
     public Bid placeBid(PlaceBidCommand command) {
-        // 1. 캐시 확인 (없으면 RDB에서 로드)
-        if (!bidCachePort.existsInCache(command.auctionId())) {
-            loadAuctionToRedis(command.auctionId());
+        try {
+            return doPlaceBid(command);
+        } catch (DomainException e) {
+            countRejection(e);
+            throw e;
         }
+    }
+
+    private Bid doPlaceBid(PlaceBidCommand command) {
+        validateCommand(command);
 
-        // 2. Lua 스크립트로 원자적 입찰 처리 (현재 시간 전달)
+        // 1~2. Lua 스크립트로 원자적 입찰 처리 (현재 시간 전달)
+        // 별도 EXISTS 조회 없이 바로 실행하고, 캐시 미스(NOT_FOUND)일 때만 RDB에서 로드 후 재시도
         long currentTimeMs = System.currentTimeMillis();
-        BidResult result = bidCachePort.placeBidAtomic(
+        BidResult result;
+        try {
+            result = placeBidAtomic(command, currentTimeMs);
+        } catch (AuctionNotFoundException e) {
+            stageTimers.record(BidStageTimers.CACHE_LOAD, command.bidType(), () -> loadAuctionToRedis(command.auctionId()));
+            result = placeBidAtomic(command, currentTimeMs);
+        }
+
+        Bid bid = toBid(command, result);
+        publishAfterBid(command, result, bid, currentTimeMs);
+
+        bidSuccessCounter.increment();
+        return bid;
+    }
+
+    @Override
+    public CompletableFuture<Bid> placeBidAsync(PlaceBidCommand command) {
+        try {
+            validateCommand(command);
+            // 후처리 대기열 자리를 먼저 확보 (없으면 스크립트를 실행하지 않고 거절)
+            if (!publishPermits.tryAcquire()) {
+                throw BidBackpressureException.publishBacklog(command.auctionId());
+            }
+        } catch (DomainException e) {
+            countRejection(e);
+            throw e;
+        }
+
+        long currentTimeMs = System.currentTimeMillis();
+        CompletableFuture<BidResult> placed;
+        try {
+            placed = placeBidAtomicAsync(command, currentTimeMs);
+        } catch (RuntimeException e) {
+            publishPermits.release();
+            throw e;
+        }
+        return placed
+                .exceptionallyCompose(e -> {
+                    Throwable cause = unwrap(e);
+                    if (!(cause instanceof AuctionNotFoundException)) {
+                        return CompletableFuture.failedFuture(cause);
+                    }
+                    // 캐시 미스: RDB 조회는 블로킹이므로 적재 전용 실행기에서 적재 후 1회 재시도
+                    try {
+                        return CompletableFuture
+                                .runAsync(() -> stageTimers.record(BidStageTimers.CACHE_LOAD, command.bidType(),
+                                        () -> loadAuctionToRedis(command.auctionId())), bidCacheLoadExecutor)
+                                .thenCompose(ignored -> placeBidAtomicAsync(command, currentTimeMs));
+                    } catch (RejectedExecutionException rejected) {
+                        return CompletableFuture.failedFuture(BidBackpressureException.cacheLoadBacklog(command.auctionId()));
+                    }
+                })
+                .thenApply(result -> {
+                    Bid bid = toBid(command, result);
+                    submitPublishAfterBid(command, result, bid, currentTimeMs);
+                    bidSuccessCounter.increment();
+                    return bid;
+                })
+                .whenComplete((bid, e) -> {
+                    if (e == null) {
+                        return;
+                    }
+                    // 후처리를 제출하지 못했으므로 확보한 자리를 반환
+                    publishPermits.release();
+                    if (unwrap(e) instanceof DomainException rejection) {
+                        countRejection(rejection);
+                    }
+                });
+    }
+
+    /**
+     * 입찰 거절을 사유별로 집계한다 (fairbid_bid_rejected_total{reason=errorCode})
+     */
+    private void countRejection(DomainException e) {
+        rejectionCounters.computeIfAbsent(e.getErrorCode(), reason -> Counter.builder("fairbid_bid_rejected_total")
+                        .tag("reason", reason)
+                        .description("사유별 입찰 거절 건수")
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private void validateCommand(PlaceBidCommand command) {
+        if (command.bidType() == BidType.PROXY && command.amount() == null) {
+            throw InvalidBidException.maxAmountRequiredForProxyBid();
+        }
+    }
+
+    /**
+     * Lua 스크립트 결과로 Bid 도메인 생성 (대리 입찰 최대 금액만 갱신한 경우 현재가 기준)
+     */
+    private Bid toBid(PlaceBidCommand command, BidResult result) {
+        log.debug("입찰 성공 (Redis Lua): auctionId={}, bidAmount={}, totalBidCount={}",
+                command.auctionId(), result.newCurrentPrice(), result.newTotalBidCount());
+
+        Long bidAmount = result.bidAmount() != null ? result.bidAmount() : result.newCurrentPrice();
+        return Bid.create(command.auctionId(), command.bidderId(), bidAmount, command.bidType());
+    }
+
+    /**
+     * 입찰 성공 후 웹소켓 이벤트와 RDB 동기화 메시지를 발행한다
+     */
+    private void publishAfterBid(PlaceBidCommand command, BidResult result, Bid bid, long currentTimeMs) {
+        // 4. 웹소켓 이벤트 발행 (실시간 알림) - BidResult에서 최신 값 사용
+        // 대리 입찰 자동 응찰이 있으면 요청자가 아닌 대리 입찰자가 1순위일 수 있다
+        Long topBidderId = result.topBidderId() != null ? result.topBidderId() : command.bidderId();
+        stageTimers.record(BidStageTimers.EVENT, command.bidType(),
+                () -> bidEventPublisher.publishBidPlaced(command.auctionId(), result, topBidderId));
+
+        // 5~6. Lua 스크립트가 이미 발행했다면 별도 XADD 생략
+        if (!result.publishedInScript()) {
+            stageTimers.record(BidStageTimers.STREAM, command.bidType(),
+                    () -> publishToStream(command, result, bid, currentTimeMs));
+        }
+
+        // 7. 경매 실시간 상태 write-behind (메모리 기록만, RDB 반영은 주기적 일괄 처리)
+        auctionStateWriteBehind.markDirty(command.auctionId(), result);
+    }
+
+    /**
+     * 후처리를 실행기에 제출한다 (확보한 대기열 자리는 후처리가 끝나면 반환)
+     * 자리를 미리 확보했으므로 대기열 포화로 거부되지 않는다. 종료 중이라 거부되면 발행하지 않고 기록만 남긴다
+     * (Lettuce 완료 스레드에서 직접 발행하면 I/O 스레드가 막히고 이벤트 순서가 깨진다).
+     */
+    private void submitPublishAfterBid(PlaceBidCommand command, BidResult result, Bid bid, long currentTimeMs) {
+        try {
+            bidPublishExecutor.execute(() -> {
+                try {
+                    publishAfterBid(command, result, bid, currentTimeMs);
+                } finally {
+                    publishPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            publishPermits.release();
+            bidFailCounter.increment();
+            log.error("입찰 후처리 실행기 거부 (이벤트/RDB 동기화 발행 누락): auctionId={}, bidderId={}, amount={}",
+                    command.auctionId(), bid.getBidderId(), bid.getAmount());
+        }
+    }
+
+    /**
+     * Lua 스크립트 입찰 실행 (캐시에 경매가 없으면 AuctionNotFoundException)
+     */
+    private BidResult placeBidAtomic(PlaceBidCommand command, long currentTimeMs) {
+        return stageTimers.record(BidStageTimers.LUA, command.bidType(), () -> bidCachePort.placeBidAtomic(
                 command.auctionId(),
                 command.amount() != null ? command.amount() : 0L,
                 command.bidderId(),
                 command.bidType().name(),
                 currentTimeMs
-        );
-
-        log.debug("입찰 성공 (Redis Lua): auctionId={}, bidAmount={}, totalBidCount={}",
-                command.auctionId(), result.newCurrentPrice(), result.newTotalBidCount());
+        ));
+    }
 
-        // 3. Bid 도메인 생성
-        Bid bid = Bid.create(command.auctionId(), command.bidderId(), result.newCurrentPrice(), command.bidType());
+    /**
+     * Lua 스크립트 비동기 입찰 실행
+     */
+    private CompletableFuture<BidResult> placeBidAtomicAsync(PlaceBidCommand command, long currentTimeMs) {
+        return stageTimers.recordAsync(BidStageTimers.LUA, command.bidType(), () -> bidCachePort.placeBidAtomicAsync(
+                command.auctionId(),
+                command.amount() != null ? command.amount() : 0L,
+                command.bidderId(),
+                command.bidType().name(),
+                currentTimeMs
+        ));
+    }
 
-        // 4. 웹소켓 이벤트 발행 (실시간 알림) - BidResult에서 최신 값 사용
-        // 입찰 성공한 사람이 곧 1순위 입찰자(topBidderId)
-        bidEventPublisher.publishBidPlaced(command.auctionId(), result, command.bidderId());
+    private Throwable unwrap(Throwable e) {
+        return (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+    }
 
+    /**
+     * Redis Stream에 RDB 동기화 메시지를 별도로 발행 (스크립트 내 발행 모드가 아닐 때)
+     */
+    private void publishToStream(PlaceBidCommand command, BidResult result, Bid bid, long currentTimeMs) {
         // 5. Redis Stream에 RDB 동기화 메시지 발행 (XADD, DB 상태와 무관하게 O(1))
-        String recordId = bidStreamPort.publishBidSave(bid);
-        if (recordId == null) {
-            bidFailCounter.increment();
-            log.warn("Stream 발행 실패 (RDB 동기화 누락 가능): auctionId={}, bidderId={}",
-                    command.auctionId(), command.bidderId());
+        // 대리 입찰 최대 금액만 갱신한 경우 기록할 입찰이 없다
+        if (result.bidAmount() != null) {
+            publishBidSave(bid);
+        }
+
+        // 5-1. 대리 입찰 자동 응찰 기록
+        if (result.hasAutoBid()) {
+            publishBidSave(Bid.create(
+                    command.auctionId(), result.autoBidderId(), result.autoBidAmount(), BidType.PROXY));
         }
 
         // 6. 즉시 구매 활성화 시에만 업데이트 메시지 발행
@@ -125,9 +343,15 @@ public class BidService implements PlaceBidUseCase {
                 log.warn("즉시구매 업데이트 Stream 발행 실패: auctionId={}", command.auctionId());
             }
         }
+    }
 
-        bidSuccessCounter.increment();
-        return bid;
+    private void publishBidSave(Bid bid) {
+        String recordId = bidStreamPort.publishBidSave(bid);
+        if (recordId == null) {
+            bidFailCounter.increment();
+            log.warn("Stream 발행 실패 (RDB 동기화 누락 가능): auctionId={}, bidderId={}",
+                    bid.getAuctionId(), bid.getBidderId());
+        }
     }
 
     /**
@@ -0,0 +1,109 @@
+package com.cos.fairbid.bid.application.service;
+
+import com.cos.fairbid.auction.domain.exception.AuctionNotFoundException;
+import com.cos.fairbid.bid.domain.BidType;
+import com.cos.fairbid.common.exception.DomainException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 입찰 처리 단계별 소요 시간 타이머
+ *
+ * fairbid_bid_stage_seconds{stage, bid_type, outcome}
+ * - stage: cache_load(캐시 미스 시 RDB → Redis 적재), lua(입찰 스크립트), event(WebSocket 이벤트 발행), stream(별도 XADD)
+ * - outcome: success / rejected(도메인 예외) / cache_miss(lua 단계에서 경매 캐시 없음, 적재 후 재시도) / error(그 외 예외)
+ *
+ * p99가 나빠졌을 때 어느 구간이 원인인지 프로파일러 없이 구분하기 위한 용도이며,
+ * 히스토그램 버킷은 100µs ~ 2s 범위로 제한한다.
+ */
+final class BidStageTimers {
+
+    static final String CACHE_LOAD = "cache_load";
+    static final String LUA = "lua";
+    static final String EVENT = "event";
+    static final String STREAM = "stream";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_REJECTED = "rejected";
+    private static final String OUTCOME_CACHE_MISS = "cache_miss";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    /** stage:bidType:outcome → Timer (조합 수가 고정이므로 최초 사용 시 등록) */
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    BidStageTimers(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 동기 단계의 소요 시간을 기록한다
+     */
+    <T> T record(String stage, BidType bidType, Supplier<T> action) {
+        long start = System.nanoTime();
+        String outcome = OUTCOME_ERROR;
+        try {
+            T result = action.get();
+            outcome = OUTCOME_SUCCESS;
+            return result;
+        } catch (DomainException e) {
+            outcome = rejectionOutcome(stage, e);
+            throw e;
+        } finally {
+            timer(stage, bidType, outcome).record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * 반환값이 없는 동기 단계의 소요 시간을 기록한다
+     */
+    void record(String stage, BidType bidType, Runnable action) {
+        record(stage, bidType, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 비동기 단계의 소요 시간을 기록한다 (Future 완료 시점까지)
+     */
+    <T> CompletableFuture<T> recordAsync(String stage, BidType bidType, Supplier<CompletableFuture<T>> action) {
+        long start = System.nanoTime();
+        return action.get().whenComplete((result, e) ->
+                timer(stage, bidType, outcomeOf(stage, e)).record(Duration.ofNanos(System.nanoTime() - start)));
+    }
+
+    private String outcomeOf(String stage, Throwable e) {
+        if (e == null) {
+            return OUTCOME_SUCCESS;
+        }
+        Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+        return cause instanceof DomainException rejection ? rejectionOutcome(stage, rejection) : OUTCOME_ERROR;
+    }
+
+    /**
+     * lua 단계의 NOT_FOUND는 입찰 거절이 아니라 캐시 미스이므로 rejected와 구분한다
+     * (첫 시도가 캐시 미스로 끝난 시간이 rejected 지연 분포에 섞이지 않도록)
+     */
+    private String rejectionOutcome(String stage, DomainException e) {
+        return LUA.equals(stage) && e instanceof AuctionNotFoundException ? OUTCOME_CACHE_MISS : OUTCOME_REJECTED;
+    }
+
+    private Timer timer(String stage, BidType bidType, String outcome) {
+        return timers.computeIfAbsent(stage + ":" + bidType + ":" + outcome, key -> Timer.builder("fairbid_bid_stage_seconds")
+                .tag("stage", stage)
+                .tag("bid_type", bidType.name())
+                .tag("outcome", outcome)
+                .description("입찰 처리 단계별 소요 시간")
+                .publishPercentileHistogram(true)
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(2))
+                .register(meterRegistry));
+    }
+}
@@ -46,6 +46,22 @@ public enum BidType {
             }
             return instantBuyPrice;
         }
+    },
+
+    /**
+     * 대리 입찰 - 사용자가 최대 금액을 등록하면 경쟁 입찰이 들어올 때마다
+     * 최대 금액 한도 안에서 입찰 단위만큼 자동으로 응찰
+     * 실제 입찰 금액은 Redis Lua 스크립트에서 경쟁 최대 금액과 비교해 결정된다
+     */
+    PROXY {
+        @Override
+        public Long calculateAmount(Long requestedAmount, Auction auction) {
+            if (requestedAmount == null) {
+                throw InvalidBidException.maxAmountRequiredForProxyBid();
+            }
+            // 경쟁 대리 입찰이 없을 때의 첫 입찰 금액 (최대 금액은 별도로 보관)
+            return auction.getMinBidAmount();
+        }
     };
 
     /**
@@ -0,0 +1,46 @@
+package com.cos.fairbid.bid.domain.exception;
+
+import com.cos.fairbid.common.exception.DomainException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 입찰 처리 적체로 새 입찰을 받지 않을 때 발생하는 예외
+ * HTTP 503 Service Unavailable에 매핑 (클라이언트는 잠시 후 재시도)
+ */
+public class BidBackpressureException extends DomainException {
+
+    private BidBackpressureException(String errorCode, String message) {
+        super(errorCode, message, false);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+
+    /**
+     * 비동기 입찰 후처리(이벤트/스트림 발행) 대기열이 가득 찬 경우
+     *
+     * @param auctionId 경매 ID
+     * @return BidBackpressureException 인스턴스
+     */
+    public static BidBackpressureException publishBacklog(Long auctionId) {
+        return new BidBackpressureException(
+                "BID_PUBLISH_BACKLOG",
+                String.format("입찰 처리 요청이 많아 경매 %d의 입찰을 받을 수 없습니다. 잠시 후 다시 시도해주세요.", auctionId)
+        );
+    }
+
+    /**
+     * 캐시 미스 시 RDB 적재 대기열이 가득 찬 경우
+     *
+     * @param auctionId 경매 ID
+     * @return BidBackpressureException 인스턴스
+     */
+    public static BidBackpressureException cacheLoadBacklog(Long auctionId) {
+        return new BidBackpressureException(
+                "BID_CACHE_LOAD_BACKLOG",
+                String.format("경매 %d 정보를 불러오는 요청이 많아 입찰을 받을 수 없습니다. 잠시 후 다시 시도해주세요.", auctionId)
+        );
+    }
+}
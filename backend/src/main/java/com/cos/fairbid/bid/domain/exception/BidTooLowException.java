@@ -10,7 +10,7 @@ import org.springframework.http.HttpStatus;
 public class BidTooLowException extends DomainException {
 
     private BidTooLowException(String errorCode, String message) {
-        super(errorCode, message);
+        super(errorCode, message, false);
     }
 
     @Override
@@ -30,6 +30,18 @@ public class InvalidBidException extends DomainException {
         );
     }
 
+    /**
+     * 대리 입찰 시 최대 금액이 누락된 경우
+     *
+     * @return InvalidBidException 인스턴스
+     */
+    public static InvalidBidException maxAmountRequiredForProxyBid() {
+        return new InvalidBidException(
+                "MAX_AMOUNT_REQUIRED",
+                "대리 입찰 시 최대 금액은 필수입니다."
+        );
+    }
+
     /**
      * 입찰자 ID가 누락된 경우
      *
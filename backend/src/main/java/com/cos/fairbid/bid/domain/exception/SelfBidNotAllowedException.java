@@ -6,11 +6,16 @@ import org.springframework.http.HttpStatus;
 /**
  * 본인이 등록한 경매에 입찰 시도 시 발생하는 예외
  * HTTP 403 Forbidden에 매핑
+ * 메시지가 고정이므로 인스턴스를 재사용한다
  */
 public class SelfBidNotAllowedException extends DomainException {
 
+    /** 미리 생성한 인스턴스 (스택 트레이스/suppressed 없음 → 공유해도 상태가 바뀌지 않음) */
+    private static final SelfBidNotAllowedException INSTANCE =
+            new SelfBidNotAllowedException("SELF_BID_NOT_ALLOWED", "본인이 등록한 경매에는 입찰할 수 없습니다.");
+
     private SelfBidNotAllowedException(String errorCode, String message) {
-        super(errorCode, message);
+        super(errorCode, message, false);
     }
 
     @Override
@@ -24,6 +29,6 @@ public class SelfBidNotAllowedException extends DomainException {
      * @return SelfBidNotAllowedException 인스턴스
      */
     public static SelfBidNotAllowedException create() {
-        return new SelfBidNotAllowedException("SELF_BID_NOT_ALLOWED", "본인이 등록한 경매에는 입찰할 수 없습니다.");
+        return INSTANCE;
     }
 }
@@ -0,0 +1,37 @@
+package com.cos.fairbid.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 경매 종료 병렬 처리 실행기 설정
+ *
+ * 경매마다 별도 트랜잭션(AuctionClosingHelper, REQUIRES_NEW)으로 처리하므로 경매 간 순서 의존이 없다.
+ * 스레드 수(parallelism)가 동시에 사용하는 DB 커넥션 수의 상한이 되므로 커넥션 풀보다 작게 둔다.
+ *
+ * 큐가 가득 차면 제출한 스케줄러 스레드가 직접 처리하여(CallerRunsPolicy) 선점한 경매를 버리지 않는다.
+ */
+@Configuration
+public class AuctionClosingAsyncConfig {
+
+    @Bean(name = "auctionClosingExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor auctionClosingExecutor(
+            @Value("${auction.closing.parallelism:8}") int parallelism,
+            @Value("${auction.closing.batch-size:500}") int batchSize
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(batchSize);
+        executor.setThreadNamePrefix("auction-closing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
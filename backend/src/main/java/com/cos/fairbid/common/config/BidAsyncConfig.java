@@ -0,0 +1,53 @@
+package com.cos.fairbid.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 입찰(v2) 후처리 실행기 설정
+ *
+ * 비동기 입찰 경로에서 Redis 응답 이후 작업은 Lettuce I/O 스레드를 막지 않도록 별도 실행기에서 수행한다.
+ *
+ * bidPublishExecutor (WebSocket 이벤트 발행, 스트림 별도 발행):
+ * 스레드를 1개로 고정하여 같은 경매의 입찰 이벤트가 Redis 처리 순서대로 발행되도록 한다.
+ * (Lettuce는 한 커넥션의 응답을 요청 순서대로 완료시키므로 제출 순서 = 스크립트 실행 순서)
+ * 대기열 자리는 BidService가 스크립트 실행 전에 확보하므로(같은 publish-queue-capacity 사용) 제출이 거부되지 않는다.
+ *
+ * bidCacheLoadExecutor (캐시 미스 시 RDB 적재):
+ * RDB 조회가 느려져도 이벤트 발행이 밀리지 않도록 발행 실행기와 분리한다.
+ * 대기열이 가득 차면 거부되고, 해당 입찰은 503(BID_CACHE_LOAD_BACKLOG)으로 거절된다.
+ */
+@Configuration
+public class BidAsyncConfig {
+
+    @Bean(name = "bidPublishExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor bidPublishExecutor(
+            @Value("${bid.async.publish-queue-capacity:10000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bid-publish-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "bidCacheLoadExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor bidCacheLoadExecutor(
+            @Value("${bid.async.cache-load-pool-size:4}") int poolSize,
+            @Value("${bid.async.cache-load-queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bid-cache-load-");
+        executor.initialize();
+        return executor;
+    }
+}
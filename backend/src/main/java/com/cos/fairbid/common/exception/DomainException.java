@@ -17,6 +17,18 @@ public abstract class DomainException extends RuntimeException {
         this.errorCode = errorCode;
     }
 
+    /**
+     * 스택 트레이스 수집 여부를 지정하는 생성자
+     * 경합 시 대량으로 발생하는 예상된 거절(입찰가 부족, 경매 종료 등)은 스택 트레이스가 필요 없으므로
+     * writableStackTrace=false로 생성하여 fillInStackTrace 비용을 없앤다.
+     *
+     * @param writableStackTrace false면 스택 트레이스를 수집하지 않음 (suppressed 예외도 비활성화)
+     */
+    protected DomainException(String errorCode, String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+        this.errorCode = errorCode;
+    }
+
     /**
      * HTTP 상태 코드를 반환한다
      * 각 예외 클래스에서 오버라이드하여 적절한 상태 코드 지정
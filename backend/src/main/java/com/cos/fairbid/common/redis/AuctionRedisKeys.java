@@ -0,0 +1,178 @@
+package com.cos.fairbid.common.redis;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 경매 Redis 키 스킴 (Redis Cluster 대응)
+ *
+ * 경매 ID를 버킷(auctionId % {@value #CLOSING_QUEUE_BUCKETS})으로 나누고, 버킷 번호를 해시 태그로 사용한다.
+ * 같은 버킷의 경매 해시와 종료 대기 큐는 같은 해시 슬롯에 배치되므로
+ * bid.lua처럼 두 키를 함께 다루는 스크립트도 Cluster에서 CROSSSLOT 없이 실행된다.
+ *
+ * 키 구조:
+ * - auction:{bucket}:{id}      : 경매 hot 해시
+ * - auction:{bucket}:{id}:meta : 경매 메타데이터 해시
+ * - auction:closing:{bucket}   : 버킷별 종료 대기 큐 (Sorted Set: score=종료시간ms, member=경매ID)
+ * - auction:closing-inflight:{bucket} : 버킷별 종료 처리 중 경매 (Sorted Set: score=리스 만료ms, member=경매ID)
+ * - stream:bid-rdb-sync:{bucket} : 버킷별 입찰 RDB 동기화 스트림 (파티션 모드, 경매별 순서 보장 단위)
+ * - bid:count:{bucket}         : 버킷별 누적 입찰 기록 수 (bid.lua가 증가, 16개 합계가 전역 입찰 카운터)
+ * - bid:changed:{bucket}       : 버킷별 입찰 변경 경매 인덱스 (Sorted Set: score=마지막 입찰/대사ms, member=경매ID, 증분 대사용)
+ * - bid:drifting:{bucket}      : 버킷별 입찰수 불일치 진행 중 경매 (Hash: field=경매ID, value=불일치 방향, 증분 대사용)
+ *
+ * 버킷 수를 바꾸면 기존 키 위치가 모두 달라지므로 상수로 고정한다.
+ */
+public final class AuctionRedisKeys {
+
+    /** 종료 대기 큐 버킷 수 (= 경매 키가 분산되는 해시 슬롯 수) */
+    public static final int CLOSING_QUEUE_BUCKETS = 16;
+
+    /** 경매 키 공통 접두사 (SCAN 패턴용) */
+    public static final String AUCTION_KEY_PREFIX = "auction:";
+    /** 메타데이터(cold) 키 접미사 */
+    public static final String META_KEY_SUFFIX = ":meta";
+    /** 버킷별 종료 대기 큐 키 접두사 */
+    public static final String CLOSING_QUEUE_KEY_PREFIX = "auction:closing:";
+    /** 버킷 분리 이전의 단일 종료 대기 큐 (배포 전환기 잔여 데이터 처리용) */
+    public static final String LEGACY_CLOSING_QUEUE_KEY = "auction:closing";
+    /** 버킷별 종료 처리 중(선점) 경매 키 접두사 */
+    public static final String CLOSING_INFLIGHT_KEY_PREFIX = "auction:closing-inflight:";
+    /** 버킷별 입찰 RDB 동기화 스트림 키 접두사 */
+    public static final String BID_STREAM_KEY_PREFIX = "stream:bid-rdb-sync:";
+    /** 버킷별 누적 입찰 기록 수 키 접두사 */
+    public static final String BID_COUNT_KEY_PREFIX = "bid:count:";
+    /** 버킷별 입찰 변경 경매 인덱스 키 접두사 */
+    public static final String CHANGED_AUCTIONS_KEY_PREFIX = "bid:changed:";
+    /** 버킷별 입찰수 불일치 진행 중 경매 키 접두사 (BidReconciler) */
+    public static final String DRIFTING_AUCTIONS_KEY_PREFIX = "bid:drifting:";
+    /** 경매 상태 변경 알림 Pub/Sub 채널 (message=경매ID, bid.lua에도 같은 이름으로 고정) */
+    public static final String INVALIDATION_CHANNEL = "auction:invalidate";
+    /** 종료 시간 변경 알림 Pub/Sub 채널 (message='경매ID:종료시간ms', bid.lua에도 같은 이름으로 고정) */
+    public static final String CLOSING_SCHEDULE_CHANNEL = "auction:closing-schedule";
+
+    private AuctionRedisKeys() {
+    }
+
+    /**
+     * 경매 ID의 버킷 번호
+     */
+    public static int bucketOf(Long auctionId) {
+        return (int) Math.floorMod(auctionId, (long) CLOSING_QUEUE_BUCKETS);
+    }
+
+    /**
+     * 경매 hot 해시 키 (예: auction:{3}:19)
+     */
+    public static String auctionKey(Long auctionId) {
+        return AUCTION_KEY_PREFIX + hashTag(bucketOf(auctionId)) + ":" + auctionId;
+    }
+
+    /**
+     * 경매 메타데이터 해시 키 (예: auction:{3}:19:meta)
+     */
+    public static String metaKey(Long auctionId) {
+        return auctionKey(auctionId) + META_KEY_SUFFIX;
+    }
+
+    /**
+     * 경매가 속한 종료 대기 큐 키 (예: auction:closing:{3})
+     */
+    public static String closingQueueKey(Long auctionId) {
+        return closingQueueKeyOfBucket(bucketOf(auctionId));
+    }
+
+    /**
+     * 버킷 번호의 종료 대기 큐 키
+     */
+    public static String closingQueueKeyOfBucket(int bucket) {
+        return CLOSING_QUEUE_KEY_PREFIX + hashTag(bucket);
+    }
+
+    /**
+     * 경매가 속한 버킷의 종료 처리 중 경매 키 (예: auction:closing-inflight:{3})
+     * 종료 대기 큐와 같은 해시 태그라 선점 스크립트가 두 키를 함께 다룰 수 있다.
+     */
+    public static String closingInFlightKey(Long auctionId) {
+        return closingInFlightKeyOfBucket(bucketOf(auctionId));
+    }
+
+    /**
+     * 버킷 번호의 종료 처리 중 경매 키
+     */
+    public static String closingInFlightKeyOfBucket(int bucket) {
+        return CLOSING_INFLIGHT_KEY_PREFIX + hashTag(bucket);
+    }
+
+    /**
+     * 경매가 속한 입찰 RDB 동기화 스트림 키 (예: stream:bid-rdb-sync:{3})
+     * 경매 해시와 같은 해시 태그라 bid.lua 안의 XADD도 같은 슬롯에서 실행된다.
+     */
+    public static String bidStreamKey(Long auctionId) {
+        return bidStreamKeyOfBucket(bucketOf(auctionId));
+    }
+
+    /**
+     * 버킷 번호의 입찰 RDB 동기화 스트림 키
+     */
+    public static String bidStreamKeyOfBucket(int bucket) {
+        return BID_STREAM_KEY_PREFIX + hashTag(bucket);
+    }
+
+    /**
+     * 전체 버킷의 입찰 RDB 동기화 스트림 키 목록
+     */
+    public static List<String> allBidStreamKeys() {
+        return IntStream.range(0, CLOSING_QUEUE_BUCKETS)
+                .mapToObj(AuctionRedisKeys::bidStreamKeyOfBucket)
+                .toList();
+    }
+
+    /**
+     * 경매가 속한 버킷의 누적 입찰 기록 수 키 (예: bid:count:{3})
+     */
+    public static String bidCountKey(Long auctionId) {
+        return bidCountKeyOfBucket(bucketOf(auctionId));
+    }
+
+    /**
+     * 버킷 번호의 누적 입찰 기록 수 키
+     */
+    public static String bidCountKeyOfBucket(int bucket) {
+        return BID_COUNT_KEY_PREFIX + hashTag(bucket);
+    }
+
+    /**
+     * 경매가 속한 버킷의 입찰 변경 경매 인덱스 키 (예: bid:changed:{3})
+     */
+    public static String changedAuctionsKey(Long auctionId) {
+        return changedAuctionsKeyOfBucket(bucketOf(auctionId));
+    }
+
+    /**
+     * 버킷 번호의 입찰 변경 경매 인덱스 키
+     */
+    public static String changedAuctionsKeyOfBucket(int bucket) {
+        return CHANGED_AUCTIONS_KEY_PREFIX + hashTag(bucket);
+    }
+
+    /**
+     * 버킷 번호의 입찰수 불일치 진행 중 경매 해시 키 (예: bid:drifting:{3}, field=경매ID, value=불일치 방향)
+     * 변경 경매 인덱스와 같은 해시 태그라 대사 완료 스크립트에서 함께 갱신할 수 있다.
+     */
+    public static String driftingAuctionsKeyOfBucket(int bucket) {
+        return DRIFTING_AUCTIONS_KEY_PREFIX + hashTag(bucket);
+    }
+
+    /**
+     * 경매 hot 해시 키 여부 (SCAN 결과에서 종료 대기 큐/메타 키 제외용)
+     */
+    public static boolean isAuctionKey(String key) {
+        return key.startsWith(AUCTION_KEY_PREFIX)
+                && !key.startsWith(LEGACY_CLOSING_QUEUE_KEY)
+                && !key.endsWith(META_KEY_SUFFIX);
+    }
+
+    private static String hashTag(int bucket) {
+        return "{" + bucket + "}";
+    }
+}
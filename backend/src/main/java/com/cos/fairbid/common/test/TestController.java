@@ -4,6 +4,7 @@ import com.cos.fairbid.auction.application.port.out.AuctionCachePort;
 import com.cos.fairbid.auction.application.port.out.AuctionRepositoryPort;
 import com.cos.fairbid.auction.domain.Auction;
 import com.cos.fairbid.auction.domain.exception.AuctionNotFoundException;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
 import com.cos.fairbid.common.response.ApiResponse;
 import com.cos.fairbid.trade.application.port.out.TradeRepositoryPort;
 import com.cos.fairbid.winning.application.port.in.CloseAuctionUseCase;
@@ -31,8 +32,6 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TestController {
 
-    private static final String AUCTION_KEY_PREFIX = "auction:";
-
     private final AuctionRepositoryPort auctionRepository;
     private final AuctionCachePort auctionCachePort;
     private final CloseAuctionUseCase closeAuctionUseCase;
@@ -57,14 +56,14 @@ public class TestController {
                 .orElseThrow(() -> AuctionNotFoundException.withId(auctionId));
 
         // 2. 종료 시간을 현재 + 5분으로 변경 (Redis Hash + Sorted Set 업데이트)
-        String key = AUCTION_KEY_PREFIX + auctionId;
+        String key = AuctionRedisKeys.auctionKey(auctionId);
         LocalDateTime newEndTime = LocalDateTime.now().plusMinutes(5);
         long newEndTimeMs = newEndTime.atZone(java.time.ZoneId.systemDefault())
                 .toInstant()
                 .toEpochMilli();
 
-        redisTemplate.opsForHash().put(key, "scheduledEndTime", newEndTime.toString());
         redisTemplate.opsForHash().put(key, "scheduledEndTimeMs", String.valueOf(newEndTimeMs));
+        redisTemplate.convertAndSend(AuctionRedisKeys.INVALIDATION_CHANNEL, String.valueOf(auctionId));
         auctionCachePort.addToClosingQueue(auctionId, newEndTimeMs);
 
         // 3. RDB도 함께 업데이트 (목록 조회 시 정확한 시간 표시를 위해)
@@ -97,14 +96,14 @@ public class TestController {
                 .orElseThrow(() -> AuctionNotFoundException.withId(auctionId));
 
         // 2. 종료 시간 변경 (Redis Hash + Sorted Set 업데이트)
-        String key = AUCTION_KEY_PREFIX + auctionId;
+        String key = AuctionRedisKeys.auctionKey(auctionId);
         LocalDateTime newEndTime = LocalDateTime.now().plusSeconds(seconds);
         long newEndTimeMs = newEndTime.atZone(java.time.ZoneId.systemDefault())
                 .toInstant()
                 .toEpochMilli();
 
-        redisTemplate.opsForHash().put(key, "scheduledEndTime", newEndTime.toString());
         redisTemplate.opsForHash().put(key, "scheduledEndTimeMs", String.valueOf(newEndTimeMs));
+        redisTemplate.convertAndSend(AuctionRedisKeys.INVALIDATION_CHANNEL, String.valueOf(auctionId));
         auctionCachePort.addToClosingQueue(auctionId, newEndTimeMs);
 
         // 3. RDB도 함께 업데이트 (목록 조회 시 정확한 시간 표시를 위해)
@@ -136,14 +135,14 @@ public class TestController {
                 .orElseThrow(() -> AuctionNotFoundException.withId(auctionId));
 
         // 2. 종료 시간을 과거로 설정 (Redis Hash + Sorted Set 업데이트)
-        String key = AUCTION_KEY_PREFIX + auctionId;
+        String key = AuctionRedisKeys.auctionKey(auctionId);
         LocalDateTime pastTime = LocalDateTime.now().minusMinutes(1);
         long pastTimeMs = pastTime.atZone(java.time.ZoneId.systemDefault())
                 .toInstant()
                 .toEpochMilli();
 
-        redisTemplate.opsForHash().put(key, "scheduledEndTime", pastTime.toString());
         redisTemplate.opsForHash().put(key, "scheduledEndTimeMs", String.valueOf(pastTimeMs));
+        redisTemplate.convertAndSend(AuctionRedisKeys.INVALIDATION_CHANNEL, String.valueOf(auctionId));
         auctionCachePort.addToClosingQueue(auctionId, pastTimeMs);
 
         // 3. RDB도 함께 업데이트
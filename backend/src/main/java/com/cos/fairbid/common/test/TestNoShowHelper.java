@@ -1,6 +1,7 @@
 package com.cos.fairbid.common.test;
 
 import com.cos.fairbid.trade.application.port.out.TradeRepositoryPort;
+import com.cos.fairbid.winning.application.port.out.ResponseDeadlineQueuePort;
 import com.cos.fairbid.winning.application.port.out.WinningRepositoryPort;
 import com.cos.fairbid.winning.domain.Winning;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class TestNoShowHelper {
 
     private final WinningRepositoryPort winningRepositoryPort;
     private final TradeRepositoryPort tradeRepositoryPort;
+    private final ResponseDeadlineQueuePort responseDeadlineQueue;
 
     /**
      * deadline을 만료시키는 별도 트랜잭션
@@ -45,6 +47,8 @@ public class TestNoShowHelper {
 
         firstWinning.expireResponseDeadlineForTest();
         winningRepositoryPort.save(firstWinning);
+        // 응답 기한 큐도 과거 기한으로 갱신 (노쇼 처리는 큐에서 선점한 건만 처리)
+        responseDeadlineQueue.schedule(auctionId, firstWinning.getResponseDeadline());
 
         result.put("firstWinning", Map.of(
                 "id", firstWinning.getId(),
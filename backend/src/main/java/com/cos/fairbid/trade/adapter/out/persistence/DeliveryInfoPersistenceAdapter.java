@@ -5,8 +5,10 @@ import com.cos.fairbid.trade.adapter.out.persistence.repository.DeliveryInfoJpaR
 import com.cos.fairbid.trade.application.port.out.DeliveryInfoRepositoryPort;
 import com.cos.fairbid.trade.domain.DeliveryInfo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,8 +19,12 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class DeliveryInfoPersistenceAdapter implements DeliveryInfoRepositoryPort {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO delivery_info (trade_id, status, payment_confirmed, payment_verified) VALUES (?, ?, ?, ?)";
+
     private final DeliveryInfoJpaRepository deliveryInfoJpaRepository;
     private final DeliveryInfoMapper deliveryInfoMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public DeliveryInfo save(DeliveryInfo deliveryInfo) {
@@ -27,6 +33,22 @@ public class DeliveryInfoPersistenceAdapter implements DeliveryInfoRepositoryPor
         return deliveryInfoMapper.toDomain(saved);
     }
 
+    /**
+     * 일괄 종료 시 생성되는 초기 배송 정보 저장 (배송지 등은 이후 구매자가 입력)
+     */
+    @Override
+    public void saveAll(List<DeliveryInfo> deliveryInfos) {
+        if (deliveryInfos.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, deliveryInfos, deliveryInfos.size(), (ps, deliveryInfo) -> {
+            ps.setLong(1, deliveryInfo.getTradeId());
+            ps.setString(2, deliveryInfo.getStatus().name());
+            ps.setBoolean(3, deliveryInfo.isPaymentConfirmed());
+            ps.setBoolean(4, deliveryInfo.isPaymentVerified());
+        });
+    }
+
     @Override
     public Optional<DeliveryInfo> findByTradeId(Long tradeId) {
         return deliveryInfoJpaRepository.findByTradeId(tradeId)
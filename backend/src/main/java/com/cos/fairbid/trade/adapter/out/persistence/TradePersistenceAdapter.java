@@ -6,8 +6,10 @@ import com.cos.fairbid.trade.application.port.out.TradeRepositoryPort;
 import com.cos.fairbid.trade.domain.Trade;
 import com.cos.fairbid.trade.domain.TradeStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -20,8 +22,13 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TradePersistenceAdapter implements TradeRepositoryPort {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO trade (auction_id, seller_id, buyer_id, final_price, status, method, response_deadline, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final TradeJpaRepository tradeJpaRepository;
     private final TradeMapper tradeMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     // 노쇼 체크 대상 상태
     private static final List<TradeStatus> PENDING_STATUSES = List.of(
@@ -36,6 +43,31 @@ public class TradePersistenceAdapter implements TradeRepositoryPort {
         return tradeMapper.toDomain(saved);
     }
 
+    /**
+     * JDBC 배치 INSERT 후 auction_id(unique)로 한 번에 다시 조회하여 생성된 ID를 채운다
+     */
+    @Override
+    public List<Trade> saveAll(List<Trade> trades) {
+        if (trades.isEmpty()) {
+            return List.of();
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, trades, trades.size(), (ps, trade) -> {
+            ps.setLong(1, trade.getAuctionId());
+            ps.setLong(2, trade.getSellerId());
+            ps.setLong(3, trade.getBuyerId());
+            ps.setLong(4, trade.getFinalPrice());
+            ps.setString(5, trade.getStatus().name());
+            ps.setString(6, trade.getMethod() != null ? trade.getMethod().name() : null);
+            ps.setTimestamp(7, Timestamp.valueOf(trade.getResponseDeadline()));
+            ps.setTimestamp(8, Timestamp.valueOf(trade.getCreatedAt()));
+        });
+        List<Long> auctionIds = trades.stream().map(Trade::getAuctionId).toList();
+        return tradeJpaRepository.findByAuctionIdIn(auctionIds)
+                .stream()
+                .map(tradeMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Trade> findById(Long id) {
         return tradeJpaRepository.findById(id)
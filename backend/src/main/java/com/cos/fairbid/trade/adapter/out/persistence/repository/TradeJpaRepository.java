@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,11 @@ public interface TradeJpaRepository extends JpaRepository<TradeEntity, Long> {
      */
     Optional<TradeEntity> findByAuctionId(Long auctionId);
 
+    /**
+     * 경매 ID 목록으로 거래 조회
+     */
+    List<TradeEntity> findByAuctionIdIn(Collection<Long> auctionIds);
+
     /**
      * 사용자의 거래 목록 조회 (구매자 또는 판매자로 참여한 거래)
      */
@@ -2,6 +2,7 @@ package com.cos.fairbid.trade.application.port.out;
 
 import com.cos.fairbid.trade.domain.DeliveryInfo;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,6 +15,11 @@ public interface DeliveryInfoRepositoryPort {
      */
     DeliveryInfo save(DeliveryInfo deliveryInfo);
 
+    /**
+     * 배송 정보를 한 번에 저장한다 (일괄 종료용, JDBC 배치 INSERT)
+     */
+    void saveAll(List<DeliveryInfo> deliveryInfos);
+
     /**
      * 거래 ID로 배송 정보를 조회한다
      */
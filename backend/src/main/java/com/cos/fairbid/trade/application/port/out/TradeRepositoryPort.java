@@ -15,6 +15,13 @@ public interface TradeRepositoryPort {
      */
     Trade save(Trade trade);
 
+    /**
+     * 거래를 한 번에 저장한다 (일괄 종료용, JDBC 배치 INSERT)
+     *
+     * @return 저장된 거래 목록 (ID 포함)
+     */
+    List<Trade> saveAll(List<Trade> trades);
+
     /**
      * ID로 거래를 조회한다
      */
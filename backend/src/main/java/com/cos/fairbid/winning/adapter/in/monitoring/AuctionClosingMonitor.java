@@ -0,0 +1,60 @@
+package com.cos.fairbid.winning.adapter.in.monitoring;
+
+import com.cos.fairbid.auction.application.port.out.AuctionCachePort;
+import com.cos.fairbid.auction.application.port.out.AuctionCachePort.ClosingQueueStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경매 종료 대기 큐 모니터 (모든 프로파일)
+ *
+ * refresh-interval-millis마다 전체 버킷의 종료 대기 큐를 파이프라인 1회로 집계해 Gauge로 노출한다.
+ *
+ * - fairbid_auction_closing_queue_depth: 종료 대기 중인 경매 수 (auction:closing:{bucket} 합계)
+ * - fairbid_auction_closing_queue_overdue: 그중 종료 시간이 이미 지났는데 아직 선점되지 않은 경매 수
+ *   (0보다 크게 유지되면 종료 처리가 밀리는 중)
+ * - fairbid_auction_closing_inflight: 선점되어 처리 중인 경매 수 (처리 실패 시 리스 만료까지 남아 있음)
+ *
+ * 경매별 실제 종료 지연 분포는 AuctionClosingMetrics의 fairbid_auction_closing_lag_seconds로 기록한다.
+ */
+@Component
+@Slf4j
+public class AuctionClosingMonitor {
+
+    private final AuctionCachePort auctionCachePort;
+    private final AtomicLong queued = new AtomicLong(0);
+    private final AtomicLong overdue = new AtomicLong(0);
+    private final AtomicLong inFlight = new AtomicLong(0);
+
+    public AuctionClosingMonitor(AuctionCachePort auctionCachePort, MeterRegistry meterRegistry) {
+        this.auctionCachePort = auctionCachePort;
+
+        Gauge.builder("fairbid_auction_closing_queue_depth", queued, AtomicLong::get)
+                .description("종료 대기 큐에 있는 경매 수")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_auction_closing_queue_overdue", overdue, AtomicLong::get)
+                .description("종료 시간이 지났지만 아직 선점되지 않은 경매 수")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_auction_closing_inflight", inFlight, AtomicLong::get)
+                .description("선점되어 종료 처리 중인 경매 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.closing.monitor.refresh-interval-millis:5000}")
+    public void refresh() {
+        try {
+            ClosingQueueStats stats = auctionCachePort.getClosingQueueStats(System.currentTimeMillis());
+            queued.set(stats.queued());
+            overdue.set(stats.overdue());
+            inFlight.set(stats.inFlight());
+        } catch (Exception e) {
+            // 직전 값을 유지하고 다음 주기에 재시도
+            log.debug("종료 대기 큐 현황 조회 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,21 +1,41 @@
 package com.cos.fairbid.winning.adapter.in.scheduler;
 
 import com.cos.fairbid.winning.application.port.in.CloseAuctionUseCase;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * 경매 종료 스케줄러
  * 매초 실행되어 종료 시간이 도래한 경매를 처리한다
+ *
+ * 종료 시간에 맞춘 처리는 AuctionClosingWheel이 담당하고,
+ * 이 폴링은 휠이 놓친 경매(Pub/Sub 유실, 재시작, 처리 실패 후 리스 만료)를 Redis 종료 대기 큐 기준으로 처리한다.
+ *
+ * 1회 실행 시간은 fairbid_auction_closing_poll_duration_seconds(직전 실행)로 노출한다.
+ * fixedDelay이므로 실행이 길어지면 다음 폴링도 그만큼 늦어진다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AuctionClosingScheduler {
 
     private final CloseAuctionUseCase closeAuctionUseCase;
+    /** 직전 폴링 실행 시간 (나노초) */
+    private final AtomicLong lastPollNanos = new AtomicLong(0);
+
+    public AuctionClosingScheduler(CloseAuctionUseCase closeAuctionUseCase, MeterRegistry meterRegistry) {
+        this.closeAuctionUseCase = closeAuctionUseCase;
+
+        Gauge.builder("fairbid_auction_closing_poll_duration_seconds", lastPollNanos,
+                        nanos -> nanos.get() / (double) TimeUnit.SECONDS.toNanos(1))
+                .description("직전 경매 종료 폴링 1회 실행 시간")
+                .register(meterRegistry);
+    }
 
     /**
      * 매초 실행되어 종료 대상 경매를 처리한다
@@ -23,10 +43,13 @@ public class AuctionClosingScheduler {
      */
     @Scheduled(fixedDelay = 1000)
     public void pollClosingAuctions() {
+        long startNanos = System.nanoTime();
         try {
             closeAuctionUseCase.closeExpiredAuctions();
         } catch (Exception e) {
             log.error("경매 종료 스케줄러 실행 중 오류 발생", e);
+        } finally {
+            lastPollNanos.set(System.nanoTime() - startNanos);
         }
     }
 }
@@ -0,0 +1,238 @@
+package com.cos.fairbid.winning.adapter.in.scheduler;
+
+import com.cos.fairbid.auction.application.port.out.AuctionCachePort;
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import com.cos.fairbid.winning.application.port.in.CloseAuctionUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 경매 종료 타이밍 휠 (인스턴스 메모리)
+ *
+ * AuctionClosingScheduler는 1초 간격 폴링이라 종료 시간 이후 최대 1초 + 이전 실행 시간만큼 늦게 종료되고,
+ * 그동안 bid.lua는 이미 입찰을 거절하므로 사용자에게 빈 구간이 생긴다.
+ * 종료 시간을 계층형 타이밍 휠(ClosingTimingWheel)에 예약해 두고 tick-millis 단위로 진행하여,
+ * 종료 시간이 지나는 즉시 closeExpiredAuctions를 실행한다.
+ *
+ * 예약 경로:
+ * - load-interval-millis마다 auction:closing:{bucket}에서 horizon-millis 안의 종료 시간을 읽어 예약 (Redis가 원본)
+ * - auction:closing-schedule 채널: 경매 등록(addToClosingQueue)과 bid.lua의 연장/즉시 구매가 새 종료 시간을 발행
+ *
+ * 종료 처리 자체는 closing-claim.lua 선점을 거치므로 모든 인스턴스의 휠이 같은 시각에 발화해도 한 번만 처리된다.
+ * 연장 전 종료 시간으로 발화해도 선점 대상이 없어 아무 일도 일어나지 않는다.
+ * Pub/Sub 유실, 재시작 등으로 휠이 놓친 경매는 AuctionClosingScheduler 폴링이 그대로 처리한다.
+ */
+@Component
+@Slf4j
+public class AuctionClosingWheel implements DisposableBean {
+
+    private final CloseAuctionUseCase closeAuctionUseCase;
+    private final AuctionCachePort auctionCachePort;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long tickMillis;
+    private final long horizonMillis;
+
+    private final ClosingTimingWheel wheel;
+    /** 경매 ID → 예약된 최신 종료 시간 (휠에 남은 이전 종료 시간 항목은 발화 시 무시) */
+    private final Map<Long, Long> deadlines = new ConcurrentHashMap<>();
+    /** 종료 처리 실행 중 또는 대기 중 여부 (연속 발화를 한 번의 실행으로 합침) */
+    private final AtomicBoolean closingRequested = new AtomicBoolean(false);
+
+    private final Counter firedCounter;
+
+    private ExecutorService tickExecutor;
+    private ExecutorService closingExecutor;
+    private RedisMessageListenerContainer listenerContainer;
+    private volatile boolean running;
+
+    public AuctionClosingWheel(
+            CloseAuctionUseCase closeAuctionUseCase,
+            AuctionCachePort auctionCachePort,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${auction.closing.wheel.enabled:true}") boolean enabled,
+            @Value("${auction.closing.wheel.tick-millis:10}") long tickMillis,
+            @Value("${auction.closing.wheel.wheel-size:64}") int wheelSize,
+            @Value("${auction.closing.wheel.horizon-millis:70000}") long horizonMillis
+    ) {
+        this.closeAuctionUseCase = closeAuctionUseCase;
+        this.auctionCachePort = auctionCachePort;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.tickMillis = tickMillis;
+        this.horizonMillis = horizonMillis;
+        this.wheel = new ClosingTimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+
+        this.firedCounter = Counter.builder("fairbid_auction_closing_wheel_fired_total")
+                .description("타이밍 휠이 종료 시간에 발화한 경매 수")
+                .register(meterRegistry);
+        Gauge.builder("fairbid_auction_closing_wheel_scheduled", deadlines, Map::size)
+                .description("타이밍 휠에 예약된 경매 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        tickExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auction-closing-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        closingExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auction-closing-wheel-fire");
+            thread.setDaemon(true);
+            return thread;
+        });
+        tickExecutor.submit(this::tickLoop);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisTemplate.getConnectionFactory());
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onScheduleMessage(message),
+                new ChannelTopic(AuctionRedisKeys.CLOSING_SCHEDULE_CHANNEL));
+        listenerContainer.setErrorHandler(e ->
+                // 놓친 종료 시간은 주기적 적재와 폴링이 보정
+                log.warn("종료 스케줄 구독 에러: {}", e.getMessage()));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("경매 종료 타이밍 휠 활성화: tickMillis={}, horizonMillis={}", tickMillis, horizonMillis);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+        if (tickExecutor != null) {
+            tickExecutor.shutdownNow();
+        }
+        if (closingExecutor != null) {
+            closingExecutor.shutdown();
+            closingExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * horizon-millis 안에 종료되는 경매를 Redis 종료 대기 큐에서 읽어 예약한다
+     */
+    @Scheduled(fixedDelayString = "${auction.closing.wheel.load-interval-millis:10000}")
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long nowMs = System.currentTimeMillis();
+            auctionCachePort.findClosingDeadlines(0, nowMs + horizonMillis).forEach(this::schedule);
+        } catch (Exception e) {
+            log.warn("종료 대기 큐 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 경매 종료 시간을 예약한다 (같은 종료 시간이 이미 예약되어 있으면 무시)
+     */
+    void schedule(Long auctionId, Long deadlineMs) {
+        Long previous = deadlines.put(auctionId, deadlineMs);
+        if (deadlineMs.equals(previous)) {
+            return;
+        }
+        boolean scheduled;
+        synchronized (wheel) {
+            scheduled = wheel.add(new ClosingTimingWheel.Entry(auctionId, deadlineMs));
+        }
+        if (!scheduled) {
+            // 이미 지난 종료 시간 (대기 큐에 남아 있거나 처리 실패 후 리스 대기 중): 즉시 처리 요청
+            deadlines.remove(auctionId, deadlineMs);
+            requestClosing();
+        }
+    }
+
+    private void onScheduleMessage(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            schedule(Long.valueOf(body.substring(0, separator)), Long.valueOf(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 종료 스케줄 메시지 무시: {}", body);
+        }
+    }
+
+    private void tickLoop() {
+        List<ClosingTimingWheel.Entry> expired = new ArrayList<>();
+        while (running) {
+            try {
+                synchronized (wheel) {
+                    wheel.advance(System.currentTimeMillis(), expired::add);
+                }
+                if (!expired.isEmpty()) {
+                    fire(expired);
+                    expired.clear();
+                }
+                Thread.sleep(tickMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("종료 타이밍 휠 진행 중 오류", e);
+            }
+        }
+    }
+
+    private void fire(List<ClosingTimingWheel.Entry> expired) {
+        int fired = 0;
+        for (ClosingTimingWheel.Entry entry : expired) {
+            // 이후 연장 등으로 종료 시간이 바뀐 항목은 새 종료 시간 항목이 따로 예약되어 있음
+            if (deadlines.remove(entry.auctionId(), entry.deadlineMs())) {
+                fired++;
+            }
+        }
+        if (fired > 0) {
+            firedCounter.increment(fired);
+            requestClosing();
+        }
+    }
+
+    /**
+     * 종료 처리를 요청한다 (실행 중에 들어온 요청은 현재 실행이 끝난 뒤 한 번 더 실행)
+     */
+    private void requestClosing() {
+        if (closingExecutor == null || !closingRequested.compareAndSet(false, true)) {
+            return;
+        }
+        closingExecutor.execute(() -> {
+            closingRequested.set(false);
+            try {
+                closeAuctionUseCase.closeExpiredAuctions();
+            } catch (Exception e) {
+                log.error("타이밍 휠 경매 종료 처리 중 오류 발생", e);
+            }
+        });
+    }
+}
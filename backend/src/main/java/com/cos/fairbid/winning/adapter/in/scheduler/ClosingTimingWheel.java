@@ -0,0 +1,123 @@
+package com.cos.fairbid.winning.adapter.in.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 경매 종료 시간용 계층형 타이밍 휠 (스레드 안전하지 않음, 호출 측에서 동기화)
+ *
+ * 각 단계는 wheelSize개 슬롯을 가지며, 슬롯 하나가 tickMs 구간을 담당한다.
+ * 현재 단계 범위(tickMs * wheelSize)를 넘는 종료 시간은 상위 단계(tick = 하위 단계 전체 범위)에 두고,
+ * 하위 단계 시간이 상위 슬롯 구간에 도달하면 그 슬롯을 꺼내 다시 배치한다.
+ * 예약/만료 모두 O(1)이며, 멀리 있는 종료 시간이 많아도 매 tick마다 훑지 않는다.
+ *
+ * 만료는 종료 시간 이후에만 일어난다 (슬롯 구간 [t, t + tickMs)가 모두 지난 뒤 만료, 최대 tickMs 지연).
+ */
+final class ClosingTimingWheel {
+
+    record Entry(long auctionId, long deadlineMs) {
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long intervalMs;
+    private final List<List<Entry>> slots;
+    /** 현재 슬롯 시작 시간 (tickMs 단위로 정렬) */
+    private long currentTimeMs;
+    private ClosingTimingWheel overflowWheel;
+    /** 전체 단계의 예약 수 (최하위 단계에서만 관리) */
+    private int size;
+
+    ClosingTimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.intervalMs = tickMs * wheelSize;
+        this.currentTimeMs = startMs - Math.floorMod(startMs, tickMs);
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * 종료 시간을 예약한다
+     *
+     * @return 이미 지난 종료 시간이면 false (호출 측에서 즉시 처리)
+     */
+    boolean add(Entry entry) {
+        if (!place(entry)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * nowMs까지 시간을 진행하고, 슬롯 구간이 모두 지난 항목을 만료 처리한다
+     */
+    void advance(long nowMs, Consumer<Entry> expired) {
+        while (currentTimeMs + tickMs <= nowMs) {
+            List<Entry> slot = drain(currentTimeMs);
+            size -= slot.size();
+            slot.forEach(expired);
+            currentTimeMs += tickMs;
+            cascade();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 종료 시간이 속한 단계의 슬롯에 넣는다
+     */
+    private boolean place(Entry entry) {
+        if (entry.deadlineMs() < currentTimeMs) {
+            return false;
+        }
+        if (entry.deadlineMs() < currentTimeMs + intervalMs) {
+            slots.get(slotOf(entry.deadlineMs())).add(entry);
+            return true;
+        }
+        return overflow().place(entry);
+    }
+
+    /**
+     * 하위 단계 시간이 도달한 상위 단계 슬롯을 꺼내 최하위 단계부터 다시 배치한다
+     * (상위 슬롯 구간 = 하위 단계 전체 범위이므로 꺼낸 항목은 모두 하위 단계에 들어간다)
+     */
+    private void cascade() {
+        ClosingTimingWheel lower = this;
+        while (lower.overflowWheel != null && lower.overflowWheel.currentTimeMs <= lower.currentTimeMs) {
+            ClosingTimingWheel upper = lower.overflowWheel;
+            List<Entry> slot = upper.drain(upper.currentTimeMs);
+            upper.currentTimeMs += upper.tickMs;
+            slot.forEach(this::place);
+            lower = upper;
+        }
+    }
+
+    private ClosingTimingWheel overflow() {
+        if (overflowWheel == null) {
+            // 상위 단계 시작 = 이 단계 범위 끝이 속한 상위 슬롯 (이 단계에 넣을 수 없는 종료 시간은 항상 그 이후)
+            overflowWheel = new ClosingTimingWheel(intervalMs, wheelSize, currentTimeMs + intervalMs);
+        }
+        return overflowWheel;
+    }
+
+    private List<Entry> drain(long slotStartMs) {
+        int index = slotOf(slotStartMs);
+        List<Entry> slot = slots.get(index);
+        if (slot.isEmpty()) {
+            return slot;
+        }
+        slots.set(index, new ArrayList<>());
+        return slot;
+    }
+
+    private int slotOf(long timeMs) {
+        return (int) Math.floorMod(timeMs / tickMs, (long) wheelSize);
+    }
+}
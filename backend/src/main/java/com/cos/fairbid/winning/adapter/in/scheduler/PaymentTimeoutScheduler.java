@@ -15,7 +15,7 @@ import java.util.List;
 
 /**
  * 응답 만료 감시 스케줄러
- * 주기적으로 응답 기한이 만료된 낙찰 건을 처리하고,
+ * 응답 기한이 만료된 낙찰 건을 Redis 응답 기한 큐 기준으로 처리하고,
  * 응답 마감 임박 시 리마인더 알림을 발송한다
  *
  * Trade 기반 시스템 (24시간 응답 기한)
@@ -31,10 +31,10 @@ public class PaymentTimeoutScheduler {
     private final AuctionRepositoryPort auctionRepositoryPort;
 
     /**
-     * 1분마다 실행되어 응답 기한 만료 건을 처리한다
-     * fixedDelay = 60000ms (1분) - 이전 작업 완료 후 1분 대기
+     * 매초 실행되어 응답 기한 큐에서 기한이 지난 건만 선점해 처리한다
+     * (기한이 지난 건이 없으면 Redis 명령 1회로 끝남)
      */
-    @Scheduled(fixedDelay = 60000)
+    @Scheduled(fixedDelayString = "${winning.response-deadline.poll-interval-millis:1000}")
     public void checkResponseTimeouts() {
         try {
             processNoShowUseCase.processExpiredPayments();
@@ -43,6 +43,19 @@ public class PaymentTimeoutScheduler {
         }
     }
 
+    /**
+     * 주기적으로 RDB에서 만료 건을 조회해 응답 기한 큐에서 누락된 건을 다시 예약한다
+     * (Redis 장애로 예약이 누락된 경우, 큐 도입 전 낙찰 건 대비)
+     */
+    @Scheduled(fixedDelayString = "${winning.response-deadline.reconcile-interval-millis:600000}")
+    public void reconcileResponseTimeouts() {
+        try {
+            processNoShowUseCase.reconcileExpiredPayments();
+        } catch (Exception e) {
+            log.error("응답 기한 큐 보정 중 오류 발생", e);
+        }
+    }
+
     /**
      * 1분마다 실행되어 응답 마감 임박 리마인더를 발송한다
      * 응답 마감 12시간 전에 구매자에게 알림 발송
@@ -7,8 +7,10 @@ import com.cos.fairbid.winning.application.port.out.WinningRepositoryPort;
 import com.cos.fairbid.winning.domain.Winning;
 import com.cos.fairbid.winning.domain.WinningStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -21,8 +23,13 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class WinningPersistenceAdapter implements WinningRepositoryPort {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO winning (auction_id, `rank`, bidder_id, bid_amount, status, payment_deadline, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
     private final JpaWinningRepository jpaWinningRepository;
     private final WinningMapper winningMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Winning save(Winning winning) {
@@ -31,6 +38,28 @@ public class WinningPersistenceAdapter implements WinningRepositoryPort {
         return winningMapper.toDomain(savedEntity);
     }
 
+    /**
+     * JPA IDENTITY 전략은 행마다 INSERT를 따로 실행하므로 JdbcTemplate 배치로 묶는다.
+     * 호출 측 트랜잭션(JpaTransactionManager)의 커넥션을 그대로 사용한다.
+     */
+    @Override
+    public void saveAll(List<Winning> winnings) {
+        if (winnings.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, winnings, winnings.size(), (ps, winning) -> {
+            ps.setLong(1, winning.getAuctionId());
+            ps.setInt(2, winning.getRank());
+            ps.setLong(3, winning.getBidderId());
+            ps.setLong(4, winning.getBidAmount());
+            ps.setString(5, winning.getStatus().name());
+            ps.setTimestamp(6, winning.getResponseDeadline() != null
+                    ? Timestamp.valueOf(winning.getResponseDeadline())
+                    : null);
+            ps.setTimestamp(7, Timestamp.valueOf(winning.getCreatedAt()));
+        });
+    }
+
     @Override
     public List<Winning> findByAuctionId(Long auctionId) {
         return jpaWinningRepository.findByAuctionId(auctionId)
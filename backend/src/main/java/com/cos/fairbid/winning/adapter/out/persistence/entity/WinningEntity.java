@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
  * DB 테이블 매핑 전용 (비즈니스 로직 금지)
  */
 @Entity
-@Table(name = "winning")
+@Table(name = "winning", indexes = @Index(name = "idx_winning_status_deadline", columnList = "status, payment_deadline"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -0,0 +1,88 @@
+package com.cos.fairbid.winning.adapter.out.redis;
+
+import com.cos.fairbid.winning.application.port.out.ResponseDeadlineQueuePort;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 낙찰 응답 기한 대기 큐 Redis 어댑터
+ *
+ * - winning:response-deadline:{rd} (Sorted Set): member=경매 ID, score=응답 기한(ms)
+ * - winning:response-deadline-inflight:{rd} (Sorted Set): 선점되어 처리 중인 경매, score=리스 만료(ms)
+ *
+ * 선점은 경매 종료 큐와 같은 closing-claim.lua를 사용한다 (두 키는 같은 해시 태그로 같은 슬롯에 둔다).
+ * 응답 기한 만료는 경매 종료보다 훨씬 드물어 버킷으로 나누지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisResponseDeadlineQueueAdapter implements ResponseDeadlineQueuePort {
+
+    static final String QUEUE_KEY = "winning:response-deadline:{rd}";
+    static final String IN_FLIGHT_KEY = "winning:response-deadline-inflight:{rd}";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @SuppressWarnings("rawtypes")
+    private DefaultRedisScript<List> claimScript;
+
+    @PostConstruct
+    public void init() {
+        claimScript = new DefaultRedisScript<>();
+        claimScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/closing-claim.lua")));
+        claimScript.setResultType(List.class);
+    }
+
+    @Override
+    public void schedule(Long auctionId, LocalDateTime deadline) {
+        long deadlineMs = deadline.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        try {
+            redisTemplate.opsForZSet().add(QUEUE_KEY, String.valueOf(auctionId), deadlineMs);
+            log.debug("응답 기한 예약: auctionId={}, deadlineMs={}", auctionId, deadlineMs);
+        } catch (Exception e) {
+            // 예약 누락은 RDB 보정 조회(NoShowProcessingService.reconcileExpiredPayments)가 다시 예약
+            log.warn("응답 기한 예약 실패 - auctionId: {}, error: {}", auctionId, e.getMessage());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> claimExpired(long currentTimeMs, long leaseMillis, int limit) {
+        List<Object> claimed = redisTemplate.execute(claimScript,
+                List.of(QUEUE_KEY, IN_FLIGHT_KEY),
+                String.valueOf(currentTimeMs), String.valueOf(currentTimeMs + leaseMillis), String.valueOf(limit));
+        if (claimed == null) {
+            return List.of();
+        }
+
+        List<Long> auctionIds = new ArrayList<>(claimed.size());
+        for (Object member : claimed) {
+            try {
+                auctionIds.add(Long.parseLong(member.toString()));
+            } catch (NumberFormatException e) {
+                log.warn("응답 기한 큐에 잘못된 경매 ID 발견: member={}", member);
+            }
+        }
+        return auctionIds;
+    }
+
+    @Override
+    public void complete(Collection<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(IN_FLIGHT_KEY, auctionIds.stream().map(String::valueOf).toArray());
+    }
+}
@@ -12,6 +12,11 @@ public interface ProcessNoShowUseCase {
      */
     void processExpiredPayments();
 
+    /**
+     * 응답 기한 큐에서 누락된 만료 건을 RDB에서 찾아 다시 예약한다 (보정용)
+     */
+    void reconcileExpiredPayments();
+
     /**
      * 단일 낙찰 건의 노쇼를 처리한다
      *
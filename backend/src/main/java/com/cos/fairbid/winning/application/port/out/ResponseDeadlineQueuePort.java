@@ -0,0 +1,41 @@
+package com.cos.fairbid.winning.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 낙찰 응답 기한 대기 큐 아웃바운드 포트
+ *
+ * 경매마다 응답 대기 중(PENDING_RESPONSE)인 낙찰은 최대 1건(1순위, 승계 후 2순위)이므로 경매 ID 단위로 관리한다.
+ * 큐 항목은 처리 시점에 RDB 상태로 다시 확인하므로, 응답 완료 등으로 남은 항목은 선점 후 무시된다.
+ */
+public interface ResponseDeadlineQueuePort {
+
+    /**
+     * 경매의 응답 기한을 예약한다 (이미 있으면 기한만 갱신)
+     * Redis 장애 시 예외를 던지지 않고 로그만 남긴다 (RDB 보정 조회가 다시 예약).
+     *
+     * @param auctionId 경매 ID
+     * @param deadline  응답 기한
+     */
+    void schedule(Long auctionId, LocalDateTime deadline);
+
+    /**
+     * 응답 기한이 지난 경매를 선점한다
+     * 선점한 경매는 리스가 유효한 동안 한 인스턴스에만 반환되며, 리스가 만료되면 다시 선점된다.
+     *
+     * @param currentTimeMs 현재 시간 (밀리초)
+     * @param leaseMillis   선점 유지 시간
+     * @param limit         최대 선점 수
+     * @return 선점한 경매 ID 목록
+     */
+    List<Long> claimExpired(long currentTimeMs, long leaseMillis, int limit);
+
+    /**
+     * 선점한 경매의 처리를 완료 표시한다
+     *
+     * @param auctionIds 경매 ID 목록
+     */
+    void complete(Collection<Long> auctionIds);
+}
@@ -19,6 +19,13 @@ public interface WinningRepositoryPort {
      */
     Winning save(Winning winning);
 
+    /**
+     * 낙찰 정보를 한 번에 저장한다 (일괄 종료용, JDBC 배치 INSERT)
+     *
+     * @param winnings 저장할 낙찰 도메인 객체 목록
+     */
+    void saveAll(List<Winning> winnings);
+
     /**
      * 경매 ID로 낙찰 정보를 조회한다
      *
@@ -0,0 +1,156 @@
+package com.cos.fairbid.winning.application.service;
+
+import com.cos.fairbid.auction.application.port.out.AuctionCachePort;
+import com.cos.fairbid.auction.application.port.out.AuctionCachePort.RankedBidders;
+import com.cos.fairbid.auction.application.port.out.AuctionRepositoryPort;
+import com.cos.fairbid.auction.domain.Auction;
+import com.cos.fairbid.auction.domain.AuctionStatus;
+import com.cos.fairbid.trade.application.port.out.DeliveryInfoRepositoryPort;
+import com.cos.fairbid.trade.application.port.out.TradeRepositoryPort;
+import com.cos.fairbid.trade.domain.DeliveryInfo;
+import com.cos.fairbid.trade.domain.Trade;
+import com.cos.fairbid.trade.domain.TradeMethod;
+import com.cos.fairbid.winning.application.port.out.AuctionClosedEventPublisherPort;
+import com.cos.fairbid.winning.application.port.out.ResponseDeadlineQueuePort;
+import com.cos.fairbid.winning.application.port.out.WinningRepositoryPort;
+import com.cos.fairbid.winning.domain.Winning;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 경매 일괄 종료 헬퍼
+ * 여러 경매의 종료 처리를 하나의 트랜잭션에서 모아서 실행
+ *
+ * AuctionClosingHelper는 경매마다 조회/저장 쿼리와 Redis 왕복을 따로 수행하므로,
+ * 같은 시각에 많은 경매가 끝나면 경매 수 × (RDB 5~6회 + Redis 4회)가 된다.
+ * 여기서는 묶음 단위로 조회(IN 쿼리 1회, Redis 파이프라인 1회) 후 경매/낙찰/거래/배송 정보를 JDBC 배치로 저장한다.
+ *
+ * 묶음 트랜잭션이 실패하면 묶음 전체가 롤백되고, 호출 측(AuctionClosingService)이 경매별 단건 처리로 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionBatchClosingHelper {
+
+    private final AuctionRepositoryPort auctionRepository;
+    private final AuctionCachePort auctionCachePort;
+    private final AuctionClosingProcessor closingProcessor;
+    private final WinningRepositoryPort winningRepository;
+    private final TradeRepositoryPort tradeRepositoryPort;
+    private final DeliveryInfoRepositoryPort deliveryInfoRepositoryPort;
+    private final AuctionClosedEventPublisherPort eventPublisher;
+    private final ResponseDeadlineQueuePort responseDeadlineQueue;
+
+    /**
+     * 경매 묶음 종료 처리
+     * 독립적인 트랜잭션에서 실행 (REQUIRES_NEW)
+     *
+     * @param auctionIds 종료 대상 경매 ID 목록 (선점 완료)
+     * @return 종료 결과 (Redis 동기화, 알림, 종료 지연 기록은 커밋 후 호출 측에서 수행)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public BatchClosingResult closeAll(List<Long> auctionIds) {
+        List<Auction> auctions = auctionRepository.findAllByIds(auctionIds);
+        Map<Long, RankedBidders> bidders = auctionCachePort.getRankedBidders(auctionIds);
+
+        List<AuctionClosingPlan> plans = new ArrayList<>(auctions.size());
+        List<Long> alreadyClosedIds = new ArrayList<>();
+        Map<Long, Long> scheduledEndTimes = new HashMap<>();
+        Set<Long> handledIds = new HashSet<>();
+
+        for (Auction auction : auctions) {
+            handledIds.add(auction.getId());
+
+            // 이미 종료된 경매는 스킵 (중복 처리 방지)
+            if (auction.getStatus() == AuctionStatus.ENDED || auction.getStatus() == AuctionStatus.FAILED) {
+                log.debug("이미 종료된 경매 스킵 - auctionId: {}, status: {}", auction.getId(), auction.getStatus());
+                alreadyClosedIds.add(auction.getId());
+                continue;
+            }
+
+            RankedBidders ranked = bidders.getOrDefault(auction.getId(), RankedBidders.empty());
+            plans.add(closingProcessor.plan(auction, ranked));
+            if (ranked.scheduledEndTimeMs() != null) {
+                scheduledEndTimes.put(auction.getId(), ranked.scheduledEndTimeMs());
+            }
+        }
+
+        // RDB에 없는 경매는 단건 처리로 넘겨 기존과 같은 예외/로그 경로를 따른다
+        List<Long> fallbackIds = auctionIds.stream()
+                .filter(id -> !handledIds.contains(id))
+                .toList();
+
+        if (!plans.isEmpty()) {
+            save(plans);
+            // 커밋 후 브로드캐스트 (AuctionClosedEventListener)
+            plans.forEach(plan -> eventPublisher.publishAuctionClosed(plan.auction().getId()));
+        }
+
+        log.info("경매 일괄 종료 - 종료: {}건, 이미 종료: {}건, 단건 재처리: {}건",
+                plans.size(), alreadyClosedIds.size(), fallbackIds.size());
+        return new BatchClosingResult(plans, alreadyClosedIds, fallbackIds, scheduledEndTimes);
+    }
+
+    private void save(List<AuctionClosingPlan> plans) {
+        List<Winning> winnings = new ArrayList<>();
+        List<Trade> trades = new ArrayList<>();
+        for (AuctionClosingPlan plan : plans) {
+            if (!plan.hasWinner()) {
+                continue;
+            }
+            winnings.add(plan.firstWinning());
+            if (plan.secondWinning() != null) {
+                winnings.add(plan.secondWinning());
+            }
+            trades.add(plan.trade());
+        }
+
+        // 1. 경매 종료 상태 반영 (진행 중이 아닌 경매가 섞이면 예외 → 묶음 롤백)
+        auctionRepository.closeAll(plans.stream().map(AuctionClosingPlan::auction).toList());
+
+        if (trades.isEmpty()) {
+            return;
+        }
+
+        // 2. 낙찰(1·2순위) 저장 후 1순위 응답 기한 예약
+        winningRepository.saveAll(winnings);
+        winnings.stream()
+                .filter(winning -> winning.getRank() == 1)
+                .forEach(winning -> responseDeadlineQueue.schedule(winning.getAuctionId(), winning.getResponseDeadline()));
+
+        // 3. 거래 저장 후 택배 거래는 배송 정보 생성
+        List<DeliveryInfo> deliveryInfos = tradeRepositoryPort.saveAll(trades).stream()
+                .filter(trade -> trade.getMethod() == TradeMethod.DELIVERY)
+                .map(trade -> DeliveryInfo.create(trade.getId()))
+                .toList();
+        if (!deliveryInfos.isEmpty()) {
+            deliveryInfoRepositoryPort.saveAll(deliveryInfos);
+        }
+    }
+
+    /**
+     * 경매 묶음 종료 결과
+     *
+     * @param plans             이번 트랜잭션에서 종료 처리한 경매
+     * @param alreadyClosedIds  이미 종료되어 있던 경매 ID
+     * @param fallbackIds       단건 처리로 넘길 경매 ID
+     * @param scheduledEndTimes 종료 처리한 경매의 Redis 기준 종료 예정 시간 (캐시에 없는 경매는 제외)
+     */
+    public record BatchClosingResult(
+            List<AuctionClosingPlan> plans,
+            List<Long> alreadyClosedIds,
+            List<Long> fallbackIds,
+            Map<Long, Long> scheduledEndTimes
+    ) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.cos.fairbid.winning.application.service;
 
 import com.cos.fairbid.auction.application.port.out.AuctionCachePort;
+import com.cos.fairbid.auction.application.port.out.AuctionCachePort.RankedBidders;
 import com.cos.fairbid.auction.application.port.out.AuctionRepositoryPort;
 import com.cos.fairbid.auction.domain.Auction;
 import com.cos.fairbid.auction.domain.AuctionStatus;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -38,9 +40,10 @@ public class AuctionClosingHelper {
      * 독립적인 트랜잭션에서 실행 (REQUIRES_NEW)
      *
      * @param auctionId 종료 대상 경매 ID
+     * @return 종료 처리한 경매 (이미 종료되어 있던 경매면 빈 값, 종료 지연은 커밋 후 호출 측에서 기록)
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processAuctionClosing(Long auctionId) {
+    public Optional<ClosedAuction> processAuctionClosing(Long auctionId) {
         // 새 트랜잭션에서 경매 다시 조회
         Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> AuctionNotFoundException.withId(auctionId));
@@ -49,11 +52,13 @@ public class AuctionClosingHelper {
         if (auction.getStatus() == AuctionStatus.ENDED || auction.getStatus() == AuctionStatus.FAILED) {
             log.debug("이미 종료된 경매 스킵 - auctionId: {}, status: {}", auctionId, auction.getStatus());
             auctionCachePort.removeFromClosingQueue(auctionId);
-            return;
+            return Optional.empty();
         }
 
-        // 1. Redis에서 1순위 입찰자 정보 조회 (Single Source of Truth)
-        Optional<TopBidderInfo> topBidderOpt = auctionCachePort.getTopBidderInfo(auctionId);
+        // 1. Redis에서 1·2순위 입찰자 정보와 종료 예정 시간 조회 (Single Source of Truth, HMGET 1회)
+        RankedBidders ranked = auctionCachePort.getRankedBidders(List.of(auctionId))
+                .getOrDefault(auctionId, RankedBidders.empty());
+        Optional<TopBidderInfo> topBidderOpt = ranked.first();
 
         // 2. 입찰자가 없으면 유찰 처리
         if (topBidderOpt.isEmpty() || !topBidderOpt.get().isValid()) {
@@ -65,7 +70,7 @@ public class AuctionClosingHelper {
 
             eventPublisher.publishAuctionClosed(auctionId);
             log.info("경매 유찰 완료 - auctionId: {}", auctionId);
-            return;
+            return Optional.of(new ClosedAuction(auction, ranked.scheduledEndTimeMs()));
         }
 
         // 3. 1순위 낙찰자 결정 (Redis 기준)
@@ -78,7 +83,7 @@ public class AuctionClosingHelper {
         closingProcessor.processFirstRankWinner(auction, topBidder);
 
         // 4. 2순위 후보 저장 (있는 경우, 1순위의 90% 이상인 경우만)
-        Optional<TopBidderInfo> secondBidderOpt = auctionCachePort.getSecondBidderInfo(auctionId);
+        Optional<TopBidderInfo> secondBidderOpt = ranked.second();
         if (secondBidderOpt.isPresent() && secondBidderOpt.get().isValid()) {
             TopBidderInfo secondBidder = secondBidderOpt.get();
             double threshold = topBidder.bidAmount() * Winning.AUTO_TRANSFER_THRESHOLD;
@@ -100,6 +105,7 @@ public class AuctionClosingHelper {
         eventPublisher.publishAuctionClosed(auctionId);
 
         log.info("경매 종료 완료 - auctionId: {}, winnerId: {}", auctionId, topBidder.bidderId());
+        return Optional.of(new ClosedAuction(auction, ranked.scheduledEndTimeMs()));
     }
 
     /**
@@ -119,4 +125,13 @@ public class AuctionClosingHelper {
             log.warn("Redis 동기화 실패 - auctionId: {}, error: {}", auction.getId(), e.getMessage());
         }
     }
+
+    /**
+     * 단일 경매 종료 결과
+     *
+     * @param auction            종료(낙찰/유찰) 처리된 경매
+     * @param scheduledEndTimeMs Redis 기준 종료 예정 시간 (캐시에 없으면 null)
+     */
+    public record ClosedAuction(Auction auction, Long scheduledEndTimeMs) {
+    }
 }
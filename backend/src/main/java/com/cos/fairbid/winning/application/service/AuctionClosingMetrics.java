@@ -0,0 +1,62 @@
+package com.cos.fairbid.winning.application.service;
+
+import com.cos.fairbid.auction.domain.Auction;
+import com.cos.fairbid.auction.domain.AuctionStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 경매 종료 지연 메트릭
+ *
+ * fairbid_auction_closing_lag_seconds{result}: 종료 예정 시간부터 실제 종료 처리(actualEndTime)까지의 지연
+ * - result: ENDED(낙찰) / FAILED(유찰)
+ *
+ * 낙찰 알림이 늦어지는 원인이 되는 사용자 체감 지표이며, 종료 대기 큐 적체는 AuctionClosingMonitor가 노출한다.
+ * 종료 예정 시간은 입찰 연장/즉시 구매를 반영한 Redis scheduledEndTimeMs를 우선 사용하고, 캐시에 없으면 RDB 값을 사용한다.
+ */
+@Component
+public class AuctionClosingMetrics {
+
+    private final Timer endedLagTimer;
+    private final Timer failedLagTimer;
+
+    public AuctionClosingMetrics(MeterRegistry meterRegistry) {
+        this.endedLagTimer = lagTimer(meterRegistry, AuctionStatus.ENDED);
+        this.failedLagTimer = lagTimer(meterRegistry, AuctionStatus.FAILED);
+    }
+
+    /**
+     * 종료 처리된 경매의 종료 지연을 기록한다
+     *
+     * @param auction            종료(낙찰/유찰) 처리된 경매
+     * @param scheduledEndTimeMs Redis 기준 종료 예정 시간 (없으면 null)
+     */
+    public void recordLag(Auction auction, Long scheduledEndTimeMs) {
+        if (auction.getActualEndTime() == null) {
+            return;
+        }
+        long scheduledMs = scheduledEndTimeMs != null ? scheduledEndTimeMs : toEpochMilli(auction.getScheduledEndTime());
+        long lagMs = toEpochMilli(auction.getActualEndTime()) - scheduledMs;
+
+        Timer timer = auction.getStatus() == AuctionStatus.FAILED ? failedLagTimer : endedLagTimer;
+        // 예정보다 먼저 종료된 경우(시계 차이 등)는 0으로 기록
+        timer.record(Duration.ofMillis(Math.max(0, lagMs)));
+    }
+
+    private static Timer lagTimer(MeterRegistry meterRegistry, AuctionStatus result) {
+        return Timer.builder("fairbid_auction_closing_lag_seconds")
+                .tag("result", result.name())
+                .description("종료 예정 시간부터 실제 경매 종료 처리까지의 지연")
+                .publishPercentileHistogram(true)
+                .register(meterRegistry);
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,29 @@
+package com.cos.fairbid.winning.application.service;
+
+import com.cos.fairbid.auction.domain.Auction;
+import com.cos.fairbid.trade.domain.Trade;
+import com.cos.fairbid.winning.domain.Winning;
+
+/**
+ * 일괄 종료 시 경매 하나의 종료 결과 (저장 전)
+ * AuctionClosingProcessor가 만들고, AuctionBatchClosingHelper가 여러 경매분을 모아 한 번에 저장한다.
+ *
+ * @param auction       종료(낙찰/유찰) 처리된 경매
+ * @param firstWinning  1순위 낙찰 (유찰이면 null)
+ * @param secondWinning 2순위 후보 (없거나 1순위의 90% 미만이면 null)
+ * @param trade         거래 (유찰이면 null)
+ */
+public record AuctionClosingPlan(
+        Auction auction,
+        Winning firstWinning,
+        Winning secondWinning,
+        Trade trade
+) {
+
+    /**
+     * 낙찰자가 있는지 여부
+     */
+    public boolean hasWinner() {
+        return firstWinning != null;
+    }
+}
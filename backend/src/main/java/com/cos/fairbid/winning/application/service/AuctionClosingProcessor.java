@@ -1,5 +1,6 @@
 package com.cos.fairbid.winning.application.service;
 
+import com.cos.fairbid.auction.application.port.out.AuctionCachePort.RankedBidders;
 import com.cos.fairbid.auction.domain.Auction;
 import com.cos.fairbid.auction.domain.TopBidderInfo;
 import com.cos.fairbid.notification.application.port.out.PushNotificationPort;
@@ -8,12 +9,15 @@ import com.cos.fairbid.trade.application.port.out.TradeRepositoryPort;
 import com.cos.fairbid.trade.domain.DeliveryInfo;
 import com.cos.fairbid.trade.domain.Trade;
 import com.cos.fairbid.trade.domain.TradeMethod;
+import com.cos.fairbid.winning.application.port.out.ResponseDeadlineQueuePort;
 import com.cos.fairbid.winning.application.port.out.WinningRepositoryPort;
 import com.cos.fairbid.winning.domain.Winning;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
  * 경매 종료 처리 서비스
  * 경매 종료 시 발생하는 비즈니스 로직을 담당
@@ -29,6 +33,7 @@ public class AuctionClosingProcessor {
     private final PushNotificationPort pushNotificationPort;
     private final TradeRepositoryPort tradeRepositoryPort;
     private final DeliveryInfoRepositoryPort deliveryInfoRepositoryPort;
+    private final ResponseDeadlineQueuePort responseDeadlineQueue;
 
     /**
      * 입찰자가 없는 경우 유찰 처리한다
@@ -69,6 +74,7 @@ public class AuctionClosingProcessor {
                 bidAmount
         );
         winningRepository.save(firstWinning);
+        responseDeadlineQueue.schedule(auction.getId(), firstWinning.getResponseDeadline());
 
         // 3. Trade 생성 (기존 Transaction 대체)
         // Auction에서 거래 방식 정보를 가져와서 Trade 생성
@@ -127,4 +133,73 @@ public class AuctionClosingProcessor {
 
         log.debug("2순위 후보 저장 - auctionId: {}, bidderId: {}", auction.getId(), bidderId);
     }
+
+    // ============================
+    // 일괄 종료 (저장/알림 분리)
+    // ============================
+
+    /**
+     * 경매 종료 결과를 저장 없이 만든다 (일괄 종료용)
+     * 단건 처리(processNoWinner, processFirstRankWinner, saveSecondRankCandidate)와 같은 규칙을 따르며,
+     * 저장은 AuctionBatchClosingHelper가 여러 경매분을 모아 한 번에 수행하고 알림은 커밋 후 notifyClosed로 보낸다.
+     *
+     * @param auction 종료할 경매 (상태가 변경됨)
+     * @param bidders Redis 기준 1·2순위 입찰자
+     * @return 종료 결과
+     */
+    public AuctionClosingPlan plan(Auction auction, RankedBidders bidders) {
+        Optional<TopBidderInfo> topBidderOpt = bidders.first().filter(TopBidderInfo::isValid);
+
+        // 입찰자가 없으면 유찰
+        if (topBidderOpt.isEmpty()) {
+            auction.fail();
+            return new AuctionClosingPlan(auction, null, null, null);
+        }
+
+        TopBidderInfo topBidder = topBidderOpt.get();
+        auction.updateCurrentPriceFromCache(topBidder.bidAmount());
+        auction.close(topBidder.bidderId());
+
+        Winning firstWinning = Winning.createFirstRank(auction.getId(), topBidder.bidderId(), topBidder.bidAmount());
+        Trade trade = Trade.create(
+                auction.getId(),
+                auction.getSellerId(),
+                topBidder.bidderId(),
+                topBidder.bidAmount(),
+                Boolean.TRUE.equals(auction.getDirectTradeAvailable()),
+                Boolean.TRUE.equals(auction.getDeliveryAvailable())
+        );
+
+        // 2순위 후보 (1순위의 90% 이상인 경우만)
+        Winning secondWinning = bidders.second()
+                .filter(TopBidderInfo::isValid)
+                .filter(second -> second.bidAmount() >= topBidder.bidAmount() * Winning.AUTO_TRANSFER_THRESHOLD)
+                .map(second -> Winning.createSecondRank(auction.getId(), second.bidderId(), second.bidAmount()))
+                .orElse(null);
+
+        return new AuctionClosingPlan(auction, firstWinning, secondWinning, trade);
+    }
+
+    /**
+     * 종료 결과에 따른 알림을 보낸다 (일괄 종료 커밋 후)
+     *
+     * @param plan 저장된 종료 결과
+     */
+    public void notifyClosed(AuctionClosingPlan plan) {
+        Auction auction = plan.auction();
+        if (!plan.hasWinner()) {
+            pushNotificationPort.sendFailedAuctionNotification(auction.getSellerId(), auction.getId(), auction.getTitle());
+            return;
+        }
+
+        Winning first = plan.firstWinning();
+        pushNotificationPort.sendWinningNotification(
+                first.getBidderId(), auction.getId(), auction.getTitle(), first.getBidAmount());
+
+        Winning second = plan.secondWinning();
+        if (second != null) {
+            pushNotificationPort.sendSecondRankStandbyNotification(
+                    second.getBidderId(), auction.getId(), auction.getTitle(), second.getBidAmount());
+        }
+    }
 }
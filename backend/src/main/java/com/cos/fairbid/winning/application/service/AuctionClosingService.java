@@ -1,54 +1,160 @@
 package com.cos.fairbid.winning.application.service;
 
 import com.cos.fairbid.auction.application.port.out.AuctionCachePort;
+import com.cos.fairbid.auction.domain.Auction;
 import com.cos.fairbid.winning.application.port.in.CloseAuctionUseCase;
-import lombok.RequiredArgsConstructor;
+import com.cos.fairbid.winning.application.service.AuctionBatchClosingHelper.BatchClosingResult;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * 경매 종료 서비스
  *
  * 경매 종료 처리 흐름:
- * 1. Redis Sorted Set(auction:closing)에서 종료 대상 경매 ID 조회
- * 2. 각 경매를 별도 트랜잭션에서 종료 처리 (AuctionClosingHelper 위임)
+ * 1. 버킷별 Redis Sorted Set(auction:closing:{bucket})에서 종료 대상 경매를 선점 (closing-claim.lua)
+ *    - 선점한 경매는 리스와 함께 auction:closing-inflight:{bucket}으로 옮겨지므로 다른 인스턴스가 중복 처리하지 않음
+ * 2. 각 경매를 auctionClosingExecutor에서 병렬로, 별도 트랜잭션에서 종료 처리 (AuctionClosingHelper 위임)
+ * 3. 성공한 경매는 선점 완료 표시, 실패한 경매는 리스 만료 후 다시 선점되어 재시도
  *
+ * batch-enabled이면 2단계를 batch-chunk-size개씩 묶어 한 트랜잭션에서 일괄 처리한다 (AuctionBatchClosingHelper 위임).
+ * 묶음 처리가 실패하면 그 묶음의 경매는 단건 처리로 다시 시도한다.
+ *
+ * 한 번에 batch-size개까지 선점하고, 가득 찼으면 남은 경매가 없을 때까지 이어서 선점한다.
  * 기존 RDB 폴링 → Redis Sorted Set 조회로 변경하여
  * 입찰 연장/즉시구매로 변경된 종료 시간도 정확히 반영됨
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuctionClosingService implements CloseAuctionUseCase {
 
     private final AuctionCachePort auctionCachePort;
     private final AuctionClosingHelper auctionClosingHelper;
+    private final AuctionBatchClosingHelper auctionBatchClosingHelper;
+    private final AuctionClosingProcessor closingProcessor;
+    private final AuctionClosingMetrics closingMetrics;
+    private final Executor auctionClosingExecutor;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final boolean batchEnabled;
+    private final int batchChunkSize;
+
+    public AuctionClosingService(
+            AuctionCachePort auctionCachePort,
+            AuctionClosingHelper auctionClosingHelper,
+            AuctionBatchClosingHelper auctionBatchClosingHelper,
+            AuctionClosingProcessor closingProcessor,
+            AuctionClosingMetrics closingMetrics,
+            @Qualifier("auctionClosingExecutor") Executor auctionClosingExecutor,
+            @Value("${auction.closing.batch-size:500}") int batchSize,
+            @Value("${auction.closing.lease-millis:30000}") long leaseMillis,
+            @Value("${auction.closing.batch-enabled:false}") boolean batchEnabled,
+            @Value("${auction.closing.batch-chunk-size:100}") int batchChunkSize
+    ) {
+        this.auctionCachePort = auctionCachePort;
+        this.auctionClosingHelper = auctionClosingHelper;
+        this.auctionBatchClosingHelper = auctionBatchClosingHelper;
+        this.closingProcessor = closingProcessor;
+        this.closingMetrics = closingMetrics;
+        this.auctionClosingExecutor = auctionClosingExecutor;
+        this.batchSize = batchSize;
+        this.leaseMillis = leaseMillis;
+        this.batchEnabled = batchEnabled;
+        this.batchChunkSize = batchChunkSize;
+    }
 
     @Override
     public void closeExpiredAuctions() {
-        // 1. Redis Sorted Set에서 종료 시간이 지난 경매 ID 조회
-        long nowMs = Instant.now().toEpochMilli();
-        List<Long> auctionIds = auctionCachePort.findAuctionIdsToClose(nowMs);
+        List<Long> auctionIds;
+        do {
+            // 1. 전체 버킷에서 종료 시간이 지난 경매 선점
+            long nowMs = Instant.now().toEpochMilli();
+            auctionIds = auctionCachePort.claimAuctionsToClose(nowMs, leaseMillis, batchSize);
+            if (auctionIds.isEmpty()) {
+                return;
+            }
 
-        if (auctionIds.isEmpty()) {
+            log.info("종료 대상 경매 {}건 처리 시작", auctionIds.size());
+
+            // 2. 각 경매 종료 처리 (병렬, 경매마다 또는 묶음마다 별도 트랜잭션)
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            if (batchEnabled) {
+                for (int from = 0; from < auctionIds.size(); from += batchChunkSize) {
+                    List<Long> chunk = auctionIds.subList(from, Math.min(from + batchChunkSize, auctionIds.size()));
+                    futures.add(CompletableFuture.runAsync(() -> closeClaimedChunk(chunk), auctionClosingExecutor));
+                }
+            } else {
+                for (Long auctionId : auctionIds) {
+                    futures.add(CompletableFuture.runAsync(() -> closeClaimed(auctionId), auctionClosingExecutor));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            log.info("종료 대상 경매 {}건 처리 완료", auctionIds.size());
+        } while (auctionIds.size() >= batchSize);
+    }
+
+    private void closeClaimed(Long auctionId) {
+        try {
+            // 종료 지연은 REQUIRES_NEW 트랜잭션이 커밋된 뒤 기록 (롤백된 종료는 집계하지 않음)
+            auctionClosingHelper.processAuctionClosing(auctionId)
+                    .ifPresent(closed -> closingMetrics.recordLag(closed.auction(), closed.scheduledEndTimeMs()));
+            auctionCachePort.completeClosingClaims(List.of(auctionId));
+        } catch (Exception e) {
+            // 개별 경매 실패는 로그만 남기고 계속 진행 (리스 만료 후 재선점되어 재시도)
+            log.error("경매 종료 처리 실패 - auctionId: {}, error: {}", auctionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 선점한 경매 묶음을 한 트랜잭션에서 종료하고, 커밋 후 종료 지연 기록/Redis 동기화/알림/선점 완료를 묶음 단위로 수행한다
+     */
+    private void closeClaimedChunk(List<Long> auctionIds) {
+        BatchClosingResult result;
+        try {
+            result = auctionBatchClosingHelper.closeAll(auctionIds);
+        } catch (Exception e) {
+            // 묶음 전체 롤백 → 경매별 단건 처리로 재시도 (문제 경매만 실패로 남김)
+            log.warn("경매 일괄 종료 실패, 단건 처리로 전환 - {}건, error: {}", auctionIds.size(), e.getMessage());
+            auctionIds.forEach(this::closeClaimed);
             return;
         }
 
-        log.info("종료 대상 경매 {}건 처리 시작", auctionIds.size());
+        List<Auction> closedAuctions = result.plans().stream().map(AuctionClosingPlan::auction).toList();
+        closedAuctions.forEach(auction ->
+                closingMetrics.recordLag(auction, result.scheduledEndTimes().get(auction.getId())));
+        try {
+            // 전체 캐시 갱신 (winnerId 포함) + 종료 대기 큐 제거
+            auctionCachePort.syncClosedAuctions(closedAuctions);
+        } catch (Exception e) {
+            // Redis 동기화 실패는 로그만 남기고 진행 (RDB는 이미 업데이트됨)
+            log.warn("Redis 일괄 동기화 실패 - {}건, error: {}", closedAuctions.size(), e.getMessage());
+        }
 
-        // 2. 각 경매 종료 처리 (별도 트랜잭션에서 실행)
-        for (Long auctionId : auctionIds) {
+        for (AuctionClosingPlan plan : result.plans()) {
             try {
-                auctionClosingHelper.processAuctionClosing(auctionId);
+                closingProcessor.notifyClosed(plan);
             } catch (Exception e) {
-                // 개별 경매 실패는 로그만 남기고 계속 진행
-                log.error("경매 종료 처리 실패 - auctionId: {}, error: {}", auctionId, e.getMessage());
+                log.warn("경매 종료 알림 실패 - auctionId: {}, error: {}", plan.auction().getId(), e.getMessage());
             }
         }
 
-        log.info("종료 대상 경매 {}건 처리 완료", auctionIds.size());
+        List<Long> completedIds = new ArrayList<>(result.alreadyClosedIds());
+        closedAuctions.forEach(auction -> completedIds.add(auction.getId()));
+        try {
+            auctionCachePort.completeClosingClaims(completedIds);
+        } catch (Exception e) {
+            // 선점 완료 표시 실패 시 리스 만료 후 재선점되지만, 이미 종료된 경매로 스킵됨
+            log.warn("선점 완료 표시 실패 - {}건, error: {}", completedIds.size(), e.getMessage());
+        }
+
+        result.fallbackIds().forEach(this::closeClaimed);
     }
 }
@@ -3,6 +3,7 @@ package com.cos.fairbid.winning.application.service;
 import com.cos.fairbid.auction.application.port.out.AuctionRepositoryPort;
 import com.cos.fairbid.auction.domain.Auction;
 import com.cos.fairbid.auction.domain.exception.AuctionNotFoundException;
+import com.cos.fairbid.winning.application.port.out.ResponseDeadlineQueuePort;
 import com.cos.fairbid.winning.application.port.out.WinningRepositoryPort;
 import com.cos.fairbid.winning.domain.Winning;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * 노쇼 처리 헬퍼
  * 개별 Winning 노쇼 처리를 별도 트랜잭션에서 실행
@@ -26,6 +29,37 @@ public class NoShowProcessingHelper {
     private final WinningRepositoryPort winningRepository;
     private final AuctionRepositoryPort auctionRepository;
     private final NoShowProcessor noShowProcessor;
+    private final ResponseDeadlineQueuePort responseDeadlineQueue;
+
+    /**
+     * 응답 기한 큐에서 선점한 경매의 만료 건 처리
+     * 독립적인 트랜잭션에서 실행 (REQUIRES_NEW)
+     *
+     * 큐 항목은 예약 시점 기준이므로 RDB에서 응답 대기 중인 낙찰을 다시 확인한다.
+     * - 응답 완료/노쇼 처리 등으로 대기 중인 낙찰이 없으면 아무것도 하지 않음
+     * - 기한이 아직 남았으면(기한 변경 등) 현재 기한으로 다시 예약
+     *
+     * @param auctionId 응답 기한이 지난 경매 ID
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void processExpiredResponse(Long auctionId) {
+        Optional<Winning> pendingOpt = winningRepository.findByAuctionId(auctionId).stream()
+                .filter(Winning::isPendingResponse)
+                .findFirst();
+
+        if (pendingOpt.isEmpty()) {
+            log.debug("응답 대기 중인 낙찰 없음 (응답 완료 등) - auctionId: {}", auctionId);
+            return;
+        }
+
+        Winning winning = pendingOpt.get();
+        if (!winning.isResponseExpired()) {
+            responseDeadlineQueue.schedule(auctionId, winning.getResponseDeadline());
+            return;
+        }
+
+        processWinning(winning);
+    }
 
     /**
      * 단일 Winning 노쇼 처리
@@ -42,6 +76,10 @@ public class NoShowProcessingHelper {
                     return new IllegalStateException("Winning을 찾을 수 없습니다: " + winningId);
                 });
 
+        processWinning(winning);
+    }
+
+    private void processWinning(Winning winning) {
         Long auctionId = winning.getAuctionId();
         Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> AuctionNotFoundException.withId(auctionId));
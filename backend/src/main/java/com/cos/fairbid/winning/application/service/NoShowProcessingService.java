@@ -1,20 +1,24 @@
 package com.cos.fairbid.winning.application.service;
 
 import com.cos.fairbid.winning.application.port.in.ProcessNoShowUseCase;
+import com.cos.fairbid.winning.application.port.out.ResponseDeadlineQueuePort;
 import com.cos.fairbid.winning.application.port.out.WinningRepositoryPort;
 import com.cos.fairbid.winning.domain.Winning;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 노쇼 처리 서비스
  *
  * 노쇼 처리 흐름:
- * 1. 응답 기한 만료된 Winning 조회
+ * 1. Redis 응답 기한 큐(ResponseDeadlineQueuePort)에서 기한이 지난 경매를 선점
+ *    - Winning 생성(1순위)/2순위 승계 시 응답 기한으로 예약되며, 선점한 경매는 리스 동안 다른 인스턴스가 처리하지 않음
  * 2. 1순위 노쇼 시:
  *    - 경고 부여
  *    - 2순위가 있고 90% 이상이면 자동 승계
@@ -22,36 +26,75 @@ import java.util.List;
  * 3. 2순위 노쇼 시 (승계 후):
  *    - 노쇼 처리 안함 (비즈니스 규칙)
  *    - 유찰 처리
+ *
+ * winning 테이블 조회(findExpiredPendingResponses)는 큐 예약 누락(Redis 장애, 배포 전 낙찰) 보정용으로만 드물게 실행한다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NoShowProcessingService implements ProcessNoShowUseCase {
 
     private final WinningRepositoryPort winningRepository;
     private final NoShowProcessingHelper noShowProcessingHelper;
+    private final ResponseDeadlineQueuePort responseDeadlineQueue;
+    private final int batchSize;
+    private final long leaseMillis;
+
+    public NoShowProcessingService(
+            WinningRepositoryPort winningRepository,
+            NoShowProcessingHelper noShowProcessingHelper,
+            ResponseDeadlineQueuePort responseDeadlineQueue,
+            @Value("${winning.response-deadline.batch-size:100}") int batchSize,
+            @Value("${winning.response-deadline.lease-millis:60000}") long leaseMillis
+    ) {
+        this.winningRepository = winningRepository;
+        this.noShowProcessingHelper = noShowProcessingHelper;
+        this.responseDeadlineQueue = responseDeadlineQueue;
+        this.batchSize = batchSize;
+        this.leaseMillis = leaseMillis;
+    }
 
     @Override
     public void processExpiredPayments() {
-        // 1. 응답 기한 만료된 Winning 조회
-        List<Winning> expiredWinnings = winningRepository.findExpiredPendingResponses();
+        List<Long> auctionIds;
+        do {
+            // 1. 응답 기한이 지난 경매 선점
+            auctionIds = responseDeadlineQueue.claimExpired(Instant.now().toEpochMilli(), leaseMillis, batchSize);
+            if (auctionIds.isEmpty()) {
+                return;
+            }
+
+            log.info("응답 기한 만료 건 {}건 처리 시작", auctionIds.size());
+
+            // 2. 각 만료 건을 독립 트랜잭션에서 처리
+            List<Long> completed = new ArrayList<>(auctionIds.size());
+            for (Long auctionId : auctionIds) {
+                try {
+                    // Helper의 REQUIRES_NEW 메서드 호출 (별도 트랜잭션)
+                    noShowProcessingHelper.processExpiredResponse(auctionId);
+                    completed.add(auctionId);
+                } catch (Exception e) {
+                    // 개별 처리 실패해도 다른 건은 계속 처리 (리스 만료 후 재선점되어 재시도)
+                    log.error("노쇼 처리 실패 - auctionId: {}", auctionId, e);
+                }
+            }
+
+            // 3. 처리 완료 표시
+            responseDeadlineQueue.complete(completed);
+        } while (auctionIds.size() >= batchSize);
+    }
 
+    @Override
+    public void reconcileExpiredPayments() {
+        List<Winning> expiredWinnings = winningRepository.findExpiredPendingResponses();
         if (expiredWinnings.isEmpty()) {
             return;
         }
 
-        log.info("응답 기한 만료 건 {}건 처리 시작", expiredWinnings.size());
-
-        // 2. 각 만료 건을 독립 트랜잭션에서 처리
+        // 큐에서 누락된 만료 건을 다시 예약 (이미 지난 기한이므로 다음 선점에서 바로 처리됨)
+        log.warn("응답 기한 큐에서 누락된 만료 건 {}건 재예약", expiredWinnings.size());
         for (Winning winning : expiredWinnings) {
-            try {
-                // Helper의 REQUIRES_NEW 메서드 호출 (별도 트랜잭션)
-                noShowProcessingHelper.processExpiredWinning(winning.getId());
-            } catch (Exception e) {
-                // 개별 처리 실패해도 다른 건은 계속 처리
-                log.error("노쇼 처리 실패 - winningId: {}", winning.getId(), e);
-            }
+            responseDeadlineQueue.schedule(winning.getAuctionId(), winning.getResponseDeadline());
         }
     }
 
@@ -8,6 +8,7 @@ import com.cos.fairbid.trade.domain.Trade;
 import com.cos.fairbid.trade.domain.TradeStatus;
 import com.cos.fairbid.user.application.port.out.LoadUserPort;
 import com.cos.fairbid.user.application.port.out.SaveUserPort;
+import com.cos.fairbid.winning.application.port.out.ResponseDeadlineQueuePort;
 import com.cos.fairbid.winning.application.port.out.WinningRepositoryPort;
 import com.cos.fairbid.winning.domain.Winning;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +34,7 @@ public class NoShowProcessor {
     private final TradeRepositoryPort tradeRepositoryPort;
     private final LoadUserPort loadUserPort;
     private final SaveUserPort saveUserPort;
+    private final ResponseDeadlineQueuePort responseDeadlineQueue;
 
     /**
      * 1순위 노쇼를 처리한다
@@ -104,6 +106,7 @@ public class NoShowProcessor {
         // 1. 2순위에게 응답 권한 부여 (12시간)
         secondWinning.transferToSecondRank();
         winningRepository.save(secondWinning);
+        responseDeadlineQueue.schedule(auction.getId(), secondWinning.getResponseDeadline());
 
         // 2. 경매 낙찰자 변경
         auction.transferWinner(secondWinning.getBidderId());
@@ -0,0 +1,14 @@
+-- 경매 입찰수 보정 (Redis 입찰수가 RDB 입찰 이력보다 적을 때)
+-- 대사 이후 들어온 입찰은 양쪽에 똑같이 더해지므로 HSET이 아닌 차이만큼 HINCRBY로 보정한다.
+-- KEYS[1]: auction:{bucket}:{auctionId}
+-- KEYS[2]: bid:count:{bucket}
+-- ARGV[1]: 보정할 입찰수 (양수)
+-- ARGV[2]: 경매 ID (near-cache 무효화 알림용)
+-- 반환: 보정 후 입찰수, 경매 해시가 없으면 -1
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+redis.call('INCRBY', KEYS[2], ARGV[1])
+local total = redis.call('HINCRBY', KEYS[1], 'totalBidCount', ARGV[1])
+redis.call('PUBLISH', 'auction:invalidate', ARGV[2])
+return total
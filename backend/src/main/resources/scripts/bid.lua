@@ -1,219 +1,415 @@
 -- 입찰 처리 Lua 스크립트 (경매 연장 + 즉시 구매 포함)
 -- 원자적으로 입찰 검증 + 현재가 갱신 + 경매 연장 + 즉시 구매 수행
 --
--- KEYS[1]: auction:{auctionId} (경매 해시 키)
--- KEYS[2]: auction:closing (종료 대기 큐 Sorted Set)
--- ARGV[1]: bidAmount (입찰 금액, ONE_TOUCH면 0)
--- ARGV[2]: bidderId (입찰자 ID)
--- ARGV[3]: bidType (ONE_TOUCH / DIRECT / INSTANT_BUY)
--- ARGV[4]: currentTimeMs (현재 시간, 밀리초)
+-- 같은 경매에 대한 입찰 N건을 도착 순서대로 한 번의 호출에서 처리할 수 있다 (마이크로 배치).
+-- 각 입찰은 직전 입찰이 반영된 상태를 다시 읽어 판단하므로, 개별 EVAL을 순서대로 N번 실행한 것과 결과가 같다.
 --
--- 반환값:
---   성공: {1, newCurrentPrice, newTotalBidCount, newBidIncrement, extended(0/1), newExtensionCount, newScheduledEndTimeMs, instantBuyActivated(0/1)}
+-- KEYS[1]: auction:{bucket}:{auctionId} (경매 hot 해시 키 - 입찰에 필요한 숫자 필드만 보관)
+-- KEYS[2]: auction:closing:{bucket} (경매가 속한 버킷의 종료 대기 큐 Sorted Set)
+--          KEYS[1]과 같은 해시 태그이므로 Redis Cluster에서도 같은 슬롯
+-- KEYS[3]: bid:count:{bucket} (버킷별 누적 입찰 기록 수 - 전체 입찰 카운터의 샤드, 합계가 전역 카운터)
+-- KEYS[4]: bid:changed:{bucket} (버킷별 입찰 변경 경매 인덱스 Sorted Set: score=마지막 입찰 시각ms, member=경매ID)
+--          KEYS[3], KEYS[4]도 같은 해시 태그 (BidReconciler가 변경된 경매만 증분 대사)
+-- KEYS[5]: stream:bid-rdb-sync:{bucket} (선택, 경매 버킷의 RDB 동기화 스트림 - 전달 시 스크립트 안에서 XADD)
+--          해시 태그 없는 단일 스트림은 다른 KEYS와 슬롯이 달라 Cluster에서 CROSSSLOT이 되므로 넘기지 않는다
+-- ARGV[1]: publishInvalidation ('1'이면 near-cache 무효화 알림 PUBLISH, auction.near-cache.enabled)
+-- ARGV[2..]: 입찰 1건당 5개씩 반복 (i = 1, 6, 11, ...)
+--   ARGV[i+1]: bidAmount (입찰 금액, ONE_TOUCH면 0, PROXY면 등록할 최대 금액)
+--   ARGV[i+2]: bidderId (입찰자 ID)
+--   ARGV[i+3]: bidType (ONE_TOUCH / DIRECT / INSTANT_BUY / PROXY)
+--   ARGV[i+4]: currentTimeMs (현재 시간, 밀리초)
+--   ARGV[i+5]: createdAt (BID_SAVE 메시지의 입찰 시각 ISO-8601 문자열, 스트림 미발행 시 무시)
+--              빈 문자열이면 compact 형식으로 발행한다 (BidStreamPayload: 단일 필드 p, 시각은 currentTimeMs)
+--                BID_SAVE:           '1|B|auctionId|bidderId|amount|bidTypeCode|createdAtMs'
+--                INSTANT_BUY_UPDATE: '1|I|auctionId|currentPrice|totalBidCount|bidIncrement|bidderId|currentTimeMs|scheduledEndTimeMs'
+--
+-- 제목/설명/이미지 등 표시용 필드는 auction:{bucket}:{auctionId}:meta 키에 분리되어 있으므로
+-- 이 스크립트는 meta 키를 읽지 않는다. HGETALL 대신 HMGET으로 필요한 필드만 조회한다.
+--
+-- KEYS[5]가 있으면 BID_SAVE(즉시 구매 시 INSTANT_BUY_UPDATE 포함) 메시지를 상태 변경과 같은
+-- 스크립트 안에서 발행하므로, 입찰 반영과 RDB 동기화 메시지가 원자적으로 함께 기록된다.
+--
+-- 대리 입찰(PROXY): 현재 1순위의 최대 금액은 hot 해시의 proxyBidderId / proxyMaxAmount에 보관한다.
+-- 다른 입찰이 들어오면 두 최대 금액을 비교해 PriceBracket 입찰 단위만큼만 가격을 올리고,
+-- 도전 입찰과 대리 자동 입찰을 한 번에 기록한다 (입찰 기록은 최대 2건).
+--
+-- ARGV[1]이 '1'이고 한 건이라도 성공하면 마지막에 auction:invalidate 채널로 경매 ID를 PUBLISH하여
+-- 각 인스턴스의 경매 상세 near-cache(AuctionNearCache)를 무효화한다 (채널 이름은 AuctionRedisKeys.INVALIDATION_CHANNEL과 동일).
+-- near-cache를 쓰지 않으면(기본값) 구독자가 없으므로 입찰마다 PUBLISH하지 않는다.
+-- 연장/즉시 구매로 종료 시간이 바뀌면 auction:closing-schedule 채널로 '경매ID:종료시간ms'를 PUBLISH하여
+-- 각 인스턴스의 종료 타이밍 휠(AuctionClosingWheel)이 새 종료 시간을 예약한다 (AuctionRedisKeys.CLOSING_SCHEDULE_CHANNEL).
+--
+-- 반환값: 입찰별 결과 배열 (ARGV의 입찰 순서와 동일)
+--   성공: {1, newCurrentPrice, newTotalBidCount, newBidIncrement, extended(0/1), newExtensionCount, newScheduledEndTimeMs, instantBuyActivated(0/1),
+--          bidSaveRecordId, instantBuyRecordId,
+--          bidAmount, topBidderId, autoBidderId, autoBidAmount, autoBidRecordId,
+--          proxyBidderId, proxyMaxAmount}
+--     - bidAmount: 요청자 입찰로 기록된 금액 (대리 입찰 최대 금액만 갱신한 경우 0)
+--     - autoBidderId/autoBidAmount: 대리 입찰자가 자동으로 응찰한 기록 (없으면 빈 문자열 / 0)
+--     - proxyBidderId/proxyMaxAmount: 처리 후 남은 대리 입찰 (없으면 빈 문자열 / 0, write-behind로 RDB에 보관)
+--     - 스트림 미발행 시 recordId는 빈 문자열
 --   실패: {0, errorCode, ...}
 --     errorCode: "NOT_FOUND", "NOT_ACTIVE", "SELF_BID", "BID_TOO_LOW", "AUCTION_ENDED",
---                "INSTANT_BUY_NOT_AVAILABLE", "INSTANT_BUY_DISABLED", "INSTANT_BUY_ALREADY_ACTIVATED"
+--                "INSTANT_BUY_NOT_AVAILABLE", "INSTANT_BUY_DISABLED", "INSTANT_BUY_ALREADY_ACTIVATED",
+--                "SCRIPT_ERROR" ({0, "SCRIPT_ERROR", 오류 메시지}: 해당 입찰 처리 중 Lua/Redis 오류, 배치의 다른 입찰은 계속 처리)
 
 local auctionKey = KEYS[1]
 local closingQueueKey = KEYS[2]
--- 경매 ID 추출 (콜론 위치 기반, 키 포맷 변경에도 안전)
-local colonIndex = string.find(auctionKey, ":", 1, true)
-local auctionId = string.sub(auctionKey, colonIndex + 1)
-local requestedAmount = tonumber(ARGV[1])
-local bidderId = ARGV[2]
-local bidType = ARGV[3]
-local currentTimeMs = tonumber(ARGV[4])
-
--- 1. 경매 정보 조회
-local auctionData = redis.call('HGETALL', auctionKey)
-if #auctionData == 0 then
-    return {0, "NOT_FOUND"}
-end
-
--- Hash를 테이블로 변환
-local auction = {}
-for i = 1, #auctionData, 2 do
-    auction[auctionData[i]] = auctionData[i + 1]
-end
-
--- 2. 경매 상태 검증 (BIDDING 또는 INSTANT_BUY_PENDING 상태만 입찰 가능)
-local status = auction['status']
-if status ~= 'BIDDING' and status ~= 'INSTANT_BUY_PENDING' then
-    return {0, "NOT_ACTIVE"}
+local bidCountKey = KEYS[3]
+local changedAuctionsKey = KEYS[4]
+local streamKey = KEYS[5]
+-- 경매 ID 추출 (마지막 콜론 뒤 숫자, auction:{bucket}:{id} 형식)
+local auctionId = string.match(auctionKey, ':(%d+)$')
+
+local publishInvalidation = ARGV[1] == '1'
+local ARGS_PER_BID = 5
+-- compact 형식 입찰 유형 코드 (BidStreamPayload와 동일)
+local BID_TYPE_CODES = { ONE_TOUCH = 1, DIRECT = 2, INSTANT_BUY = 3, PROXY = 4 }
+local oneHourMs = 60 * 60 * 1000
+local fiveMinutesMs = 5 * 60 * 1000
+-- 이번 호출에서 바뀐 마지막 종료 시간 (연장/즉시 구매, 종료 스케줄 알림용)
+local rescheduledEndTimeMs = nil
+
+-- 가격 구간별 입찰 단위 계산 (PriceBracket과 동일)
+local function calculateBidIncrement(price)
+    if price < 10000 then
+        return 500
+    elseif price < 50000 then
+        return 1000
+    elseif price < 100000 then
+        return 3000
+    elseif price < 500000 then
+        return 5000
+    elseif price < 1000000 then
+        return 10000
+    else
+        return 30000
+    end
 end
 
--- 2-1. 종료 시간 검증 (스케줄러 처리 전 입찰 차단)
-local scheduledEndTimeMs = tonumber(auction['scheduledEndTimeMs'] or '0')
-if scheduledEndTimeMs > 0 and currentTimeMs > scheduledEndTimeMs then
-    return {0, "AUCTION_ENDED"}
-end
+-- 입찰 1건 처리
+local function placeBid(requestedAmount, bidderId, bidType, currentTimeMs, createdAt)
+    -- 1. 경매 정보 조회 (입찰 판단에 필요한 필드만)
+    local fields = redis.call('HMGET', auctionKey,
+        'status', 'scheduledEndTimeMs', 'sellerId', 'currentPrice', 'bidIncrement',
+        'extensionCount', 'instantBuyPrice', 'topBidderId', 'topBidAmount',
+        'totalBidCount', 'proxyBidderId', 'proxyMaxAmount')
+
+    -- 키가 없으면 모든 필드가 nil(false)로 반환된다
+    local status = fields[1]
+    if not status then
+        return {0, "NOT_FOUND"}
+    end
 
--- 3. 본인 경매 입찰 검증
-local sellerId = auction['sellerId']
-if sellerId == bidderId then
-    return {0, "SELF_BID"}
-end
+    -- 2. 경매 상태 검증 (BIDDING 또는 INSTANT_BUY_PENDING 상태만 입찰 가능)
+    if status ~= 'BIDDING' and status ~= 'INSTANT_BUY_PENDING' then
+        return {0, "NOT_ACTIVE"}
+    end
 
--- 4. 현재가와 입찰단위, 연장 횟수 조회
-local currentPrice = tonumber(auction['currentPrice'])
-local bidIncrement = tonumber(auction['bidIncrement'])
-local extensionCount = tonumber(auction['extensionCount'] or '0')
-local instantBuyPrice = tonumber(auction['instantBuyPrice'] or '0')
+    -- 2-1. 종료 시간 검증 (스케줄러 처리 전 입찰 차단)
+    local scheduledEndTimeMs = tonumber(fields[2] or '0')
+    if scheduledEndTimeMs > 0 and currentTimeMs > scheduledEndTimeMs then
+        return {0, "AUCTION_ENDED"}
+    end
 
--- 5. 즉시 구매 처리
-local instantBuyActivated = 0
-local oneHourMs = 60 * 60 * 1000
+    -- 3. 본인 경매 입찰 검증
+    local sellerId = fields[3]
+    if sellerId == bidderId then
+        return {0, "SELF_BID"}
+    end
 
-if bidType == 'INSTANT_BUY' then
-    -- 5-1. 즉시 구매가 설정 여부 확인
-    if instantBuyPrice <= 0 then
-        return {0, "INSTANT_BUY_NOT_AVAILABLE"}
+    -- 4. 현재가와 입찰단위, 연장 횟수 조회
+    local currentPrice = tonumber(fields[4])
+    local bidIncrement = tonumber(fields[5])
+    local extensionCount = tonumber(fields[6] or '0')
+    local instantBuyPrice = tonumber(fields[7] or '0')
+    local prevTopBidderId = fields[8]
+    local prevTopBidAmount = fields[9]
+    local totalBidCount = tonumber(fields[10] or '0')
+    -- 대리 입찰은 현재 1순위의 것만 유효
+    local proxyBidderId = fields[11]
+    local proxyMaxAmount = tonumber(fields[12] or '0')
+    local hasProxy = proxyBidderId and proxyBidderId ~= '' and proxyBidderId == prevTopBidderId
+
+    -- 1순위 입찰자 정보 갱신 (기존 1순위 → 2순위로 이동)
+    local function updateTopBidder(recordBidderId, amount)
+        if prevTopBidderId and prevTopBidderId ~= '' and prevTopBidderId ~= recordBidderId then
+            -- 기존 1순위가 존재하고, 현재 입찰자와 다르면 2순위로 이동
+            redis.call('HSET', auctionKey, 'secondBidderId', prevTopBidderId)
+            if prevTopBidAmount and prevTopBidAmount ~= '' then
+                redis.call('HSET', auctionKey, 'secondBidAmount', prevTopBidAmount)
+            end
+        end
+        redis.call('HSET', auctionKey, 'topBidderId', recordBidderId, 'topBidAmount', amount)
+        prevTopBidderId = recordBidderId
+        prevTopBidAmount = amount
     end
 
-    -- 5-2. 이미 즉시 구매 활성화된 경우 차단
-    if status == 'INSTANT_BUY_PENDING' then
-        return {0, "INSTANT_BUY_ALREADY_ACTIVATED"}
+    -- RDB 동기화 메시지 발행 (KEYS[5]가 없으면 발행하지 않음 → 호출 측에서 별도 XADD)
+    local function publishBidSave(recordBidderId, amount, recordBidType)
+        if not streamKey then
+            return ''
+        end
+        if createdAt == '' then
+            return redis.call('XADD', streamKey, '*', 'p', string.format('1|B|%s|%s|%d|%d|%d',
+                auctionId, recordBidderId, amount, BID_TYPE_CODES[recordBidType], currentTimeMs))
+        end
+        return redis.call('XADD', streamKey, '*',
+            'type', 'BID_SAVE',
+            'auctionId', auctionId,
+            'bidderId', recordBidderId,
+            'amount', amount,
+            'bidType', recordBidType,
+            'createdAt', createdAt)
     end
 
-    -- 5-3. 90% 이상이면 즉시 구매 비활성화
-    local threshold = math.floor(instantBuyPrice * 0.9)
-    if currentPrice >= threshold then
-        return {0, "INSTANT_BUY_DISABLED"}
+    local function publishInstantBuyUpdate(price, totalBidCount, increment, endTimeMs)
+        if not streamKey then
+            return ''
+        end
+        if createdAt == '' then
+            return redis.call('XADD', streamKey, '*', 'p', string.format('1|I|%s|%d|%d|%d|%s|%d|%d',
+                auctionId, price, totalBidCount, increment, bidderId, currentTimeMs, endTimeMs))
+        end
+        return redis.call('XADD', streamKey, '*',
+            'type', 'INSTANT_BUY_UPDATE',
+            'auctionId', auctionId,
+            'currentPrice', price,
+            'totalBidCount', totalBidCount,
+            'bidIncrement', increment,
+            'bidderId', bidderId,
+            'currentTimeMs', currentTimeMs,
+            'scheduledEndTimeMs', endTimeMs)
     end
 
-    -- 5-4. 즉시 구매 처리
-    instantBuyActivated = 1
-    redis.call('HSET', auctionKey, 'status', 'INSTANT_BUY_PENDING')
-    redis.call('HSET', auctionKey, 'instantBuyActivatedTimeMs', currentTimeMs)
-    redis.call('HSET', auctionKey, 'instantBuyerId', bidderId)
+    -- 5. 즉시 구매 처리
+    if bidType == 'INSTANT_BUY' then
+        -- 5-1. 즉시 구매가 설정 여부 확인
+        if instantBuyPrice <= 0 then
+            return {0, "INSTANT_BUY_NOT_AVAILABLE"}
+        end
+
+        -- 5-2. 이미 즉시 구매 활성화된 경우 차단
+        if status == 'INSTANT_BUY_PENDING' then
+            return {0, "INSTANT_BUY_ALREADY_ACTIVATED"}
+        end
+
+        -- 5-3. 90% 이상이면 즉시 구매 비활성화
+        local threshold = math.floor(instantBuyPrice * 0.9)
+        if currentPrice >= threshold then
+            return {0, "INSTANT_BUY_DISABLED"}
+        end
 
-    -- 5-5. 종료 시간을 현재 + 1시간으로 변경 (1시간 최종 입찰 기회)
-    local newEndTimeMs = currentTimeMs + oneHourMs
-    redis.call('HSET', auctionKey, 'scheduledEndTimeMs', newEndTimeMs)
-    redis.call('HSET', auctionKey, 'scheduledEndTime', tostring(newEndTimeMs))
-    scheduledEndTimeMs = newEndTimeMs
+        -- 5-4. 즉시 구매 처리 + 종료 시간을 현재 + 1시간으로 변경 (1시간 최종 입찰 기회)
+        local newEndTimeMs = currentTimeMs + oneHourMs
+        redis.call('HSET', auctionKey,
+            'status', 'INSTANT_BUY_PENDING',
+            'instantBuyActivatedTimeMs', currentTimeMs,
+            'instantBuyerId', bidderId,
+            'scheduledEndTimeMs', newEndTimeMs)
+        scheduledEndTimeMs = newEndTimeMs
 
-    -- 5-5-1. 종료 대기 큐 score 갱신
-    redis.call('ZADD', closingQueueKey, newEndTimeMs, auctionId)
+        -- 5-5. 종료 대기 큐 score 갱신
+        redis.call('ZADD', closingQueueKey, newEndTimeMs, auctionId)
+        rescheduledEndTimeMs = newEndTimeMs
+
+        -- 5-6. 현재가를 즉시 구매가로 갱신 + 입찰 단위 재계산
+        local newBidIncrement = calculateBidIncrement(instantBuyPrice)
+        redis.call('HSET', auctionKey, 'currentPrice', instantBuyPrice, 'bidIncrement', newBidIncrement)
+        local newTotalBidCount = redis.call('HINCRBY', auctionKey, 'totalBidCount', 1)
+
+        -- 5-7. 1순위 입찰자 정보 갱신 (기존 1순위 → 2순위로 이동) + 기존 대리 입찰 해제
+        updateTopBidder(bidderId, instantBuyPrice)
+        redis.call('HDEL', auctionKey, 'proxyBidderId', 'proxyMaxAmount')
+
+        -- 5-8. RDB 동기화 메시지 발행 (입찰 이력 + 즉시 구매 상태)
+        local bidSaveRecordId = publishBidSave(bidderId, instantBuyPrice, bidType)
+        local instantBuyRecordId = publishInstantBuyUpdate(instantBuyPrice, newTotalBidCount, newBidIncrement, scheduledEndTimeMs)
+
+        -- 즉시 구매 성공 반환 (연장 없음)
+        return {1, instantBuyPrice, newTotalBidCount, newBidIncrement, 0, extensionCount, scheduledEndTimeMs, 1,
+                bidSaveRecordId, instantBuyRecordId,
+                instantBuyPrice, bidderId, '', 0, '',
+                '', 0}
+    end
 
-    -- 5-6. 현재가를 즉시 구매가로 갱신
-    redis.call('HSET', auctionKey, 'currentPrice', instantBuyPrice)
-    local newTotalBidCount = redis.call('HINCRBY', auctionKey, 'totalBidCount', 1)
+    -- 6. 일반/대리 입찰 처리 (ONE_TOUCH / DIRECT / PROXY)
 
-    -- 5-6-1. 1순위 입찰자 정보 갱신 (기존 1순위 → 2순위로 이동)
-    local prevTopBidderId = redis.call('HGET', auctionKey, 'topBidderId')
-    local prevTopBidAmount = redis.call('HGET', auctionKey, 'topBidAmount')
-    if prevTopBidderId and prevTopBidderId ~= '' and prevTopBidderId ~= bidderId then
-        redis.call('HSET', auctionKey, 'secondBidderId', prevTopBidderId)
-        if prevTopBidAmount and prevTopBidAmount ~= '' then
-            redis.call('HSET', auctionKey, 'secondBidAmount', prevTopBidAmount)
+    -- 6-1. 연장 횟수에 따른 할증 입찰단위 계산 (3회마다 50% 증가)
+    local surchargeMultiplier = math.floor(extensionCount / 3)
+    local function adjustIncrement(increment)
+        if surchargeMultiplier > 0 then
+            return math.floor(increment * (1 + 0.5 * surchargeMultiplier))
         end
+        return increment
+    end
+
+    -- 주어진 가격 다음으로 입찰 가능한 최소 금액
+    local function minNextAmount(price)
+        return price + adjustIncrement(calculateBidIncrement(price))
     end
-    redis.call('HSET', auctionKey, 'topBidderId', bidderId)
-    redis.call('HSET', auctionKey, 'topBidAmount', instantBuyPrice)
-
-    -- 5-7. 입찰 단위 재계산
-    local newBidIncrement
-    if instantBuyPrice < 10000 then
-        newBidIncrement = 500
-    elseif instantBuyPrice < 50000 then
-        newBidIncrement = 1000
-    elseif instantBuyPrice < 100000 then
-        newBidIncrement = 3000
-    elseif instantBuyPrice < 500000 then
-        newBidIncrement = 5000
-    elseif instantBuyPrice < 1000000 then
-        newBidIncrement = 10000
+
+    local minBidAmount = currentPrice + adjustIncrement(bidIncrement)
+
+    -- 6-2. 입찰자가 제시한 최대 금액 (ONE_TOUCH면 자동 계산, PROXY면 등록한 최대 금액)
+    local maxAmount
+    if bidType == 'ONE_TOUCH' then
+        maxAmount = minBidAmount
     else
-        newBidIncrement = 30000
+        maxAmount = requestedAmount
     end
-    redis.call('HSET', auctionKey, 'bidIncrement', newBidIncrement)
 
-    -- 즉시 구매 성공 반환 (연장 없음)
-    return {1, instantBuyPrice, newTotalBidCount, newBidIncrement, 0, extensionCount, scheduledEndTimeMs, instantBuyActivated}
-end
+    -- 6-3. 입찰 금액 검증
+    if maxAmount < minBidAmount then
+        return {0, "BID_TOO_LOW", currentPrice, minBidAmount}
+    end
 
--- 6. 일반 입찰 처리 (ONE_TOUCH / DIRECT)
+    -- 6-4. 이미 1순위인 사용자의 대리 입찰은 가격 변경 없이 최대 금액만 갱신
+    if bidType == 'PROXY' and prevTopBidderId == bidderId then
+        redis.call('HSET', auctionKey, 'proxyBidderId', bidderId, 'proxyMaxAmount', maxAmount)
+        return {1, currentPrice, totalBidCount, bidIncrement, 0, extensionCount, scheduledEndTimeMs, 0,
+                '', '',
+                0, bidderId, '', 0, '',
+                bidderId, maxAmount}
+    end
 
--- 6-1. 연장 횟수에 따른 할증 입찰단위 계산 (3회마다 50% 증가)
-local adjustedBidIncrement = bidIncrement
-local surchargeMultiplier = math.floor(extensionCount / 3)
-if surchargeMultiplier > 0 then
-    adjustedBidIncrement = math.floor(bidIncrement * (1 + 0.5 * surchargeMultiplier))
-end
+    -- 6-5. 대리 입찰 경합 해소 → 기록할 입찰 결정 (도전 입찰 + 대리 자동 응찰, 기록 순서대로)
+    local bidAmount
+    local autoBidderId = ''
+    local autoBidAmount = 0
+    local autoFirst = false
+    local nextProxyBidderId = nil
+    local nextProxyMaxAmount = nil
+
+    if hasProxy and proxyBidderId ~= bidderId then
+        if maxAmount <= proxyMaxAmount then
+            -- 기존 대리 입찰이 이김 (동액이면 먼저 등록한 쪽 우선): 도전 입찰 기록 후 한 단위 위로 자동 응찰
+            bidAmount = maxAmount
+            autoBidderId = proxyBidderId
+            autoBidAmount = math.min(proxyMaxAmount, minNextAmount(maxAmount))
+            nextProxyBidderId = proxyBidderId
+            nextProxyMaxAmount = proxyMaxAmount
+        else
+            -- 도전 입찰이 이김: 기존 대리 입찰은 최대 금액까지 자동 응찰 후 소진
+            if proxyMaxAmount >= minBidAmount then
+                autoBidderId = proxyBidderId
+                autoBidAmount = proxyMaxAmount
+                autoFirst = true
+            end
+            if bidType == 'PROXY' then
+                bidAmount = math.max(minBidAmount, math.min(maxAmount, minNextAmount(proxyMaxAmount)))
+                nextProxyBidderId = bidderId
+                nextProxyMaxAmount = maxAmount
+            else
+                bidAmount = maxAmount
+            end
+        end
+    elseif bidType == 'PROXY' then
+        -- 경합 대리 입찰 없음: 최소 입찰가로 입찰하고 최대 금액 등록
+        bidAmount = minBidAmount
+        nextProxyBidderId = bidderId
+        nextProxyMaxAmount = maxAmount
+    else
+        bidAmount = maxAmount
+        -- 1순위가 자신의 대리 입찰보다 낮게 직접 입찰한 경우 남은 최대 금액 유지
+        if hasProxy and proxyMaxAmount > bidAmount then
+            nextProxyBidderId = proxyBidderId
+            nextProxyMaxAmount = proxyMaxAmount
+        end
+    end
 
-local minBidAmount = currentPrice + adjustedBidIncrement
+    -- 7. 경매 연장 확인 (종료 5분 전, 단 INSTANT_BUY_PENDING 상태에서는 연장 불가)
+    local extended = 0
 
--- 6-2. 입찰 금액 결정 (ONE_TOUCH면 자동 계산)
-local bidAmount
-if bidType == 'ONE_TOUCH' then
-    bidAmount = minBidAmount
-else
-    bidAmount = requestedAmount
-end
+    if status == 'BIDDING' and scheduledEndTimeMs > 0 and currentTimeMs > 0 then
+        local timeToEnd = scheduledEndTimeMs - currentTimeMs
 
--- 6-3. 입찰 금액 검증
-if bidAmount < minBidAmount then
-    return {0, "BID_TOO_LOW", currentPrice, minBidAmount}
-end
+        -- 종료 5분 전이면 연장
+        if timeToEnd > 0 and timeToEnd <= fiveMinutesMs then
+            extended = 1
+            local newEndTimeMs = currentTimeMs + fiveMinutesMs
+            extensionCount = extensionCount + 1
+            redis.call('HSET', auctionKey, 'scheduledEndTimeMs', newEndTimeMs, 'extensionCount', extensionCount)
+            scheduledEndTimeMs = newEndTimeMs
 
--- 7. 경매 연장 확인 (종료 5분 전, 단 INSTANT_BUY_PENDING 상태에서는 연장 불가)
-local extended = 0
-local fiveMinutesMs = 5 * 60 * 1000
+            -- 종료 대기 큐 score 갱신
+            redis.call('ZADD', closingQueueKey, newEndTimeMs, auctionId)
+            rescheduledEndTimeMs = newEndTimeMs
+        end
+    end
 
-if status == 'BIDDING' and scheduledEndTimeMs > 0 and currentTimeMs > 0 then
-    local timeToEnd = scheduledEndTimeMs - currentTimeMs
+    -- 8. 입찰 기록 순서대로 1순위 입찰자 정보 갱신 (기존 1순위 → 2순위로 이동)
+    local bidSaveRecordId
+    local autoBidRecordId = ''
+    local recordCount = 1
+    if autoBidderId ~= '' and autoFirst then
+        updateTopBidder(autoBidderId, autoBidAmount)
+        autoBidRecordId = publishBidSave(autoBidderId, autoBidAmount, 'PROXY')
+        recordCount = 2
+    end
+    updateTopBidder(bidderId, bidAmount)
+    bidSaveRecordId = publishBidSave(bidderId, bidAmount, bidType)
+    if autoBidderId ~= '' and not autoFirst then
+        updateTopBidder(autoBidderId, autoBidAmount)
+        autoBidRecordId = publishBidSave(autoBidderId, autoBidAmount, 'PROXY')
+        recordCount = 2
+    end
 
-    -- 종료 5분 전이면 연장
-    if timeToEnd > 0 and timeToEnd <= fiveMinutesMs then
-        extended = 1
-        local newEndTimeMs = currentTimeMs + fiveMinutesMs
-        redis.call('HSET', auctionKey, 'scheduledEndTimeMs', newEndTimeMs)
-        redis.call('HSET', auctionKey, 'scheduledEndTime', tostring(newEndTimeMs))
-        extensionCount = extensionCount + 1
-        redis.call('HSET', auctionKey, 'extensionCount', extensionCount)
+    -- 8-1. 대리 입찰 상태 갱신 (1순위의 대리 입찰만 남김)
+    if nextProxyBidderId then
+        redis.call('HSET', auctionKey, 'proxyBidderId', nextProxyBidderId, 'proxyMaxAmount', nextProxyMaxAmount)
+    else
+        redis.call('HDEL', auctionKey, 'proxyBidderId', 'proxyMaxAmount')
+    end
 
-        -- 종료 대기 큐 score 갱신
-        redis.call('ZADD', closingQueueKey, newEndTimeMs, auctionId)
+    -- 9. 현재가 갱신 + 입찰 단위 재계산 (가격 구간별) + 입찰수 증가
+    local newCurrentPrice = tonumber(prevTopBidAmount)
+    local newBidIncrement = calculateBidIncrement(newCurrentPrice)
+    redis.call('HSET', auctionKey, 'currentPrice', newCurrentPrice, 'bidIncrement', newBidIncrement)
+    local newTotalBidCount = redis.call('HINCRBY', auctionKey, 'totalBidCount', recordCount)
+
+    -- 10. 성공 반환
+    return {1, newCurrentPrice, newTotalBidCount, newBidIncrement, extended, extensionCount, scheduledEndTimeMs, 0,
+            bidSaveRecordId, '',
+            bidAmount, prevTopBidderId, autoBidderId, autoBidAmount, autoBidRecordId,
+            nextProxyBidderId or '', nextProxyMaxAmount or 0}
+end
+
+-- 도착 순서대로 입찰 처리
+local results = {}
+local changed = false
+local initialTotalBidCount = tonumber(redis.call('HGET', auctionKey, 'totalBidCount') or '0')
+local lastBidTimeMs = 0
+for i = 1, #ARGV - ARGS_PER_BID, ARGS_PER_BID do
+    -- 입찰 하나의 스크립트 오류가 배치 전체(EVAL)를 실패시키지 않도록 해당 입찰의 실패 결과로 바꾼다
+    local ok, result = pcall(placeBid,
+        tonumber(ARGV[i + 1]),
+        ARGV[i + 2],
+        ARGV[i + 3],
+        tonumber(ARGV[i + 4]),
+        ARGV[i + 5])
+    if not ok then
+        result = {0, 'SCRIPT_ERROR', type(result) == 'table' and tostring(result.err) or tostring(result)}
+    end
+    if result[1] == 1 then
+        changed = true
+        lastBidTimeMs = tonumber(ARGV[i + 4])
     end
+    results[#results + 1] = result
 end
 
--- 8. 1순위 입찰자 정보 갱신 (기존 1순위 → 2순위로 이동)
-local prevTopBidderId = redis.call('HGET', auctionKey, 'topBidderId')
-local prevTopBidAmount = redis.call('HGET', auctionKey, 'topBidAmount')
-if prevTopBidderId and prevTopBidderId ~= '' and prevTopBidderId ~= bidderId then
-    -- 기존 1순위가 존재하고, 현재 입찰자와 다르면 2순위로 이동
-    redis.call('HSET', auctionKey, 'secondBidderId', prevTopBidderId)
-    if prevTopBidAmount and prevTopBidAmount ~= '' then
-        redis.call('HSET', auctionKey, 'secondBidAmount', prevTopBidAmount)
+-- 배치당 1회만 near-cache 무효화 알림(사용 시) + 입찰 카운터/변경 인덱스 갱신
+if changed then
+    if publishInvalidation then
+        redis.call('PUBLISH', 'auction:invalidate', auctionId)
+    end
+    local recorded = tonumber(redis.call('HGET', auctionKey, 'totalBidCount') or '0') - initialTotalBidCount
+    if recorded > 0 then
+        redis.call('INCRBY', bidCountKey, recorded)
+        redis.call('ZADD', changedAuctionsKey, lastBidTimeMs, auctionId)
     end
 end
-redis.call('HSET', auctionKey, 'topBidderId', bidderId)
-redis.call('HSET', auctionKey, 'topBidAmount', bidAmount)
-
--- 9. 현재가 갱신 + 입찰수 증가
-redis.call('HSET', auctionKey, 'currentPrice', bidAmount)
-local newTotalBidCount = redis.call('HINCRBY', auctionKey, 'totalBidCount', 1)
-
--- 10. 입찰 단위 재계산 (가격 구간별)
-local newBidIncrement
-if bidAmount < 10000 then
-    newBidIncrement = 500
-elseif bidAmount < 50000 then
-    newBidIncrement = 1000
-elseif bidAmount < 100000 then
-    newBidIncrement = 3000
-elseif bidAmount < 500000 then
-    newBidIncrement = 5000
-elseif bidAmount < 1000000 then
-    newBidIncrement = 10000
-else
-    newBidIncrement = 30000
+if rescheduledEndTimeMs then
+    redis.call('PUBLISH', 'auction:closing-schedule', auctionId .. ':' .. rescheduledEndTimeMs)
 end
-redis.call('HSET', auctionKey, 'bidIncrement', newBidIncrement)
-
--- 11. 최종 종료 시간 조회 (연장됐을 수 있으므로)
-local finalScheduledEndTimeMs = tonumber(redis.call('HGET', auctionKey, 'scheduledEndTimeMs'))
-
--- 12. 성공 반환
-return {1, bidAmount, newTotalBidCount, newBidIncrement, extended, extensionCount, finalScheduledEndTimeMs, instantBuyActivated}
+return results
@@ -0,0 +1,31 @@
+-- 증분 대사 결과 반영 (입찰 변경 경매 인덱스 + 불일치 진행 중 경매 해시)
+-- 해결된 경매는 인덱스에서 제거하고, 미해결 경매는 score를 현재 시각으로 미뤄 인덱스 뒤로 보낸다
+-- (오래된 불일치 경매가 앞자리를 차지해 새로 바뀐 경매가 대사되지 않는 것을 막고, settle 시간 뒤에 다시 확인).
+-- 대사 중에 새 입찰이 들어와 score(마지막 입찰 시각)가 바뀐 경매는 인덱스를 건드리지 않는다 (다음 대사에서 다시 확인).
+-- 불일치는 처음 발견했을 때만 새로 시작된 것으로 돌려주어 호출 측이 불일치 한 번을 한 번만 집계하게 한다.
+-- KEYS[1]: bid:changed:{bucket}
+-- KEYS[2]: bid:drifting:{bucket} (field=경매ID, value=불일치 방향, 해결되면 삭제)
+-- ARGV[1]: 미해결 경매에 줄 score (현재 시각ms)
+-- ARGV[2..]: 경매ID, 대사 시점 score, 불일치 방향(없으면 빈 문자열), 해결 여부('1'/'0') 반복
+-- 반환: 이번에 불일치가 새로 시작된 경매 ID 목록
+local deferScore = ARGV[1]
+local started = {}
+for i = 2, #ARGV, 4 do
+    local auctionId = ARGV[i]
+    local direction = ARGV[i + 2]
+    if direction ~= '' and redis.call('HSETNX', KEYS[2], auctionId, direction) == 1 then
+        started[#started + 1] = auctionId
+    end
+
+    local score = redis.call('ZSCORE', KEYS[1], auctionId)
+    local unchanged = score and tonumber(score) == tonumber(ARGV[i + 1])
+    if ARGV[i + 3] == '1' then
+        redis.call('HDEL', KEYS[2], auctionId)
+        if unchanged then
+            redis.call('ZREM', KEYS[1], auctionId)
+        end
+    elseif unchanged then
+        redis.call('ZADD', KEYS[1], 'XX', deferScore, auctionId)
+    end
+end
+return started
@@ -0,0 +1,32 @@
+-- 종료 대상 경매 선점 (여러 인스턴스가 같은 경매를 중복 처리하지 않도록 원자적으로 꺼냄)
+-- 낙찰 응답 기한 큐(winning:response-deadline)도 같은 구조로 이 스크립트를 사용한다
+-- KEYS[1]: auction:closing:{bucket} (종료 대기 큐, score=종료시간ms)
+-- KEYS[2]: auction:closing-inflight:{bucket} (처리 중 경매, score=리스 만료ms)
+-- ARGV[1]: 현재 시간 (ms)
+-- ARGV[2]: 리스 만료 시간 (ms)
+-- ARGV[3]: 최대 선점 수
+-- 반환: 선점한 경매 ID 목록
+local nowMs = ARGV[1]
+local leaseUntilMs = ARGV[2]
+local limit = tonumber(ARGV[3])
+local claimed = {}
+
+-- 1. 리스가 만료된 처리 중 경매 재선점 (처리하던 인스턴스 종료/실패)
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', nowMs, 'LIMIT', 0, limit)
+for _, auctionId in ipairs(expired) do
+    redis.call('ZADD', KEYS[2], leaseUntilMs, auctionId)
+    claimed[#claimed + 1] = auctionId
+end
+
+-- 2. 종료 시간이 지난 경매를 대기 큐에서 처리 중으로 이동
+local remaining = limit - #claimed
+if remaining > 0 then
+    local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', nowMs, 'LIMIT', 0, remaining)
+    for _, auctionId in ipairs(due) do
+        redis.call('ZREM', KEYS[1], auctionId)
+        redis.call('ZADD', KEYS[2], leaseUntilMs, auctionId)
+        claimed[#claimed + 1] = auctionId
+    end
+end
+
+return claimed
@@ -0,0 +1,8 @@
+-- 파티션 리스 반납 (소유자가 같을 때만 삭제)
+-- KEYS[1]: 리스 키
+-- ARGV[1]: 소유자 ID
+-- 반환: 1 = 반납, 0 = 소유권 없음
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,9 @@
+-- 파티션 리스 갱신 (소유자가 같을 때만 TTL 연장)
+-- KEYS[1]: 리스 키
+-- ARGV[1]: 소유자 ID
+-- ARGV[2]: TTL (ms)
+-- 반환: 1 = 갱신, 0 = 소유권 없음
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,40 @@
+-- PENDING 메시지 일괄 인수 + 전달 횟수 조회
+-- XAUTOCLAIM으로 min-idle 이상 ACK되지 않은 메시지를 가져오고, 메시지별 전달 횟수(XPENDING)를 함께 반환한다.
+-- XAUTOCLAIM(JUSTID 없이)은 전달 횟수를 1 증가시키므로 반환값은 이번 인수를 포함한 횟수다.
+--
+-- KEYS[1]: 스트림 키
+-- ARGV[1]: Consumer Group
+-- ARGV[2]: 인수할 Consumer 이름
+-- ARGV[3]: min-idle (ms)
+-- ARGV[4]: 시작 커서 (처음은 0-0)
+-- ARGV[5]: 최대 인수 건수
+--
+-- 반환값: {다음 커서, {id, 전달 횟수, field1, value1, ...}, ...}
+--   다음 커서가 0-0이면 PENDING 목록을 끝까지 훑은 것
+--   본문이 삭제된(트리밍된) 메시지는 field 없이 {id, 전달 횟수}만 반환한다
+
+local claimed = redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4], 'COUNT', ARGV[5])
+local result = {claimed[1]}
+
+for _, entry in ipairs(claimed[2]) do
+    -- Redis 6.2는 삭제된 메시지를 nil 엔트리로 돌려준다 (7.0부터는 PEL에서 제거 후 claimed[3]으로 반환)
+    if entry then
+        local id = entry[1]
+        local fields = entry[2]
+        local pending = redis.call('XPENDING', KEYS[1], ARGV[1], id, id, 1)
+        local deliveries = 1
+        if pending[1] then
+            deliveries = pending[1][4]
+        end
+
+        local item = {id, deliveries}
+        if fields then
+            for _, value in ipairs(fields) do
+                item[#item + 1] = value
+            end
+        end
+        result[#result + 1] = item
+    end
+end
+
+return result
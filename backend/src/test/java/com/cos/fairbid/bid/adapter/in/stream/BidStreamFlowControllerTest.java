@@ -0,0 +1,156 @@
+package com.cos.fairbid.bid.adapter.in.stream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BidStreamFlowController 서킷 상태 전이와 동시성 한도 검증
+ * 시각은 테스트가 직접 진행시키고, 허가는 대기 없이(Duration.ZERO) 요청한다.
+ * (스트림 적체 조회(refreshBacklog)는 쓰지 않으므로 RedisTemplate 없이 생성)
+ */
+class BidStreamFlowControllerTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long OPEN_MILLIS = 200;
+    private static final RuntimeException DB_DOWN = new DataAccessResourceFailureException("DB 연결 실패");
+
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(1));
+
+    @Test
+    @DisplayName("일시적 장애가 연속으로 임계치에 도달하면 서킷이 열리고 허가를 내주지 않는다")
+    void opensAfterConsecutiveTransientFailures() throws InterruptedException {
+        BidStreamFlowController controller = controller(10);
+
+        for (int i = 0; i < FAILURE_THRESHOLD - 1; i++) {
+            runOnce(controller, DB_DOWN);
+        }
+        assertThat(controller.isClosed()).isTrue();
+
+        runOnce(controller, DB_DOWN);
+
+        assertThat(controller.isOpen()).isTrue();
+        assertThat(controller.isClosed()).isFalse();
+        assertThat(controller.acquire(Duration.ZERO)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수가 초기화된다")
+    void successResetsConsecutiveFailures() throws InterruptedException {
+        BidStreamFlowController controller = controller(10);
+
+        for (int i = 0; i < FAILURE_THRESHOLD - 1; i++) {
+            runOnce(controller, DB_DOWN);
+        }
+        runOnce(controller, null);
+        for (int i = 0; i < FAILURE_THRESHOLD - 1; i++) {
+            runOnce(controller, DB_DOWN);
+        }
+
+        assertThat(controller.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("일시적 장애가 아닌 실패(독성 메시지 등)는 서킷을 열지 않는다")
+    void ignoresNonTransientFailures() throws InterruptedException {
+        BidStreamFlowController controller = controller(10);
+
+        for (int i = 0; i < FAILURE_THRESHOLD * 3; i++) {
+            runOnce(controller, new IllegalArgumentException("잘못된 메시지"));
+        }
+
+        assertThat(controller.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 HALF_OPEN에서 시험 허가 1개만 내주고, 성공하면 닫힌다")
+    void halfOpenAllowsSingleProbeAndClosesOnSuccess() throws InterruptedException {
+        BidStreamFlowController controller = controller(10);
+        openCircuit(controller);
+
+        advanceMillis(OPEN_MILLIS - 1);
+        assertThat(controller.acquire(Duration.ZERO)).isFalse();
+
+        advanceMillis(1);
+        assertThat(controller.acquire(Duration.ZERO)).isTrue();
+        assertThat(controller.isOpen()).isFalse();
+        assertThat(controller.acquire(Duration.ZERO)).isFalse();
+
+        controller.release(1_000_000, null);
+
+        assertThat(controller.isClosed()).isTrue();
+        assertThat(controller.acquire(Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험이 실패하면 다시 열리고 열린 시간이 2배로 늘어난다")
+    void reopensWithDoubledWaitWhenProbeFails() throws InterruptedException {
+        BidStreamFlowController controller = controller(10);
+        openCircuit(controller);
+
+        advanceMillis(OPEN_MILLIS);
+        assertThat(controller.acquire(Duration.ZERO)).isTrue();
+        controller.release(1_000_000, DB_DOWN);
+
+        assertThat(controller.isOpen()).isTrue();
+        // 처음 열린 시간은 지났지만 2배는 지나지 않은 시점
+        advanceMillis(OPEN_MILLIS * 2 - 1);
+        assertThat(controller.isOpen()).isTrue();
+        assertThat(controller.acquire(Duration.ZERO)).isFalse();
+
+        advanceMillis(1);
+        assertThat(controller.acquire(Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    @DisplayName("닫힌 서킷에서는 동시성 한도만큼만 허가를 내준다")
+    void limitsConcurrencyWhenClosed() throws InterruptedException {
+        BidStreamFlowController controller = controller(2);
+
+        assertThat(controller.acquire(Duration.ZERO)).isTrue();
+        assertThat(controller.acquire(Duration.ZERO)).isTrue();
+        assertThat(controller.acquire(Duration.ZERO)).isFalse();
+
+        controller.release(1_000_000, null);
+
+        assertThat(controller.acquire(Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    @DisplayName("원인 체인에 일시적 장애가 있으면 일시적 장애로 판단한다")
+    void detectsTransientFailureInCauseChain() {
+        assertThat(BidStreamFlowController.isTransient(
+                new IllegalStateException("동기화 실패", new SQLTransientConnectionException("timeout")))).isTrue();
+        assertThat(BidStreamFlowController.isTransient(DB_DOWN)).isTrue();
+        assertThat(BidStreamFlowController.isTransient(new IllegalArgumentException("잘못된 메시지"))).isFalse();
+    }
+
+    private BidStreamFlowController controller(int maxConcurrency) {
+        return new BidStreamFlowController(null, new SimpleMeterRegistry(), nanoTime::get, true,
+                1, maxConcurrency, 500, 0, FAILURE_THRESHOLD, OPEN_MILLIS, OPEN_MILLIS * 10);
+    }
+
+    private void advanceMillis(long millis) {
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static void openCircuit(BidStreamFlowController controller) throws InterruptedException {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            runOnce(controller, DB_DOWN);
+        }
+        assertThat(controller.isOpen()).isTrue();
+    }
+
+    private static void runOnce(BidStreamFlowController controller, Throwable failure) throws InterruptedException {
+        assertThat(controller.acquire(Duration.ZERO)).isTrue();
+        controller.release(1_000_000, failure);
+    }
+}
@@ -0,0 +1,137 @@
+package com.cos.fairbid.bid.adapter.out.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BidCoalescer 결과 전달/실패 전달/배치 합류 검증
+ * 단건 검증은 윈도우를 0으로 두어 리더가 대기 없이 바로 실행한다.
+ * 합류 검증은 윈도우를 테스트 시간보다 훨씬 길게 두어, 배치가 가득 찼을 때만 실행되도록 한다.
+ * (가득 찬 배치를 바로 실행하지 않으면 결과 대기가 시간 초과로 실패)
+ */
+class BidCoalescerTest {
+
+    private static final long ENDLESS_WINDOW_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(8);
+    /** 실행된 배치 (경매 ID, 요청 목록) */
+    private final List<ExecutedBatch> executed = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("입찰은 자기 경매의 배치로 실행되고 자기 결과를 받는다")
+    void returnsOwnResult() {
+        BidCoalescer<String, String> coalescer = new BidCoalescer<>(this::echo, 0, 64);
+
+        assertThat(coalescer.submit(1L, "a")).isEqualTo("1:a");
+        assertThat(coalescer.submit(2L, "b")).isEqualTo("2:b");
+
+        assertThat(executed).containsExactly(
+                new ExecutedBatch(1L, List.of("a")),
+                new ExecutedBatch(2L, List.of("b")));
+    }
+
+    @Test
+    @DisplayName("배치 실행 예외는 요청 스레드에 그대로 전달된다")
+    void propagatesExecutorFailure() {
+        IllegalStateException failure = new IllegalStateException("Redis 연결 실패");
+        BidCoalescer<String, String> coalescer = new BidCoalescer<>((auctionId, batch) -> {
+            throw failure;
+        }, 0, 64);
+
+        assertThatThrownBy(() -> coalescer.submit(1L, "a")).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("결과 개수가 요청 수와 다르면 실패한다")
+    void failsWhenResultCountMismatches() {
+        BidCoalescer<String, String> coalescer = new BidCoalescer<>((auctionId, batch) -> List.of(), 0, 64);
+
+        assertThatThrownBy(() -> coalescer.submit(1L, "a"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("결과 개수 불일치");
+    }
+
+    @Test
+    @DisplayName("배치가 최대 크기에 도달하면 윈도우를 기다리지 않고 한 번에 실행되고, 요청마다 자기 결과를 받는다")
+    void flushesFullBatchImmediately() throws Exception {
+        List<String> requests = List.of("a", "b", "c", "d");
+        BidCoalescer<String, String> coalescer = new BidCoalescer<>(this::echo, ENDLESS_WINDOW_MICROS, requests.size());
+
+        List<Future<String>> results = submitAll(coalescer, 1L, requests);
+
+        for (int i = 0; i < requests.size(); i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("1:" + requests.get(i));
+        }
+        assertThat(executed).hasSize(1);
+        assertThat(executed.get(0).requests()).hasSize(requests.size());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 입찰은 새 배치로 분리되고, 각 배치는 가득 차는 즉시 실행된다")
+    void splitsIntoFullBatches() throws Exception {
+        int maxBatchSize = 3;
+        List<String> requests = List.of("a", "b", "c", "d", "e", "f");
+        BidCoalescer<String, String> coalescer = new BidCoalescer<>(this::echo, ENDLESS_WINDOW_MICROS, maxBatchSize);
+
+        List<Future<String>> results = submitAll(coalescer, 1L, requests);
+
+        for (int i = 0; i < requests.size(); i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("1:" + requests.get(i));
+        }
+        assertThat(executed).hasSize(2);
+        assertThat(executed).allSatisfy(batch -> assertThat(batch.requests()).hasSize(maxBatchSize));
+    }
+
+    @Test
+    @DisplayName("다른 경매의 입찰은 같은 배치로 합류하지 않는다")
+    void separatesAuctions() throws Exception {
+        BidCoalescer<String, String> coalescer = new BidCoalescer<>(this::echo, ENDLESS_WINDOW_MICROS, 2);
+
+        List<Future<String>> first = submitAll(coalescer, 1L, List.of("a", "b"));
+        List<Future<String>> second = submitAll(coalescer, 2L, List.of("c", "d"));
+
+        assertThat(first.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("1:a");
+        assertThat(second.get(1).get(5, TimeUnit.SECONDS)).isEqualTo("2:d");
+        assertThat(executed).hasSize(2);
+        assertThat(executed).allSatisfy(batch -> assertThat(batch.requests()).hasSize(2));
+    }
+
+    /**
+     * 요청을 각각 다른 스레드에서 동시에 보낸다 (결과는 요청 순서대로)
+     */
+    private List<Future<String>> submitAll(BidCoalescer<String, String> coalescer, Long auctionId, List<String> requests) {
+        List<Future<String>> results = new ArrayList<>();
+        for (String request : requests) {
+            results.add(pool.submit(() -> coalescer.submit(auctionId, request)));
+        }
+        return results;
+    }
+
+    /**
+     * 요청마다 "경매 ID:요청"을 결과로 돌려주는 배치 실행 함수
+     */
+    private List<String> echo(Long auctionId, List<String> batch) {
+        executed.add(new ExecutedBatch(auctionId, List.copyOf(batch)));
+        return batch.stream().map(request -> auctionId + ":" + request).toList();
+    }
+
+    private record ExecutedBatch(Long auctionId, List<String> requests) {
+    }
+}
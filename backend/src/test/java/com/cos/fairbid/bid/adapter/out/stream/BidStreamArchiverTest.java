@@ -0,0 +1,65 @@
+package com.cos.fairbid.bid.adapter.out.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BidStreamArchiver 세그먼트 기록 검증
+ */
+class BidStreamArchiverTest {
+
+    private static final String STREAM_KEY = "stream:bid-rdb-sync:{3}";
+
+    @TempDir
+    Path archiveDir;
+
+    @Test
+    @DisplayName("세그먼트를 기록하면 임시 파일 없이 세그먼트 파일만 남는다")
+    void writesSegmentWithoutTempFile() throws IOException {
+        BidStreamArchiver archiver = new BidStreamArchiver(new ObjectMapper(), true, archiveDir.toString());
+
+        Path segment = archiver.writeSegment(STREAM_KEY, List.of(record("1-0"), record("2-0")));
+
+        assertThat(segment.getFileName().toString()).isEqualTo("stream_bid-rdb-sync__3_-1-0_2-0.jsonl.gz");
+        assertThat(filesIn(archiveDir)).containsExactly(segment);
+    }
+
+    @Test
+    @DisplayName("세그먼트 기록에 실패하면 임시 파일을 지우고 예외를 던진다")
+    void deletesTempFileWhenWriteFails() throws IOException {
+        BidStreamArchiver archiver = new BidStreamArchiver(new ObjectMapper(), true, archiveDir.toString());
+        // 세그먼트 경로에 비어 있지 않은 디렉터리를 두어 임시 파일 이름 바꾸기를 실패시킨다
+        Path blocker = archiveDir.resolve("stream_bid-rdb-sync__3_-1-0_2-0.jsonl.gz");
+        Files.createDirectories(blocker.resolve("occupied"));
+
+        assertThatThrownBy(() -> archiver.writeSegment(STREAM_KEY, List.of(record("1-0"), record("2-0"))))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThat(filesIn(archiveDir)).containsExactly(blocker);
+    }
+
+    private static MapRecord<String, String, String> record(String id) {
+        return MapRecord.create(STREAM_KEY, Map.of("type", "BID_SAVE", "auctionId", "3"))
+                .withId(RecordId.of(id));
+    }
+
+    private static List<Path> filesIn(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.toList();
+        }
+    }
+}
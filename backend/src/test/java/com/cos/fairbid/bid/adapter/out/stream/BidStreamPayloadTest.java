@@ -0,0 +1,116 @@
+package com.cos.fairbid.bid.adapter.out.stream;
+
+import com.cos.fairbid.bid.adapter.out.stream.BidStreamPayload.InstantBuyUpdate;
+import com.cos.fairbid.bid.domain.Bid;
+import com.cos.fairbid.bid.domain.BidType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BidStreamPayload compact 형식 인코딩/디코딩 왕복 검증
+ */
+class BidStreamPayloadTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 14, 15, 9, 26, 535_000_000);
+
+    @Test
+    @DisplayName("입찰 저장 메시지는 모든 입찰 유형에서 원래 값으로 복원된다")
+    void bidSaveRoundTrip() {
+        for (BidType bidType : BidType.values()) {
+            Bid bid = bid(bidType);
+
+            String payload = BidStreamPayload.encodeBidSave(bid);
+            Bid decoded = BidStreamPayload.decodeBidSave(payload);
+
+            assertThat(BidStreamPayload.kindOf(payload)).isEqualTo(BidStreamPayload.KIND_BID_SAVE);
+            assertThat(BidStreamPayload.auctionIdOf(payload)).isEqualTo(1001L);
+            assertThat(decoded.getAuctionId()).isEqualTo(1001L);
+            assertThat(decoded.getBidderId()).isEqualTo(2002L);
+            assertThat(decoded.getAmount()).isEqualTo(150_000L);
+            assertThat(decoded.getBidType()).isEqualTo(bidType);
+            assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT);
+            assertThat(BidStreamPayload.publishedAtMsOf(payload)).isNull();
+            assertThat(BidStreamPayload.dedupeKeyOf(payload)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("입찰 시각은 밀리초 단위로 보존된다")
+    void bidSaveTruncatesToMillis() {
+        Bid bid = Bid.reconstitute()
+                .auctionId(1L)
+                .bidderId(2L)
+                .amount(3L)
+                .bidType(BidType.DIRECT)
+                .createdAt(CREATED_AT.plusNanos(123_456))
+                .build();
+
+        Bid decoded = BidStreamPayload.decodeBidSave(BidStreamPayload.encodeBidSave(bid));
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT.truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("발행 정보가 붙은 입찰 저장 메시지는 입찰 값과 발행 시각, 멱등 키를 모두 복원한다")
+    void bidSaveWithPublishInfoRoundTrip() {
+        String payload = BidStreamPayload.encodeBidSave(bid(BidType.PROXY), 1_773_468_566_600L, "3f2b9c0d4e5a6b7c");
+        Bid decoded = BidStreamPayload.decodeBidSave(payload);
+
+        assertThat(decoded.getAmount()).isEqualTo(150_000L);
+        assertThat(decoded.getBidType()).isEqualTo(BidType.PROXY);
+        assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(BidStreamPayload.auctionIdOf(payload)).isEqualTo(1001L);
+        assertThat(BidStreamPayload.publishedAtMsOf(payload)).isEqualTo(1_773_468_566_600L);
+        assertThat(BidStreamPayload.dedupeKeyOf(payload)).isEqualTo("3f2b9c0d4e5a6b7c");
+    }
+
+    @Test
+    @DisplayName("즉시 구매 활성화 메시지는 발행 시각 유무와 관계없이 원래 값으로 복원된다")
+    void instantBuyUpdateRoundTrip() {
+        InstantBuyUpdate expected = new InstantBuyUpdate(
+                1001L, 500_000L, 37, 10_000L, 2002L, 1_773_468_566_535L, 1_773_468_866_535L);
+
+        String payload = BidStreamPayload.encodeInstantBuyUpdate(
+                1001L, 500_000L, 37, 10_000L, 2002L, 1_773_468_566_535L, 1_773_468_866_535L);
+        String published = BidStreamPayload.encodeInstantBuyUpdate(
+                1001L, 500_000L, 37, 10_000L, 2002L, 1_773_468_566_535L, 1_773_468_866_535L, 1_773_468_566_600L);
+
+        assertThat(BidStreamPayload.kindOf(payload)).isEqualTo(BidStreamPayload.KIND_INSTANT_BUY_UPDATE);
+        assertThat(BidStreamPayload.decodeInstantBuyUpdate(payload)).isEqualTo(expected);
+        assertThat(BidStreamPayload.publishedAtMsOf(payload)).isNull();
+
+        assertThat(BidStreamPayload.auctionIdOf(published)).isEqualTo(1001L);
+        assertThat(BidStreamPayload.decodeInstantBuyUpdate(published)).isEqualTo(expected);
+        assertThat(BidStreamPayload.publishedAtMsOf(published)).isEqualTo(1_773_468_566_600L);
+        assertThat(BidStreamPayload.dedupeKeyOf(published)).isNull();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전이나 필드 수가 맞지 않는 메시지는 거부한다")
+    void rejectsMalformedPayload() {
+        assertThatThrownBy(() -> BidStreamPayload.kindOf("2|B|1|2|3|1|0"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BidStreamPayload.decodeBidSave("1|B|1|2|3|1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BidStreamPayload.decodeBidSave("1|B|1|2|3|9|0"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BidStreamPayload.decodeInstantBuyUpdate("1|I|1|2|3|4|5|6"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Bid bid(BidType bidType) {
+        return Bid.reconstitute()
+                .auctionId(1001L)
+                .bidderId(2002L)
+                .amount(150_000L)
+                .bidType(bidType)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+}
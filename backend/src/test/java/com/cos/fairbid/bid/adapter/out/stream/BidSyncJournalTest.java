@@ -0,0 +1,164 @@
+package com.cos.fairbid.bid.adapter.out.stream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BidSyncJournal 재시작 복구 검증
+ * 저널을 닫고 같은 디렉터리로 다시 열어 프로세스 재시작을 흉내 낸다.
+ */
+class BidSyncJournalTest {
+
+    private static final int RECORDS_PER_SEGMENT = 4;
+
+    @TempDir
+    Path journalDir;
+
+    private final List<BidSyncJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals() {
+        opened.forEach(BidSyncJournal::destroy);
+    }
+
+    @Test
+    @DisplayName("재시작하면 재발행하지 않은 레코드부터 기록 순서대로 이어서 읽는다")
+    void resumesPendingRecordsAfterRestart() {
+        BidSyncJournal journal = open();
+        journal.append("1|B|1|10|1000|1|1773468566535");
+        journal.append("1|B|1|11|2000|1|1773468566536");
+        journal.append("1|B|1|12|3000|1|1773468566537");
+        journal.markReplayed(journal.readPending(1).get(0));
+        journal.destroy();
+
+        BidSyncJournal restarted = open();
+
+        assertThat(restarted.hasPending()).isTrue();
+        assertThat(payloadsOf(restarted.readPending(10)))
+                .containsExactly("1|B|1|11|2000|1|1773468566536", "1|B|1|12|3000|1|1773468566537");
+    }
+
+    @Test
+    @DisplayName("재시작 후 기록은 기존 레코드 뒤에 이어 붙는다")
+    void appendsAfterExistingRecordsAfterRestart() {
+        BidSyncJournal journal = open();
+        journal.append("1|B|1|10|1000|1|1773468566535");
+        journal.destroy();
+
+        BidSyncJournal restarted = open();
+        restarted.append("1|B|1|11|2000|1|1773468566536");
+
+        assertThat(payloadsOf(restarted.readPending(10)))
+                .containsExactly("1|B|1|10|1000|1|1773468566535", "1|B|1|11|2000|1|1773468566536");
+    }
+
+    @Test
+    @DisplayName("모두 재발행한 세그먼트는 삭제되고, 재시작 시 남은 세그먼트만 복원한다")
+    void deletesReplayedSegmentsAndRestoresRemaining() throws IOException {
+        BidSyncJournal journal = open();
+        for (int i = 0; i < RECORDS_PER_SEGMENT * 2 + 1; i++) {
+            journal.append("1|B|1|" + i + "|1000|1|1773468566535");
+        }
+        assertThat(segmentFiles()).hasSize(3);
+
+        for (BidSyncJournal.Entry entry : journal.readPending(RECORDS_PER_SEGMENT + 1)) {
+            journal.markReplayed(entry);
+        }
+        assertThat(segmentFiles()).hasSize(2);
+        journal.destroy();
+
+        BidSyncJournal restarted = open();
+
+        assertThat(payloadsOf(restarted.readPending(10))).containsExactly(
+                "1|B|1|5|1000|1|1773468566535",
+                "1|B|1|6|1000|1|1773468566535",
+                "1|B|1|7|1000|1|1773468566535",
+                "1|B|1|8|1000|1|1773468566535");
+    }
+
+    @Test
+    @DisplayName("CRC가 맞지 않는 레코드는 재시작 후 건너뛰고 다시 읽지 않는다")
+    void skipsCorruptedRecordAfterRestart() throws IOException {
+        BidSyncJournal journal = open();
+        journal.append("1|B|1|10|1000|1|1773468566535");
+        journal.append("1|B|1|11|2000|1|1773468566536");
+        journal.destroy();
+
+        // 첫 레코드 payload 1바이트 손상 (헤더 7바이트 뒤)
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), 7);
+        }
+
+        BidSyncJournal restarted = open();
+
+        assertThat(payloadsOf(restarted.readPending(10))).containsExactly("1|B|1|11|2000|1|1773468566536");
+        assertThat(payloadsOf(restarted.readPending(10))).containsExactly("1|B|1|11|2000|1|1773468566536");
+    }
+
+    @Test
+    @DisplayName("비활성화하면 기록하지 않는다")
+    void disabledJournalDoesNotAppend() throws IOException {
+        BidSyncJournal journal = new BidSyncJournal(
+                new SimpleMeterRegistry(), false, false, journalDir.toString(), RECORDS_PER_SEGMENT);
+        journal.init();
+
+        assertThat(journal.append("1|B|1|10|1000|1|1773468566535")).isNull();
+        assertThat(journal.hasPending()).isFalse();
+        assertThat(segmentFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스크립트 내 발행 모드면 활성화 설정과 무관하게 기록하지 않는다")
+    void publishInScriptDisablesJournal() throws IOException {
+        BidSyncJournal journal = new BidSyncJournal(
+                new SimpleMeterRegistry(), true, true, journalDir.toString(), RECORDS_PER_SEGMENT);
+        journal.init();
+
+        assertThat(journal.isEnabled()).isFalse();
+        assertThat(journal.append("1|B|1|10|1000|1|1773468566535")).isNull();
+        assertThat(segmentFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저널 디렉터리가 상대 경로면 생성을 거부한다")
+    void rejectsRelativeJournalDir() {
+        assertThatThrownBy(() -> new BidSyncJournal(
+                new SimpleMeterRegistry(), true, false, "data/bid-sync-journal", RECORDS_PER_SEGMENT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("data/bid-sync-journal");
+    }
+
+    private BidSyncJournal open() {
+        BidSyncJournal journal = new BidSyncJournal(
+                new SimpleMeterRegistry(), true, false, journalDir.toString(), RECORDS_PER_SEGMENT);
+        journal.init();
+        opened.add(journal);
+        return journal;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static List<String> payloadsOf(List<BidSyncJournal.Entry> entries) {
+        return entries.stream().map(BidSyncJournal.Entry::payload).toList();
+    }
+}
@@ -56,6 +56,36 @@ public class BidSteps {
         testContext.setLastResponse(response);
     }
 
+    @만약("구매자가 {long}원까지 대리 입찰을 요청한다")
+    public void 구매자가_최대_금액으로_대리_입찰을_요청한다(Long maxAmount) {
+        // When: 대리 입찰 요청 (최대 금액 등록)
+        Long auctionId = testContext.getLastCreatedAuctionId();
+
+        PlaceBidRequest request = PlaceBidRequest.builder()
+                .amount(maxAmount)
+                .bidType(BidType.PROXY)
+                .build();
+
+        String url = "/api/v1/auctions/" + auctionId + "/bids";
+        ResponseEntity<Map> response = testAdapter.post(url, request, Map.class);
+        testContext.setLastResponse(response);
+    }
+
+    @만약("다른 구매자가 {long}원으로 직접 입찰을 요청한다")
+    public void 다른_구매자가_금액으로_직접_입찰을_요청한다(Long amount) {
+        // When: 다른 구매자의 금액 직접 지정 입찰 요청 (bidderId = 3)
+        Long auctionId = testContext.getLastCreatedAuctionId();
+
+        PlaceBidRequest request = PlaceBidRequest.builder()
+                .amount(amount)
+                .bidType(BidType.DIRECT)
+                .build();
+
+        String url = "/api/v1/auctions/" + auctionId + "/bids?bidderId=3";
+        ResponseEntity<Map> response = testAdapter.post(url, request, Map.class);
+        testContext.setLastResponse(response);
+    }
+
     @만약("존재하지 않는 경매에 입찰을 요청한다")
     public void 존재하지_않는_경매에_입찰을_요청한다() {
         // When: 존재하지 않는 경매 ID로 입찰 요청
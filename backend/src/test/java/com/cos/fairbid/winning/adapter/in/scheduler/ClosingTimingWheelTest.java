@@ -0,0 +1,110 @@
+package com.cos.fairbid.winning.adapter.in.scheduler;
+
+import com.cos.fairbid.winning.adapter.in.scheduler.ClosingTimingWheel.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ClosingTimingWheel 만료 시점 검증
+ * tick=100ms, 단계당 10슬롯 → 1단계 1초, 2단계 10초, 3단계 100초 범위
+ */
+class ClosingTimingWheelTest {
+
+    private static final long TICK_MS = 100;
+    private static final int WHEEL_SIZE = 10;
+
+    @Test
+    @DisplayName("슬롯 구간이 모두 지나야 만료된다")
+    void expiresOnlyAfterSlotEnds() {
+        ClosingTimingWheel wheel = new ClosingTimingWheel(TICK_MS, WHEEL_SIZE, 0);
+        wheel.add(new Entry(1L, 250));
+
+        List<Entry> expired = new ArrayList<>();
+        wheel.advance(299, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(300, expired::add);
+        assertThat(expired).extracting(Entry::auctionId).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 종료 시간은 예약하지 않는다")
+    void rejectsPastDeadline() {
+        ClosingTimingWheel wheel = new ClosingTimingWheel(TICK_MS, WHEEL_SIZE, 1_000);
+
+        assertThat(wheel.add(new Entry(1L, 999))).isFalse();
+        assertThat(wheel.add(new Entry(2L, 1_000))).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단계 경계의 종료 시간은 상위 단계에서 내려와 제때 만료된다")
+    void cascadesAtLevelBoundaries() {
+        ClosingTimingWheel wheel = new ClosingTimingWheel(TICK_MS, WHEEL_SIZE, 0);
+        // 1단계 마지막 슬롯, 2단계 첫 슬롯, 2단계 마지막 슬롯, 3단계 첫 슬롯
+        long[] deadlines = {999, 1_000, 9_999, 10_000, 10_050};
+        for (int i = 0; i < deadlines.length; i++) {
+            wheel.add(new Entry(i, deadlines[i]));
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long now = 0; now <= 11_000; now += 10) {
+            long current = now;
+            wheel.advance(now, entry -> firedAt.put(entry.auctionId(), current));
+        }
+
+        assertThat(firedAt).hasSize(deadlines.length);
+        for (int i = 0; i < deadlines.length; i++) {
+            assertThat(firedAt.get((long) i)).isEqualTo(slotEnd(deadlines[i]));
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("임의의 종료 시간과 진행 간격에서도 먼저 만료되지 않고 슬롯 종료 직후 한 번만 만료된다")
+    void neverFiresEarlyOrTwice() {
+        Random random = new Random(42);
+        long startMs = 1_234;
+        ClosingTimingWheel wheel = new ClosingTimingWheel(TICK_MS, WHEEL_SIZE, startMs);
+
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long id = 0; id < 2_000; id++) {
+            long deadline = startMs + random.nextInt(300_000);
+            deadlines.put(id, deadline);
+            assertThat(wheel.add(new Entry(id, deadline))).isTrue();
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        long previous = startMs;
+        long now = startMs;
+        while (now < startMs + 310_000) {
+            now += 1 + random.nextInt(700);
+            long current = now;
+            long before = previous;
+            wheel.advance(now, entry -> {
+                assertThat(firedAt.put(entry.auctionId(), current)).isNull();
+                long slotEnd = slotEnd(entry.deadlineMs());
+                // 슬롯 종료 전에는 만료되지 않고, 슬롯 종료를 넘긴 첫 진행에서 만료된다
+                assertThat(current).isGreaterThanOrEqualTo(slotEnd);
+                assertThat(before).isLessThan(slotEnd);
+            });
+            previous = now;
+        }
+
+        assertThat(firedAt).hasSize(deadlines.size());
+        assertThat(wheel.size()).isZero();
+    }
+
+    private static long slotEnd(long deadlineMs) {
+        return deadlineMs - Math.floorMod(deadlineMs, TICK_MS) + TICK_MS;
+    }
+}
@@ -1,7 +1,7 @@
 # language: ko
 기능: 입찰
   구매자는 진행 중인 경매에 입찰할 수 있다.
-  입찰 방식은 원터치 입찰과 금액 직접 지정 방식이 있다.
+  입찰 방식은 원터치 입찰, 금액 직접 지정, 대리 입찰 방식이 있다.
 
   배경:
     조건 서버가 실행중이다
@@ -36,6 +36,27 @@
     그리고 응답 본문의 "bidType" 값은 "DIRECT"이다
     그리고 응답 본문의 "amount" 값은 550000이다
 
+  시나리오: 대리 입찰이 경쟁 입찰에 한 단위 위로 자동 응찰
+    조건 판매자가 아래와 같은 경매 정보를 입력한다
+      | title           | 갤럭시 S24 울트라             |
+      | description     | 자급제 미개봉                 |
+      | category        | ELECTRONICS                |
+      | startPrice      | 500000                     |
+      | instantBuyPrice | 900000                     |
+      | duration        | HOURS_24                   |
+    그리고 경매 등록을 요청한다
+    그리고 응답 상태 코드는 201이다
+    만약 구매자가 600000원까지 대리 입찰을 요청한다
+    그러면 응답 상태 코드는 201이다
+    그리고 응답 본문의 "bidType" 값은 "PROXY"이다
+    그리고 응답 본문의 "amount" 값은 510000이다
+    만약 다른 구매자가 550000원으로 직접 입찰을 요청한다
+    그러면 응답 상태 코드는 201이다
+    그리고 응답 본문의 "amount" 값은 550000이다
+    만약 등록된 경매의 상세 정보를 조회한다
+    그러면 응답 상태 코드는 200이다
+    그리고 응답 본문의 "currentPrice" 값은 560000이다
+
   시나리오: 최소 입찰 금액 미만으로 입찰 시 400 반환
     조건 판매자가 아래와 같은 경매 정보를 입력한다
       | title           | 에어팟 프로 2               |
@@ -0,0 +1,82 @@
+package com.cos.fairbid.auction.adapter.out.cache;
+
+import com.cos.fairbid.auction.domain.Auction;
+import com.cos.fairbid.auction.domain.AuctionStatus;
+import com.cos.fairbid.auction.domain.Category;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 캐시 변환 벤치마크
+ *
+ * RedisAuctionCacheAdapter의 Auction ↔ Redis Hash 변환 비용을 측정한다.
+ * - toHotMap / toMetaMap: saveToCache 시 직렬화
+ * - mapToAuction: findById 시 hot + meta 병합 Map 파싱 (상세 조회마다 수행)
+ *
+ * descriptionLength로 설명(TEXT) 길이에 따른 차이를 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuctionCacheMappingBenchmark {
+
+    @Param({"0", "1024", "16384"})
+    private int descriptionLength;
+
+    private RedisAuctionCacheAdapter adapter;
+    private Auction auction;
+    private Map<Object, Object> cachedHash;
+
+    @Setup
+    public void setUp() {
+        // Redis를 사용하지 않는 변환 메서드만 호출하므로 의존성은 null
+        adapter = new RedisAuctionCacheAdapter(null, null);
+
+        LocalDateTime now = LocalDateTime.now();
+        auction = Auction.builder()
+                .id(19L)
+                .sellerId(1L)
+                .title("벤치마크 경매")
+                .description("가".repeat(descriptionLength))
+                .category(Category.ELECTRONICS)
+                .startPrice(10_000L)
+                .currentPrice(125_000L)
+                .instantBuyPrice(1_000_000L)
+                .bidIncrement(5_000L)
+                .scheduledEndTime(now.plusHours(24))
+                .extensionCount(2)
+                .totalBidCount(37)
+                .status(AuctionStatus.BIDDING)
+                .imageUrls(List.of("https://cdn.example.com/a.jpg", "https://cdn.example.com/b.jpg"))
+                .createdAt(now)
+                .updatedAt(now)
+                .topBidderId(7L)
+                .topBidAmount(125_000L)
+                .secondBidderId(8L)
+                .secondBidAmount(120_000L)
+                .build();
+
+        cachedHash = new HashMap<>(adapter.auctionToHotMap(auction));
+        cachedHash.putAll(adapter.auctionToMetaMap(auction));
+    }
+
+    @Benchmark
+    public Map<String, String> toHotMap() {
+        return adapter.auctionToHotMap(auction);
+    }
+
+    @Benchmark
+    public Map<String, String> toMetaMap() {
+        return adapter.auctionToMetaMap(auction);
+    }
+
+    @Benchmark
+    public Auction mapToAuction() {
+        return adapter.mapToAuction(19L, cachedHash);
+    }
+}
@@ -0,0 +1,33 @@
+package com.cos.fairbid.auction.domain.policy;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입찰 단위 계산 벤치마크
+ *
+ * PriceBracket 구간 조회와 BidIncrementPolicy의 연장 할증 포함 최종 입찰 단위 계산 비용을 측정한다.
+ * price는 첫 구간부터 마지막 구간까지 선형 탐색 길이가 달라지도록 구간별 대표값을 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BidIncrementBenchmark {
+
+    @Param({"5000", "75000", "750000", "5000000"})
+    private long price;
+
+    @Param({"0", "7"})
+    private int extensionCount;
+
+    @Benchmark
+    public Long priceBracketIncrement() {
+        return PriceBracket.getIncrementForPrice(price);
+    }
+
+    @Benchmark
+    public Long finalIncrement() {
+        return BidIncrementPolicy.calculateFinalIncrement(price, extensionCount);
+    }
+}
@@ -0,0 +1,57 @@
+package com.cos.fairbid.bid.adapter.out.cache;
+
+import com.cos.fairbid.bid.application.port.out.BidCachePort.BidResult;
+import com.cos.fairbid.common.exception.DomainException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bid.lua 결과 파싱 벤치마크
+ *
+ * RedisBidCacheAdapter.toBidResult의 성공 결과 변환과 거절(BID_TOO_LOW) 예외 변환 비용을 측정한다.
+ * 거절 경로는 경합 시 대부분의 요청이 지나가므로 예외 생성 비용이 그대로 드러난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BidResultParsingBenchmark {
+
+    private RedisBidCacheAdapter adapter;
+    private List<Object> successResult;
+    private List<Object> proxyResult;
+    private List<Object> tooLowResult;
+
+    @Setup
+    public void setUp() {
+        // 결과 파싱만 호출하므로 Redis 템플릿은 null, 합류기는 비활성화
+        adapter = new RedisBidCacheAdapter(null, null, new SimpleMeterRegistry(), true, true, false, false, 200, 64, false);
+
+        successResult = List.of(1L, 130_000L, 38L, 5_000L, 0L, 2L, 1_760_000_000_000L, 0L,
+                "1760000000000-0", "", 130_000L, 7L, "", 0L, "", "", 0L);
+        proxyResult = List.of(1L, 135_000L, 40L, 5_000L, 1L, 3L, 1_760_000_300_000L, 0L,
+                "1760000000000-1", "", 130_000L, 8L, 8L, 135_000L, "1760000000000-2", "8", 150_000L);
+        tooLowResult = List.of(0L, "BID_TOO_LOW", 130_000L, 135_000L);
+    }
+
+    @Benchmark
+    public BidResult parseSuccess() {
+        return adapter.toBidResult(19L, 130_000L, 7L, successResult);
+    }
+
+    @Benchmark
+    public BidResult parseProxyAutoBid() {
+        return adapter.toBidResult(19L, 130_000L, 7L, proxyResult);
+    }
+
+    @Benchmark
+    public Object parseRejection() {
+        try {
+            return adapter.toBidResult(19L, 100_000L, 7L, tooLowResult);
+        } catch (DomainException e) {
+            return e;
+        }
+    }
+}
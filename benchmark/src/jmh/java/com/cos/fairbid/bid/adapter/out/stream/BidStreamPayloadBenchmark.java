@@ -0,0 +1,68 @@
+package com.cos.fairbid.bid.adapter.out.stream;
+
+import com.cos.fairbid.bid.domain.Bid;
+import com.cos.fairbid.bid.domain.BidType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입찰 동기화 메시지 디코딩 벤치마크
+ *
+ * 레거시 필드별 형식(Long.parseLong + LocalDateTime.parse)과 compact 형식(BidStreamPayload)의
+ * BID_SAVE 메시지 → Bid 복원 비용을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BidStreamPayloadBenchmark {
+
+    private Map<String, String> legacyBody;
+    private String compactPayload;
+
+    @Setup
+    public void setUp() {
+        Bid bid = Bid.reconstitute()
+                .auctionId(19L)
+                .bidderId(7L)
+                .amount(130_000L)
+                .bidType(BidType.ONE_TOUCH)
+                .createdAt(LocalDateTime.of(2026, 10, 17, 12, 30, 15, 123_000_000))
+                .build();
+
+        legacyBody = new HashMap<>();
+        legacyBody.put("type", "BID_SAVE");
+        legacyBody.put("auctionId", String.valueOf(bid.getAuctionId()));
+        legacyBody.put("bidderId", String.valueOf(bid.getBidderId()));
+        legacyBody.put("amount", String.valueOf(bid.getAmount()));
+        legacyBody.put("bidType", bid.getBidType().name());
+        legacyBody.put("createdAt", bid.getCreatedAt().toString());
+
+        compactPayload = BidStreamPayload.encodeBidSave(bid);
+    }
+
+    @Benchmark
+    public Bid decodeLegacy() {
+        // BidStreamMessageHandler의 레거시 형식 파싱과 동일
+        return Bid.reconstitute()
+                .auctionId(Long.parseLong(legacyBody.get("auctionId")))
+                .bidderId(Long.parseLong(legacyBody.get("bidderId")))
+                .amount(Long.parseLong(legacyBody.get("amount")))
+                .bidType(BidType.valueOf(legacyBody.get("bidType")))
+                .createdAt(LocalDateTime.parse(legacyBody.get("createdAt")))
+                .build();
+    }
+
+    @Benchmark
+    public Bid decodeCompact() {
+        return BidStreamPayload.decodeBidSave(compactPayload);
+    }
+
+    @Benchmark
+    public String encodeCompact() {
+        return BidStreamPayload.encodeBidSave(BidStreamPayload.decodeBidSave(compactPayload));
+    }
+}
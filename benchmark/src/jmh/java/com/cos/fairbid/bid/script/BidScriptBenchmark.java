@@ -0,0 +1,169 @@
+package com.cos.fairbid.bid.script;
+
+import com.cos.fairbid.common.redis.AuctionRedisKeys;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bid.lua 처리량 벤치마크 (로컬 redis-server 필요)
+ *
+ * backend의 scripts/bid.lua를 EVALSHA로 실행하여 Redis 왕복을 포함한 입찰 1회(또는 배치 1회) 비용을 측정한다.
+ * - paddingBytes: hot 해시에 섞인 큰 필드 크기 (hot/meta 분리 이전처럼 설명이 같은 해시에 있는 경우 재현)
+ * - batchSize: 한 번의 EVALSHA로 처리하는 입찰 수 (입찰 합류기 배치)
+ * - publishInScript: 스크립트 안에서 RDB 동기화 스트림 XADD 여부
+ * - publishInvalidation: near-cache 무효화 알림 PUBLISH 여부 (ARGV[1], 앱 기본값은 near-cache 비활성화라 false)
+ *
+ * 대상 Redis: -Dbenchmark.redis.uri (기본 redis://localhost:6379/15, 앱이 쓰지 않는 전용 DB)
+ * 전용 경매 ID를 사용하며 종료 시 관련 키를 삭제하고, 버킷 공용 입찰 카운터(bid:count:{b})는 시작 전 값으로 되돌린다.
+ * Pub/Sub 채널은 DB와 무관하게 공유되므로 스크립트의 무효화/종료 예약 채널을 benchmark: 접두사 채널로 바꿔 로드한다
+ * (같은 Redis를 쓰는 앱 인스턴스의 near-cache/종료 휠에 벤치마크 메시지가 전달되지 않도록).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BidScriptBenchmark {
+
+    private static final long AUCTION_ID = 900_000_019L;
+    private static final String STREAM_KEY = "stream:bid-benchmark";
+    private static final String DEFAULT_REDIS_URI = "redis://localhost:6379/15";
+    /** 스크립트 채널 → 벤치마크 전용 채널 */
+    private static final Map<String, String> CHANNEL_OVERRIDES = Map.of(
+            "'" + AuctionRedisKeys.INVALIDATION_CHANNEL + "'", "'benchmark:" + AuctionRedisKeys.INVALIDATION_CHANNEL + "'",
+            "'" + AuctionRedisKeys.CLOSING_SCHEDULE_CHANNEL + "'", "'benchmark:" + AuctionRedisKeys.CLOSING_SCHEDULE_CHANNEL + "'"
+    );
+
+    @Param({"0", "4096", "65536"})
+    private int paddingBytes;
+
+    @Param({"1", "8"})
+    private int batchSize;
+
+    @Param({"false", "true"})
+    private boolean publishInScript;
+
+    @Param({"false", "true"})
+    private boolean publishInvalidation;
+
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+    private RedisCommands<String, String> commands;
+    private String scriptSha;
+    private String[] keys;
+    private long sequence;
+    /** 시작 전 입찰 카운터 값 (없었으면 null) */
+    private String bidCountSnapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        client = RedisClient.create(System.getProperty("benchmark.redis.uri", DEFAULT_REDIS_URI));
+        connection = client.connect();
+        commands = connection.sync();
+        scriptSha = commands.scriptLoad(loadScript());
+
+        String auctionKey = AuctionRedisKeys.auctionKey(AUCTION_ID);
+        String closingQueueKey = AuctionRedisKeys.closingQueueKey(AUCTION_ID);
+        String bidCountKey = AuctionRedisKeys.bidCountKey(AUCTION_ID);
+        String changedAuctionsKey = AuctionRedisKeys.changedAuctionsKey(AUCTION_ID);
+        keys = publishInScript
+                ? new String[]{auctionKey, closingQueueKey, bidCountKey, changedAuctionsKey, STREAM_KEY}
+                : new String[]{auctionKey, closingQueueKey, bidCountKey, changedAuctionsKey};
+
+        bidCountSnapshot = commands.get(bidCountKey);
+        cleanUp();
+        Map<String, String> hot = new HashMap<>();
+        hot.put("sellerId", "1");
+        hot.put("currentPrice", "10000");
+        hot.put("instantBuyPrice", "0");
+        hot.put("bidIncrement", "500");
+        // 연장 구간에 들어가지 않도록 충분히 먼 종료 시간
+        hot.put("scheduledEndTimeMs", String.valueOf(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)));
+        hot.put("extensionCount", "0");
+        hot.put("totalBidCount", "0");
+        hot.put("status", "BIDDING");
+        hot.put("instantBuyerId", "");
+        hot.put("instantBuyActivatedTimeMs", "");
+        hot.put("topBidderId", "");
+        hot.put("topBidAmount", "");
+        hot.put("secondBidderId", "");
+        hot.put("secondBidAmount", "");
+        if (paddingBytes > 0) {
+            hot.put("description", "x".repeat(paddingBytes));
+        }
+        commands.hset(auctionKey, hot);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cleanUp();
+        restoreBidCount();
+        connection.close();
+        client.shutdown();
+    }
+
+    /**
+     * ONE_TOUCH 입찰 batchSize건을 EVALSHA 1회로 처리 (자기 입찰 방지를 위해 입찰자 2, 3 교대)
+     */
+    @Benchmark
+    public List<Object> placeBids() {
+        long now = System.currentTimeMillis();
+        String createdAt = LocalDateTime.now().toString();
+        List<String> args = new ArrayList<>(1 + batchSize * 5);
+        args.add(publishInvalidation ? "1" : "0");
+        for (int i = 0; i < batchSize; i++) {
+            args.add("0");
+            args.add((sequence++ & 1) == 0 ? "2" : "3");
+            args.add("ONE_TOUCH");
+            args.add(String.valueOf(now));
+            args.add(createdAt);
+        }
+        return commands.evalsha(scriptSha, ScriptOutputType.MULTI, keys, args.toArray(new String[0]));
+    }
+
+    private void cleanUp() {
+        commands.del(AuctionRedisKeys.auctionKey(AUCTION_ID), AuctionRedisKeys.metaKey(AUCTION_ID), STREAM_KEY);
+        commands.zrem(AuctionRedisKeys.closingQueueKey(AUCTION_ID), String.valueOf(AUCTION_ID));
+        commands.zrem(AuctionRedisKeys.changedAuctionsKey(AUCTION_ID), String.valueOf(AUCTION_ID));
+    }
+
+    /**
+     * 벤치마크 입찰로 늘어난 버킷 공용 입찰 카운터를 시작 전 값으로 되돌린다
+     */
+    private void restoreBidCount() {
+        String bidCountKey = AuctionRedisKeys.bidCountKey(AUCTION_ID);
+        if (bidCountSnapshot == null) {
+            commands.del(bidCountKey);
+        } else {
+            commands.set(bidCountKey, bidCountSnapshot);
+        }
+    }
+
+    private String loadScript() throws IOException {
+        String script;
+        try (InputStream in = BidScriptBenchmark.class.getClassLoader().getResourceAsStream("scripts/bid.lua")) {
+            if (in == null) {
+                throw new IllegalStateException("scripts/bid.lua를 찾을 수 없습니다 (backend 모듈 의존성 확인)");
+            }
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        for (Map.Entry<String, String> override : CHANNEL_OVERRIDES.entrySet()) {
+            if (!script.contains(override.getKey())) {
+                throw new IllegalStateException("bid.lua에서 채널 " + override.getKey() + "을 찾을 수 없습니다 (벤치마크 채널 치환 확인)");
+            }
+            script = script.replace(override.getKey(), override.getValue());
+        }
+        return script;
+    }
+}
@@ -0,0 +1,49 @@
+package com.cos.fairbid.notification.dto;
+
+import com.cos.fairbid.bid.domain.event.BidPlacedEvent;
+import com.cos.fairbid.common.config.JacksonConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입찰 WebSocket 메시지 직렬화 벤치마크
+ *
+ * 입찰마다 구독자에게 브로드캐스트되는 BidUpdateMessage의 생성(from)과
+ * 애플리케이션 ObjectMapper(JacksonConfig)로의 JSON 직렬화 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BidUpdateMessageSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private BidPlacedEvent event;
+    private BidUpdateMessage message;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        event = BidPlacedEvent.of(19L, 130_000L, LocalDateTime.now().plusHours(1), false,
+                135_000L, 5_000L, 38, 7L);
+        message = BidUpdateMessage.from(event);
+    }
+
+    @Benchmark
+    public BidUpdateMessage fromEvent() {
+        return BidUpdateMessage.from(event);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public byte[] fromEventAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(BidUpdateMessage.from(event));
+    }
+}
@@ -0,0 +1,13 @@
+-- 입찰 유형 컬럼을 MySQL 네이티브 enum에서 VARCHAR(20)으로 변경
+--
+-- 대상: 대리 입찰(PROXY) 도입 이전에 ddl-auto: update로 생성된 DB
+--   Hibernate가 @Enumerated(STRING)을 enum('ONE_TOUCH','DIRECT','INSTANT_BUY')로 만들었고,
+--   ddl-auto: update는 기존 컬럼 타입을 바꾸지 않아 PROXY 입찰 INSERT가 "Data truncated for column 'bid_type'"로 실패한다.
+-- 시점: PROXY 입찰을 받는 버전을 배포하기 전 1회 (신규 DB는 이미 VARCHAR(20)이므로 불필요)
+--
+-- 확인:
+--   SELECT DATA_TYPE FROM information_schema.COLUMNS
+--    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'bid' AND COLUMN_NAME = 'bid_type';
+--   결과가 enum일 때만 아래 문장을 실행한다.
+
+ALTER TABLE bid MODIFY bid_type VARCHAR(20) NOT NULL;
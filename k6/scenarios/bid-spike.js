@@ -5,12 +5,13 @@
  * 목적: 순간적인 부하 폭증에 대한 시스템 복원력 측정
  *
  * 실행: k6 run k6/scenarios/bid-spike.js
+ *       (비동기 입찰 API: k6 run -e BID_API_VERSION=v2 k6/scenarios/bid-spike.js)
  */
 
 import http from 'k6/http';
 import { check, sleep } from 'k6';
 import { Counter, Rate, Trend } from 'k6/metrics';
-import { BASE_URL, getHeaders, randomUserId, generateBidAmount } from './config.js';
+import { BASE_URL, getHeaders, randomUserId, generateBidAmount, bidUrl } from './config.js';
 
 // 커스텀 메트릭
 const bidSuccess = new Counter('bid_success');
@@ -111,7 +112,7 @@ export default function (data) {
 
     const startTime = Date.now();
     const res = http.post(
-        `${BASE_URL}/api/v1/auctions/${auctionId}/bids`,
+        bidUrl(auctionId),
         bidPayload,
         {
             headers,
@@ -6,6 +6,8 @@
 // 환경 변수 또는 기본값
 export const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
 export const WS_URL = __ENV.WS_URL || 'ws://localhost:8080/ws';
+// 입찰 API 버전 (v1: 동기, v2: 비동기 - 예: k6 run -e BID_API_VERSION=v2 ...)
+export const BID_API_VERSION = __ENV.BID_API_VERSION || 'v1';
 
 // 테스트용 사용자 ID 범위
 export const USER_ID_START = 1;
@@ -19,6 +21,11 @@ export function getHeaders(userId) {
     };
 }
 
+// 입찰 API URL
+export function bidUrl(auctionId) {
+    return `${BASE_URL}/api/${BID_API_VERSION}/auctions/${auctionId}/bids`;
+}
+
 // 랜덤 사용자 ID 생성
 export function randomUserId() {
     return Math.floor(Math.random() * (USER_ID_END - USER_ID_START + 1)) + USER_ID_START;
@@ -25,8 +25,8 @@ REDIS_TOTAL=$(docker exec fairbid-redis-1 redis-cli KEYS "auction:*" 2>/dev/null
 
 REDIS_COUNT=0
 while IFS= read -r key; do
-    # auction:closing (Sorted Set) 건너뛰기
-    if [[ "$key" == "auction:closing" ]]; then
+    # 종료 대기 큐(auction:closing:{bucket}, Sorted Set)와 메타데이터 해시 건너뛰기
+    if [[ "$key" == auction:closing* || "$key" == *:meta ]]; then
         continue
     fi
     count=$(docker exec fairbid-redis-1 redis-cli HGET "$key" totalBidCount 2>/dev/null \
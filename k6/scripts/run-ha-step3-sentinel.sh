@@ -74,7 +74,7 @@ echo "  Baseline 측정 중... (40초)"
 sleep 40
 
 # ── 3. 경매 키 탐색 ──
-AUCTION_KEY=$($DC exec -T redis redis-cli KEYS "auction:*" 2>&1 | grep -v "closing" | head -1 | tr -d '\r\n')
+AUCTION_KEY=$($DC exec -T redis redis-cli KEYS "auction:*" 2>&1 | grep -v -e "closing" -e ":meta" | head -1 | tr -d '\r\n')
 echo "  경매 키: ${AUCTION_KEY}"
 
 # ── 4. Redis 장애 시뮬레이션 ──
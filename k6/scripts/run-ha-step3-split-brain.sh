@@ -51,7 +51,7 @@ echo " [0~40초] Baseline 측정 중..."
 sleep 40
 
 # 3. 경매 키 확인
-AUCTION_KEY=$($DC exec -T redis redis-cli KEYS "auction:*" 2>&1 | grep -v "closing" | head -1 | tr -d '\r\n')
+AUCTION_KEY=$($DC exec -T redis redis-cli KEYS "auction:*" 2>&1 | grep -v -e "closing" -e ":meta" | head -1 | tr -d '\r\n')
 if [ -z "$AUCTION_KEY" ]; then
     echo " 경매 키가 없음. k6 부하가 정상 실행되었는지 확인 필요."
     exit 1
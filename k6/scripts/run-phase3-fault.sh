@@ -119,7 +119,7 @@ while true; do
     REDIS_COUNT=0
     REDIS_KEYS=$(docker exec fairbid-redis-1 redis-cli KEYS "auction:*" 2>/dev/null)
     while IFS= read -r key; do
-        if [[ -z "$key" || "$key" == "auction:closing" ]]; then
+        if [[ -z "$key" || "$key" == auction:closing* || "$key" == *:meta ]]; then
             continue
         fi
         count=$(docker exec fairbid-redis-1 redis-cli HGET "$key" totalBidCount 2>/dev/null)